@@ -0,0 +1,102 @@
+package com.cu2mber.eventservice.benchmark;
+
+import com.cu2mber.eventservice.category.cache.CategoryDictionary;
+import com.cu2mber.eventservice.category.domain.Category;
+import com.cu2mber.eventservice.category.repository.CategoryRepository;
+import com.cu2mber.eventservice.event.cache.EventCountCache;
+import com.cu2mber.eventservice.event.domain.Event;
+import com.cu2mber.eventservice.event.repository.EventRepository;
+import com.cu2mber.eventservice.localgov.domain.LocalGov;
+import com.cu2mber.eventservice.localgov.repository.LocalGovRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code BenchmarkFixtures}는 벤치마크에서 공통으로 사용하는 행사 데이터 생성 도우미입니다.
+ */
+final class BenchmarkFixtures {
+
+    static final String[] TITLES = {
+            "진주유등축제", "서울 불꽃축제", "고메 잇 강남 서울야장", "보령머드축제", "함평나비대축제",
+            "안동국제탈춤페스티벌", "화천산천어축제", "부산국제영화제", "전주비빔밥축제", "강릉단오제"
+    };
+
+    static final String DESCRIPTION = "남강 위에 수만 개의 유등을 띄워 가을 밤을 밝히는 대표 축제로, "
+            + "전통 공연과 체험 프로그램, 지역 먹거리 장터가 함께 열립니다. ".repeat(8);
+
+    private static final int CATEGORY_COUNT = 10;
+    private static final int LOCAL_GOV_COUNT = 20;
+    private static final int BATCH_SIZE = 1_000;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 지자체·카테고리를 만든 뒤 행사를 {@value #BATCH_SIZE}건씩 트랜잭션을 나누어 적재하고,
+     * 적재 결과가 반영되도록 사전과 개수 캐시를 갱신합니다.
+     *
+     * @param context    벤치마크용 애플리케이션 컨텍스트
+     * @param eventCount 적재할 행사 수
+     * @return 첫 번째 카테고리 번호
+     */
+    static long seed(ApplicationContext context, int eventCount) {
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+
+        List<LocalGov> localGovs = new ArrayList<>();
+        for (int i = 0; i < LOCAL_GOV_COUNT; i++) {
+            localGovs.add(new LocalGov("행정구역" + i, "지역" + i));
+        }
+        List<LocalGov> savedLocalGovs = context.getBean(LocalGovRepository.class).saveAll(localGovs);
+
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            categories.add(new Category("카테고리" + i));
+        }
+        List<Category> savedCategories = context.getBean(CategoryRepository.class).saveAll(categories);
+
+        for (int from = 0; from < eventCount; from += BATCH_SIZE) {
+            int start = from;
+            int end = Math.min(from + BATCH_SIZE, eventCount);
+
+            tx.executeWithoutResult(status -> {
+                List<Event> batch = new ArrayList<>(end - start);
+
+                for (int seq = start; seq < end; seq++) {
+                    batch.add(newEvent(savedLocalGovs.get(seq % LOCAL_GOV_COUNT), savedCategories.get(seq % CATEGORY_COUNT), seq));
+                }
+                eventRepository.saveAll(batch);
+            });
+        }
+
+        context.getBean(CategoryDictionary.class).refresh();
+        context.getBean(EventCountCache.class).refresh();
+
+        return savedCategories.getFirst().getCategoryNo();
+    }
+
+    /**
+     * 데이터베이스에 저장하지 않는 행사 엔티티를 공개 생성자로 생성합니다. 매핑·직렬화 벤치마크용입니다.
+     * 식별자는 저장 시점에 부여되므로 비어 있으며, 응답의 번호 필드는 {@code null}로 매핑됩니다.
+     */
+    static Event detachedEvent(long seq) {
+        return newEvent(new LocalGov("경상남도", "진주시"), new Category("문화관광"), seq);
+    }
+
+    static Event newEvent(LocalGov localGov, Category category, long seq) {
+        LocalDate start = LocalDate.of(2025, 1, 1).plusDays(seq % 365);
+
+        return new Event(localGov, category, TITLES[(int) (seq % TITLES.length)] + " " + seq, "경상남도 진주시 남강로 " + seq,
+                start, start.plusDays(seq % 14),
+                LocalTime.of(10, 0), LocalTime.of(22, 0),
+                "https://example.com/events/" + seq, "남강둔치", "진주시청", "055-749-2114",
+                DESCRIPTION,
+                "https://www.mcst.go.kr/attachFiles/cultureInfoCourt/localFestival/notifyFestival/1764288589620.jpg");
+    }
+}
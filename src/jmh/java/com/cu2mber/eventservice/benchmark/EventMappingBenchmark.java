@@ -0,0 +1,46 @@
+package com.cu2mber.eventservice.benchmark;
+
+import com.cu2mber.eventservice.event.domain.Event;
+import com.cu2mber.eventservice.event.dto.EventDetailResponse;
+import com.cu2mber.eventservice.event.dto.EventListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code EventMappingBenchmark}는 엔티티 → 응답 DTO 변환 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMappingBenchmark {
+
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        event = BenchmarkFixtures.detachedEvent(1L);
+    }
+
+    @Benchmark
+    public EventListResponse listResponseFrom() {
+        return EventListResponse.from(event);
+    }
+
+    @Benchmark
+    public EventDetailResponse detailResponseFrom() {
+        return EventDetailResponse.from(event);
+    }
+}
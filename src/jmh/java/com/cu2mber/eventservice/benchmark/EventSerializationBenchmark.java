@@ -0,0 +1,73 @@
+package com.cu2mber.eventservice.benchmark;
+
+import com.cu2mber.eventservice.event.dto.EventDetailResponse;
+import com.cu2mber.eventservice.event.dto.EventListResponse;
+import com.cu2mber.eventservice.global.config.JacksonConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * {@code EventSerializationBenchmark}는 목록·상세 응답의 Jackson JSON 직렬화 비용을 측정합니다.
+ *
+ * <p>
+ *     {@link ObjectMapper}는 Spring Boot와 같은 방식({@link Jackson2ObjectMapperBuilder})으로 생성하고,
+ *     {@link JacksonConfig}의 기본 필터를 함께 등록합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<EventListResponse> page;
+    private EventDetailResponse detail;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().filters(JacksonConfig.defaultFilters()).build();
+
+        List<EventListResponse> content = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(BenchmarkFixtures::detachedEvent)
+                .map(EventListResponse::from)
+                .toList();
+
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 100_000);
+        detail = EventDetailResponse.from(BenchmarkFixtures.detachedEvent(1L));
+    }
+
+    @Benchmark
+    public byte[] serializeListPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+}
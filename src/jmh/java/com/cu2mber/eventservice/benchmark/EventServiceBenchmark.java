@@ -0,0 +1,119 @@
+package com.cu2mber.eventservice.benchmark;
+
+import com.cu2mber.eventservice.EventServiceApplication;
+import com.cu2mber.eventservice.event.dto.EventCursorResponse;
+import com.cu2mber.eventservice.event.dto.EventDetailResponse;
+import com.cu2mber.eventservice.event.dto.EventListResponse;
+import com.cu2mber.eventservice.event.dto.EventSliceResponse;
+import com.cu2mber.eventservice.event.service.EventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code EventServiceBenchmark}는 10만 건의 행사가 적재된 H2 DB를 대상으로
+ * {@link EventService}의 목록·검색·상세 조회 비용을 측정합니다.
+ *
+ * <p>
+ *     트라이얼마다 {@code benchmark} 프로파일로 애플리케이션 컨텍스트(웹 서버 제외)를 띄우고 데이터를 적재합니다.
+ *     OFFSET 목록은 {@code page} 파라미터로 얕은/깊은 페이지를 비교하고,
+ *     커서·Slice 조회는 같은 깊이에서의 비용 차이를 확인하는 용도로 함께 측정합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventServiceBenchmark {
+
+    private static final int EVENT_COUNT = 100_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "500"})
+    private int page;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private long firstCategoryNo;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // application.properties의 spring.profiles.active=prod보다 우선하도록 명령행 인자로 프로파일을 지정합니다.
+        context = new SpringApplicationBuilder(EventServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=benchmark");
+
+        firstCategoryNo = BenchmarkFixtures.seed(context, EVENT_COUNT);
+
+        eventService = context.getBean(EventService.class);
+        deepCursor = cursorAt(page);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<EventListResponse> getAllEvents() {
+        return eventService.getAllEvents(PageRequest.of(page, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public EventSliceResponse getAllEventsSlice() {
+        return eventService.getAllEventsSlice(PageRequest.of(page, PAGE_SIZE), false);
+    }
+
+    @Benchmark
+    public EventCursorResponse getAllEventsByCursor() {
+        return eventService.getAllEventsByCursor(deepCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Page<EventListResponse> getEventsByCategory() {
+        return eventService.getEventsByCategory(firstCategoryNo, PageRequest.of(page, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<EventListResponse> searchEventsByTitle() {
+        return eventService.searchEventsByTitle("유등축제", PageRequest.of(page, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public EventDetailResponse getEventDetail() {
+        return eventService.getEventDetail(ThreadLocalRandom.current().nextLong(1, EVENT_COUNT + 1));
+    }
+
+    /**
+     * OFFSET 벤치마크와 같은 깊이에서 시작하는 커서를 만듭니다.
+     */
+    private String cursorAt(int targetPage) {
+        String cursor = null;
+
+        for (int i = 0; i < targetPage; i++) {
+            cursor = eventService.getAllEventsByCursor(cursor, PAGE_SIZE).nextCursor();
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,98 @@
+package com.cu2mber.eventservice.benchmark;
+
+import com.cu2mber.eventservice.EventServiceApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code RequestThreadingBenchmark}는 플랫폼 스레드와 가상 스레드 요청 처리 모드의 처리량을 비교하는 부하 벤치마크입니다.
+ *
+ * <p>
+ *     {@code virtualThreads} 파라미터마다 내장 Tomcat을 임의 포트로 띄우고,
+ *     {@value #CLIENTS}개의 JMH 스레드가 동시에 목록·상세 API를 호출합니다.
+ *     Tomcat 작업 스레드 수를 클라이언트 수보다 작게 제한하여 플랫폼 스레드 풀이 포화되는 상황을 재현합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(RequestThreadingBenchmark.CLIENTS)
+@Fork(1)
+public class RequestThreadingBenchmark {
+
+    static final int CLIENTS = 128;
+
+    private static final int EVENT_COUNT = 10_000;
+    private static final int TOMCAT_MAX_THREADS = 32;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // application.properties의 spring.profiles.active=prod보다 우선하도록 명령행 인자로 프로파일을 지정합니다.
+        context = new SpringApplicationBuilder(EventServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "event.concurrency.max-concurrent-requests=" + CLIENTS)
+                .run("--spring.profiles.active=benchmark");
+
+        BenchmarkFixtures.seed(context, EVENT_COUNT);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int listPage() throws IOException, InterruptedException {
+        return get("/api/events?page=" + ThreadLocalRandom.current().nextInt(50) + "&size=20");
+    }
+
+    @Benchmark
+    public int eventDetail() throws IOException, InterruptedException {
+        return get("/api/events/" + ThreadLocalRandom.current().nextLong(1, EVENT_COUNT + 1));
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
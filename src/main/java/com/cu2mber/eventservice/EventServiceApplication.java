@@ -2,11 +2,22 @@ package com.cu2mber.eventservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+import java.util.TimeZone;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class EventServiceApplication {
 
+    /**
+     * 애플리케이션이 사용하는 시간대입니다. DB 세션 시간대({@code spring.datasource.hikari.connection-init-sql})와 같아야
+     * JVM이 채운 일시({@code @CreationTimestamp}, {@code @UpdateTimestamp})와 DB가 채운 일시가 같은 기준을 가집니다.
+     */
+    static final String TIME_ZONE = "Asia/Seoul";
+
     public static void main(String[] args) {
+        TimeZone.setDefault(TimeZone.getTimeZone(TIME_ZONE));
         SpringApplication.run(EventServiceApplication.class, args);
     }
 
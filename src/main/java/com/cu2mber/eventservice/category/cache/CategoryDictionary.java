@@ -0,0 +1,125 @@
+package com.cu2mber.eventservice.category.cache;
+
+import com.cu2mber.eventservice.category.dto.CategoryResponse;
+import com.cu2mber.eventservice.category.repository.CategoryRepository;
+import com.cu2mber.eventservice.global.util.LongKeyedMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * {@code CategoryDictionary}는 행사 카테고리 전체를 메모리에 보관하는 불변 사전입니다.
+ *
+ * <p>
+ *     카테고리 테이블은 수십 건 이하로 거의 변경되지 않으므로, 시작 시 한 번 적재한 뒤
+ *     {@code event.dictionary.refresh-interval} 주기 또는 {@link #refresh()} 호출 시에만 다시 읽습니다.
+ *     조회는 스냅샷 참조만 읽으므로 락과 데이터베이스 I/O가 없습니다.
+ * </p>
+ *
+ * <p>
+ *     스냅샷마다 내용 기반 버전(CRC32)을 계산하여 카테고리 목록 API의 ETag로 사용합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryDictionary {
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 카테고리 테이블을 다시 읽어 사전을 교체합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${event.dictionary.refresh-interval:PT10M}",
+            fixedDelayString = "${event.dictionary.refresh-interval:PT10M}")
+    public void refresh() {
+        List<CategoryResponse> categories = categoryRepository.findAll().stream()
+                .map(CategoryResponse::from)
+                .sorted(Comparator.comparing(CategoryResponse::categoryNo))
+                .toList();
+
+        Map<String, CategoryResponse> byName = categories.stream()
+                .collect(Collectors.toUnmodifiableMap(CategoryResponse::categoryName, Function.identity(), (first, second) -> first));
+
+        snapshot = new Snapshot(categories, LongKeyedMap.of(categories, CategoryResponse::categoryNo), byName,
+                version(categories));
+        log.debug("[refresh] 카테고리 사전 갱신 - 카테고리 수: {}", categories.size());
+    }
+
+    /**
+     * @return 카테고리 번호 오름차순으로 정렬된 전체 카테고리 목록
+     */
+    public List<CategoryResponse> getAll() {
+        return snapshot().categories();
+    }
+
+    public Optional<CategoryResponse> find(long categoryNo) {
+        return snapshot().byNo().get(categoryNo);
+    }
+
+    public boolean contains(long categoryNo) {
+        return snapshot().byNo().containsKey(categoryNo);
+    }
+
+    /**
+     * 카테고리 이름으로 카테고리를 찾습니다. 같은 이름이 여러 개면 번호가 가장 작은 카테고리를 반환합니다.
+     *
+     * @param categoryName 카테고리 이름
+     * @return 카테고리, 없으면 빈 {@link Optional}
+     */
+    public Optional<CategoryResponse> findByName(String categoryName) {
+        return categoryName == null ? Optional.empty() : Optional.ofNullable(snapshot().byName().get(categoryName));
+    }
+
+    /**
+     * @return 현재 카테고리 목록의 내용 기반 버전 문자열
+     */
+    public String getVersion() {
+        return snapshot().version();
+    }
+
+    /**
+     * 아직 적재되지 않았다면(시작 직후 요청) 즉시 적재합니다.
+     */
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static String version(List<CategoryResponse> categories) {
+        CRC32 crc = new CRC32();
+
+        for (CategoryResponse category : categories) {
+            crc.update((category.categoryNo() + ":" + category.categoryName() + ";").getBytes(StandardCharsets.UTF_8));
+        }
+        return Long.toHexString(crc.getValue());
+    }
+
+    private record Snapshot(List<CategoryResponse> categories, LongKeyedMap<CategoryResponse> byNo,
+                            Map<String, CategoryResponse> byName, String version) {
+    }
+}
@@ -25,6 +25,11 @@ import java.util.List;
  * </ul>
  *
  * <p>
+ *     응답에는 카테고리 목록 버전을 ETag로 포함하며, 클라이언트가 {@code If-None-Match}로 같은 값을 보내면
+ *     본문 없이 {@code 304 Not Modified}를 반환합니다.
+ * </p>
+ *
+ * <p>
  *     기본 요청 경로는 {@code /api/events/categories}이며,
  *     모든 응답은 {@link ResponseEntity} 형태로 반환됩니다.
  * </p>
@@ -43,7 +48,9 @@ public class CategoryController implements CategoryApiSepcification {
      */
     @GetMapping
     public ResponseEntity<List<CategoryResponse>> getAllCategories(){
-        return ResponseEntity.ok(categoryService.getAllCategories());
+        return ResponseEntity.ok()
+                .eTag(categoryService.getCategoriesVersion())
+                .body(categoryService.getAllCategories());
     }
 
 }
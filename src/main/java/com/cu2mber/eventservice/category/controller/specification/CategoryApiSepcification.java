@@ -16,6 +16,7 @@ public interface CategoryApiSepcification {
     @Operation(summary = "행사 카테고리 전체 조회", description = "모든 행사를 페이지 단위로 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "데이터 없음")
 
     })
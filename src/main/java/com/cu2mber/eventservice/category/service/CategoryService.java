@@ -1,7 +1,7 @@
 package com.cu2mber.eventservice.category.service;
 
 import com.cu2mber.eventservice.category.dto.CategoryResponse;
-import com.cu2mber.eventservice.category.repository.CategoryRepository;
+import com.cu2mber.eventservice.category.cache.CategoryDictionary;
 
 import java.util.List;
 
@@ -9,9 +9,16 @@ import java.util.List;
  * {@code CategoryService} 인터페이스는 행사 카테고리 관련 비즈니스 로직을 정의합니다.
  *
  * <p>
- *    이 서비스는 {@link CategoryRepository}를 통해 카테고리 데이터를 조회하는 기능을 제공합니다.
+ *    이 서비스는 {@link CategoryDictionary}에 적재된 카테고리 데이터를 조회하는 기능을 제공합니다.
  * </p>
  */
 public interface CategoryService {
     List<CategoryResponse> getAllCategories();
+
+    /**
+     * 카테고리 목록의 내용 기반 버전을 반환합니다. 목록이 바뀌면 값도 바뀌므로 ETag로 사용합니다.
+     *
+     * @return 카테고리 목록 버전 문자열
+     */
+    String getCategoriesVersion();
 }
@@ -1,7 +1,7 @@
 package com.cu2mber.eventservice.category.service.impl;
 
+import com.cu2mber.eventservice.category.cache.CategoryDictionary;
 import com.cu2mber.eventservice.category.dto.CategoryResponse;
-import com.cu2mber.eventservice.category.repository.CategoryRepository;
 import com.cu2mber.eventservice.category.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -12,12 +12,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryDictionary categoryDictionary;
 
     @Override
     public List<CategoryResponse> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(CategoryResponse::from)
-                .toList();
+        return categoryDictionary.getAll();
+    }
+
+    @Override
+    public String getCategoriesVersion() {
+        return categoryDictionary.getVersion();
     }
 }
@@ -0,0 +1,33 @@
+package com.cu2mber.eventservice.event.cache;
+
+import com.cu2mber.eventservice.event.dto.EventListResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * {@code CachedEventPage}는 캐시에 보관하는 목록 페이지의 내용과 전체 개수입니다.
+ *
+ * <p>
+ *     {@link Page}는 요청 정보({@link Pageable})를 함께 담고 있어 직렬화하기 어려우므로,
+ *     2차 캐시를 외부 저장소(Redis 등)로 바꿔도 그대로 직렬화할 수 있도록 값만 보관합니다.
+ * </p>
+ *
+ * @param content       페이지 내용
+ * @param totalElements 전체 행사 수
+ */
+public record CachedEventPage(
+        List<EventListResponse> content,
+        long totalElements
+) {
+
+    public static CachedEventPage from(Page<EventListResponse> page) {
+        return new CachedEventPage(List.copyOf(page.getContent()), page.getTotalElements());
+    }
+
+    public Page<EventListResponse> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
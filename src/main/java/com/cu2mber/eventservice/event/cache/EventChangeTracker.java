@@ -0,0 +1,179 @@
+package com.cu2mber.eventservice.event.cache;
+
+import com.cu2mber.eventservice.event.domain.EventChangedEvent;
+import com.cu2mber.eventservice.event.domain.EventTableVersion;
+import com.cu2mber.eventservice.event.repository.EventTableVersionRepository;
+import com.cu2mber.eventservice.global.datasource.PrimaryReadWindow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZoneOffset;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code EventChangeTracker}는 행사 테이블의 변경 버전과 마지막 변경 시각을 보관합니다.
+ *
+ * <p>
+ *     HTTP 조건부 요청(ETag, Last-Modified) 검증값으로 사용되며,
+ *     요청마다 데이터베이스를 조회하지 않고 {@code 304 Not Modified} 여부를 판단할 수 있게 합니다.
+ *     버전은 트리거가 관리하는 {@link EventTableVersion}에서 읽으므로 같은 테이블 상태라면 모든 인스턴스가 같은 ETag를 냅니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@code event.change-tracker.poll-interval} 주기로 버전을 읽어
+ *       다른 인스턴스의 변경, 일괄 적재, SQL로 직접 수정·삭제한 내용도 감지합니다.</li>
+ *   <li>이 인스턴스에서 커밋된 {@link EventChangedEvent}를 받으면 다음 조회 시 바로 다시 읽습니다.
+ *       연속된 변경이 많아도 조회는 한 번만 발생합니다.</li>
+ *   <li>버전이 바뀌면 {@link EventTableChangedEvent}를 발행하여 다른 캐시가 함께 무효화되도록 합니다.</li>
+ *   <li>변경을 알게 되면 무효화된 캐시를 다시 채우는 조회가 지연된 복제본에서 이전 데이터를 읽지 않도록
+ *       먼저 {@link PrimaryReadWindow}를 엽니다. 이 때문에 다른 구독자보다 먼저 실행됩니다.</li>
+ * </ul>
+ *
+ * <p>
+ *     조회는 읽기 전용이 아닌 새 트랜잭션으로 실행하여 항상 주 데이터소스에서 읽습니다.
+ *     다른 스레드가 이미 조회 중이면 기다리지 않고 마지막으로 확인한 버전을 사용하며,
+ *     조회에 실패하면 이전 버전을 유지하고 다음 조회에서 다시 시도합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EventChangeTracker {
+
+    private final EventTableVersionRepository versionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PrimaryReadWindow primaryReadWindow;
+
+    private final Lock refreshLock = new ReentrantLock();
+
+    /**
+     * 마지막으로 확인한 버전입니다. 아직 읽지 못했으면 {@code null}입니다.
+     */
+    private volatile Observed observed;
+
+    private volatile boolean dirty = true;
+
+    public EventChangeTracker(EventTableVersionRepository versionRepository,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              PrimaryReadWindow primaryReadWindow) {
+        this.versionRepository = versionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.primaryReadWindow = primaryReadWindow;
+    }
+
+    /**
+     * 테이블 버전을 다시 읽고, 바뀌었으면 {@link EventTableChangedEvent}를 발행합니다.
+     * 다른 스레드가 조회 중이면 아무것도 하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${event.change-tracker.poll-interval:PT5S}")
+    public void refresh() {
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+
+        Observed previous;
+        Observed current;
+
+        try {
+            // 조회 중에 들어온 변경은 dirty를 다시 세워 다음 조회에 반영됩니다.
+            dirty = false;
+            try {
+                current = transactionTemplate.execute(status -> versionRepository.findById(EventTableVersion.EVENTS)
+                        .map(Observed::of)
+                        .orElse(Observed.MISSING));
+            } catch (DataAccessException e) {
+                dirty = true;
+                log.warn("[refresh] 행사 테이블 버전 조회 실패 - 이전 버전 유지: {}", e.getMessage());
+                return;
+            }
+
+            previous = observed;
+            if (current.equals(previous)) {
+                return;
+            }
+            observed = current;
+        } finally {
+            refreshLock.unlock();
+        }
+
+        if (previous != null) {
+            primaryReadWindow.open();
+            log.debug("[refresh] 행사 테이블 변경 감지 - {} -> {}", previous.version(), current.version());
+            eventPublisher.publishEvent(new EventTableChangedEvent(previous.version(), current.version()));
+        }
+    }
+
+    /**
+     * 커밋된 행사 변경을 기록합니다. 테이블 버전은 다음 조회 시 다시 읽습니다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent changed) {
+        primaryReadWindow.open();
+        dirty = true;
+    }
+
+    /**
+     * 현재 테이블 버전을 반환합니다. 아직 읽지 못했으면 {@code 0}입니다.
+     *
+     * @return 변경 버전
+     */
+    public long version() {
+        Observed current = current();
+        return current == null ? 0 : current.version();
+    }
+
+    /**
+     * 현재 버전을 약한(weak) ETag 형식으로 반환합니다.
+     * 응답 압축 등으로 바이트가 달라져도 같은 표현으로 취급되도록 약한 비교를 사용합니다.
+     *
+     * @return {@code W/"<버전>"} 형식의 ETag
+     */
+    public String eTag() {
+        return "W/\"" + Long.toString(version(), 36) + "\"";
+    }
+
+    /**
+     * 마지막으로 행사 테이블이 변경된 시각(DB 시계)을 반환합니다.
+     * 알 수 없으면 음수를 반환하며, 이 경우 {@code Last-Modified}는 사용하지 않습니다.
+     *
+     * @return epoch 밀리초
+     */
+    public long lastModified() {
+        Observed current = current();
+        return current == null ? -1 : current.lastModified();
+    }
+
+    private Observed current() {
+        if (dirty) {
+            refresh();
+        }
+        return observed;
+    }
+
+    /**
+     * 확인한 테이블 버전입니다. 버전 행이 없으면(마이그레이션 전 스키마) 버전 0으로 취급합니다.
+     */
+    private record Observed(long version, long lastModified) {
+
+        static final Observed MISSING = new Observed(0, -1);
+
+        static Observed of(EventTableVersion tableVersion) {
+            return new Observed(tableVersion.getVersion(),
+                    tableVersion.getChangedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.cu2mber.eventservice.event.cache;
+
+import com.cu2mber.eventservice.event.dto.CategoryEventCount;
+import com.cu2mber.eventservice.event.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@code EventCountCache}는 전체 및 카테고리별 행사 개수를 주기적으로 집계하여 보관합니다.
+ *
+ * <p>
+ *     목록 조회마다 {@code SELECT COUNT(*)}를 실행하는 대신,
+ *     {@code event.count-cache.refresh-interval} 주기로 한 번의 GROUP BY 쿼리를 실행하고
+ *     그 결과를 불변 스냅샷으로 교체합니다. 조회 스레드는 락 없이 스냅샷을 읽습니다.
+ * </p>
+ *
+ * <p>
+ *     갱신 주기 사이에 등록된 행사는 반영되지 않으므로 반환되는 개수는 근사값입니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventCountCache {
+
+    private final EventRepository eventRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 카테고리별 행사 개수를 다시 집계합니다.
+     */
+    @Scheduled(fixedDelayString = "${event.count-cache.refresh-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        Map<Long, Long> counts = new HashMap<>();
+        long total = 0;
+
+        for (CategoryEventCount count : eventRepository.countGroupByCategory()) {
+            counts.put(count.categoryNo(), count.eventCount());
+            total += count.eventCount();
+        }
+
+        snapshot = new Snapshot(Map.copyOf(counts), total);
+        log.debug("[refresh] 행사 개수 캐시 갱신 - 카테고리 수: {}, 전체: {}", counts.size(), total);
+    }
+
+    /**
+     * 캐시된 전체 행사 개수를 반환합니다.
+     *
+     * @return 전체 행사 개수, 아직 집계되지 않았다면 빈 {@link Optional}
+     */
+    public Optional<Long> getTotalCount() {
+        Snapshot current = snapshot;
+        return current == null ? Optional.empty() : Optional.of(current.total());
+    }
+
+    /**
+     * 캐시된 카테고리별 행사 개수를 반환합니다.
+     *
+     * @param categoryNo 카테고리 번호
+     * @return 해당 카테고리의 행사 개수, 아직 집계되지 않았다면 빈 {@link Optional}
+     */
+    public Optional<Long> getCategoryCount(Long categoryNo) {
+        Snapshot current = snapshot;
+        return current == null ? Optional.empty() : Optional.of(current.byCategory().getOrDefault(categoryNo, 0L));
+    }
+
+    private record Snapshot(Map<Long, Long> byCategory, long total) {
+    }
+}
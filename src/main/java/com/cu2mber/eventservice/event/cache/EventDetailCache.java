@@ -0,0 +1,122 @@
+package com.cu2mber.eventservice.event.cache;
+
+import com.cu2mber.eventservice.event.domain.EventChangedEvent;
+import com.cu2mber.eventservice.event.dto.EventDetailResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * {@code EventDetailCache}는 행사 번호별 {@link EventDetailResponse}를 보관하는 메모리 캐시입니다.
+ *
+ * <p>
+ *     Caffeine(W-TinyLFU 기반 크기 제한 캐시)을 사용하며, 설정은 {@link EventDetailCacheProperties}를 따릅니다.
+ *     존재하지 않는 행사 번호도 {@link Optional#empty()}로 짧게 보관하여(negative caching)
+ *     잘못된 번호로 반복 요청해도 데이터베이스에 도달하지 않도록 합니다.
+ * </p>
+ *
+ * <p>
+ *     적중/실패/제거 통계는 {@code cache.*{cache="eventDetail"}} 지표로 Actuator에 노출되며,
+ *     행사가 변경되면 {@link EventChangedEvent}를 받아 해당 항목을 무효화합니다.
+ *     다른 인스턴스의 변경처럼 어떤 행사가 바뀌었는지 알 수 없는 테이블 단위 변경({@link EventTableChangedEvent})에는 전체를 비웁니다.
+ * </p>
+ */
+@Component
+public class EventDetailCache {
+
+    private static final String CACHE_NAME = "eventDetail";
+
+    private final Cache<Long, Optional<EventDetailResponse>> cache;
+
+    public EventDetailCache(EventDetailCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .expireAfter(new DetailExpiry(properties.ttl().toNanos(), properties.negativeTtl().toNanos()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 상세 응답을 반환하고, 없으면 {@code loader}로 조회하여 캐시에 저장합니다.
+     * 같은 행사 번호에 대한 동시 요청은 한 번만 조회됩니다.
+     *
+     * @param eventNo 행사 고유 번호
+     * @param loader  캐시에 없을 때 사용할 조회 함수
+     * @return 상세 응답, 행사가 존재하지 않으면 빈 {@link Optional}
+     */
+    public Optional<EventDetailResponse> get(Long eventNo, Function<Long, Optional<EventDetailResponse>> loader) {
+        return cache.get(eventNo, loader);
+    }
+
+    /**
+     * 여러 행사 번호의 상세 응답을 한 번에 반환합니다. 캐시에 없는 번호만 모아 {@code loader}를 한 번 호출합니다.
+     * <p>
+     * {@code loader}는 요청받은 번호 중 존재하지 않는 번호에 {@link Optional#empty()}를 넣어 반환해야 하며,
+     * 그래야 존재하지 않는 번호도 단건 조회와 같이 짧게 캐시됩니다.
+     * </p>
+     *
+     * @param eventNos 행사 고유 번호 목록
+     * @param loader   캐시에 없는 번호 집합을 받아 번호별 상세 응답을 반환하는 조회 함수
+     * @return 행사 번호별 상세 응답
+     */
+    public Map<Long, Optional<EventDetailResponse>> getAll(
+            Iterable<Long> eventNos,
+            Function<Set<? extends Long>, Map<Long, Optional<EventDetailResponse>>> loader) {
+        return cache.getAll(eventNos, loader);
+    }
+
+    /**
+     * 특정 행사의 캐시 항목을 제거합니다.
+     *
+     * @param eventNo 행사 고유 번호
+     */
+    public void invalidate(Long eventNo) {
+        cache.invalidate(eventNo);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent changed) {
+        invalidate(changed.event().getEventNo());
+    }
+
+    @EventListener
+    public void onTableChanged(EventTableChangedEvent changed) {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 존재하는 행사와 존재하지 않는 행사에 서로 다른 만료 시간을 적용합니다.
+     */
+    private record DetailExpiry(long ttlNanos, long negativeTtlNanos)
+            implements Expiry<Long, Optional<EventDetailResponse>> {
+
+        @Override
+        public long expireAfterCreate(Long key, Optional<EventDetailResponse> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Optional<EventDetailResponse> value,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Optional<EventDetailResponse> value,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.cu2mber.eventservice.event.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * {@code EventDetailCacheProperties}는 행사 상세 응답 캐시({@link EventDetailCache})의 설정값입니다.
+ *
+ * @param maxEntries  캐시에 보관할 최대 행사 수
+ * @param ttl         존재하는 행사의 응답을 보관하는 시간
+ * @param negativeTtl 존재하지 않는 행사 번호의 조회 결과(없음)를 보관하는 시간
+ */
+@ConfigurationProperties(prefix = "event.cache.detail")
+public record EventDetailCacheProperties(
+        @DefaultValue("10000") long maxEntries,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("30s") Duration negativeTtl
+) {
+}
@@ -0,0 +1,102 @@
+package com.cu2mber.eventservice.event.cache;
+
+import com.cu2mber.eventservice.event.domain.EventChangedEvent;
+import com.cu2mber.eventservice.event.dto.EventListResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Supplier;
+
+/**
+ * {@code EventPageCache}는 전체·카테고리별 행사 목록의 앞쪽 페이지를 보관하는 2단 캐시입니다.
+ *
+ * <p>
+ *     1차는 인스턴스 메모리(Caffeine), 2차는 {@link EventPageStore}(공유 저장소)이며,
+ *     키는 (목록 변경 버전, 카테고리, 페이지, 크기)로 구성됩니다.
+ *     행사가 변경되면 {@link EventChangedEvent}를 받아 버전을 올리므로, 이전 버전의 페이지는 TTL을 기다리지 않고 바로 조회 대상에서 빠집니다.
+ *     버전은 조회를 시작할 때 읽기 때문에 조회 도중 커밋된 변경은 다음 버전의 키로 다시 조회됩니다.
+ *     다른 인스턴스나 SQL로 직접 수정한 변경은 {@link EventChangeTracker}가 감지해 발행하는 {@link EventTableChangedEvent}로 버전을 올립니다.
+ * </p>
+ *
+ * <p>
+ *     같은 키에 대한 동시 요청은 1차 캐시의 {@code get(key, loader)}에서 하나만 2차 캐시와 데이터베이스를 조회하고,
+ *     나머지는 그 결과를 기다려 사용합니다(캐시 스탬피드 방지). 인스턴스 간 중복 조회는 막지 않습니다.
+ *     {@link EventPageCacheProperties#maxPage()}보다 뒤의 페이지는 캐시하지 않습니다.
+ * </p>
+ */
+@Component
+public class EventPageCache {
+
+    private static final String CACHE_NAME = "eventPage";
+    private static final String ALL_CATEGORIES = "all";
+
+    private final Cache<String, CachedEventPage> cache;
+    private final EventPageStore store;
+    private final int maxPage;
+
+    public EventPageCache(EventPageCacheProperties properties, EventPageStore store, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        this.store = store;
+        this.maxPage = properties.maxPage();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 목록 페이지를 반환하고, 1·2차 캐시에 모두 없으면 {@code loader}로 조회하여 두 캐시에 저장합니다.
+     *
+     * @param categoryNo 카테고리 번호, 전체 목록이면 {@code null}
+     * @param pageable   정렬까지 확정된 페이징 정보
+     * @param loader     캐시에 없을 때 사용할 조회 함수
+     * @return 목록 페이지
+     */
+    public Page<EventListResponse> get(Long categoryNo, Pageable pageable, Supplier<Page<EventListResponse>> loader) {
+        if (pageable.getPageNumber() > maxPage) {
+            return loader.get();
+        }
+
+        String key = key(store.version(), categoryNo, pageable);
+
+        CachedEventPage page = cache.get(key, k -> store.get(k).orElseGet(() -> {
+            CachedEventPage loaded = CachedEventPage.from(loader.get());
+            store.put(k, loaded);
+            return loaded;
+        }));
+
+        return page.toPage(pageable);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent changed) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onTableChanged(EventTableChangedEvent changed) {
+        invalidate();
+    }
+
+    private void invalidate() {
+        store.incrementVersion();
+        // 이전 버전의 키는 다시 조회되지 않으므로 1차 캐시 공간을 바로 비웁니다.
+        cache.invalidateAll();
+    }
+
+    private static String key(long version, Long categoryNo, Pageable pageable) {
+        return "events:v" + version
+                + ":c" + (categoryNo == null ? ALL_CATEGORIES : categoryNo)
+                + ":p" + pageable.getPageNumber()
+                + ":s" + pageable.getPageSize();
+    }
+}
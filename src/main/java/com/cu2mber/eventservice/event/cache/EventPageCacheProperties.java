@@ -0,0 +1,23 @@
+package com.cu2mber.eventservice.event.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * {@code EventPageCacheProperties}는 행사 목록 페이지 캐시({@link EventPageCache})의 설정값입니다.
+ *
+ * @param maxEntries 1차(메모리) 캐시에 보관할 최대 페이지 수
+ * @param ttl        1·2차 캐시에 페이지를 보관하는 최대 시간, 무효화는 변경 버전으로 하며 이 값은 안전장치입니다.
+ * @param maxPage    캐시하는 마지막 페이지 번호(0부터), 이후 페이지는 항상 데이터베이스에서 조회합니다.
+ * @param store      2차(공유) 캐시 구현 ({@code local}: 인스턴스 내 저장소)
+ */
+@ConfigurationProperties(prefix = "event.cache.page")
+public record EventPageCacheProperties(
+        @DefaultValue("1000") long maxEntries,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("4") int maxPage,
+        @DefaultValue("local") String store
+) {
+}
@@ -0,0 +1,40 @@
+package com.cu2mber.eventservice.event.cache;
+
+import java.util.Optional;
+
+/**
+ * {@code EventPageStore}는 {@link EventPageCache}의 2차(공유) 캐시 저장소입니다.
+ *
+ * <p>
+ *     여러 인스턴스가 같은 저장소를 바라보면 한 인스턴스가 조회한 페이지를 다른 인스턴스가 재사용하고,
+ *     변경 버전도 함께 공유되어 한 곳의 변경이 모든 인스턴스의 목록 캐시를 무효화합니다.
+ *     기본 구현은 인스턴스 내부 저장소({@link LocalEventPageStore})이며,
+ *     Redis 등으로 교체할 때는 버전을 원자적 증가({@code INCR}) 값으로, 페이지를 만료 시간이 있는 키로 저장하면 됩니다.
+ * </p>
+ */
+public interface EventPageStore {
+
+    /**
+     * @param key 버전이 포함된 페이지 키
+     * @return 저장된 페이지, 없으면 빈 {@link Optional}
+     */
+    Optional<CachedEventPage> get(String key);
+
+    /**
+     * 페이지를 저장합니다. 만료 시간은 구현이 {@link EventPageCacheProperties#ttl()}에 따라 정합니다.
+     *
+     * @param key  버전이 포함된 페이지 키
+     * @param page 저장할 페이지
+     */
+    void put(String key, CachedEventPage page);
+
+    /**
+     * @return 현재 목록 변경 버전
+     */
+    long version();
+
+    /**
+     * 목록 변경 버전을 올립니다. 이전 버전의 키는 더 이상 조회되지 않고 만료되어 사라집니다.
+     */
+    void incrementVersion();
+}
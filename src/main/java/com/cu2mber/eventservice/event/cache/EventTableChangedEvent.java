@@ -0,0 +1,19 @@
+package com.cu2mber.eventservice.event.cache;
+
+/**
+ * {@code EventTableChangedEvent}는 {@link EventChangeTracker}가 행사 테이블의 변경을 확인했음을 알리는 애플리케이션 이벤트입니다.
+ *
+ * <p>
+ *     이 인스턴스에서 커밋된 변경뿐 아니라 다른 인스턴스의 변경이나 SQL로 직접 수정한 내용도 포함하므로,
+ *     행 단위 {@code EventChangedEvent}로는 알 수 없는 변경에 캐시를 무효화할 때 구독합니다.
+ *     애플리케이션 시작 후 처음 버전을 읽었을 때는 발행하지 않습니다.
+ * </p>
+ *
+ * @param previousVersion 이전 테이블 버전
+ * @param version         새로 확인한 테이블 버전
+ */
+public record EventTableChangedEvent(
+        long previousVersion,
+        long version
+) {
+}
@@ -0,0 +1,65 @@
+package com.cu2mber.eventservice.event.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code LocalEventPageStore}는 인스턴스 내부에 두는 {@link EventPageStore} 구현입니다.
+ *
+ * <p>
+ *     공유 캐시 서버 없이도 2단 구조를 그대로 사용할 수 있도록 하는 대체 구현으로,
+ *     1차 캐시보다 크고 오래 보관하는 Caffeine 캐시와 {@link AtomicLong} 버전으로 구성됩니다.
+ *     버전은 애플리케이션 시작 시각(밀리초)에서 시작하므로 재시작 전후의 키가 겹치지 않습니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "event.cache.page.store", havingValue = "local", matchIfMissing = true)
+public class LocalEventPageStore implements EventPageStore {
+
+    private static final String CACHE_NAME = "eventPageStore";
+
+    /**
+     * 1차 캐시 대비 보관 페이지 수 배율
+     */
+    private static final int CAPACITY_FACTOR = 4;
+
+    private final Cache<String, CachedEventPage> cache;
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public LocalEventPageStore(EventPageCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries() * CAPACITY_FACTOR)
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<CachedEventPage> get(String key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    @Override
+    public void put(String key, CachedEventPage page) {
+        cache.put(key, page);
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    @Override
+    public void incrementVersion() {
+        version.incrementAndGet();
+    }
+}
@@ -1,14 +1,36 @@
 package com.cu2mber.eventservice.event.controller;
 
 import com.cu2mber.eventservice.event.controller.specification.EventApiSpecification;
+import com.cu2mber.eventservice.event.dto.EventBatchRequest;
+import com.cu2mber.eventservice.event.dto.EventBatchResponse;
+import com.cu2mber.eventservice.event.dto.EventChangesResponse;
+import com.cu2mber.eventservice.event.dto.EventCursorResponse;
 import com.cu2mber.eventservice.event.dto.EventDetailResponse;
+import com.cu2mber.eventservice.event.dto.EventFacetResponse;
+import com.cu2mber.eventservice.event.dto.EventImportResult;
 import com.cu2mber.eventservice.event.dto.EventListResponse;
+import com.cu2mber.eventservice.event.dto.EventNearbyResponse;
+import com.cu2mber.eventservice.event.dto.EventSliceResponse;
+import com.cu2mber.eventservice.event.export.EventExportFormat;
+import com.cu2mber.eventservice.event.service.EventChangeService;
+import com.cu2mber.eventservice.event.service.EventExportService;
+import com.cu2mber.eventservice.event.service.EventImportService;
 import com.cu2mber.eventservice.event.service.EventService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.YearMonth;
 
 /**
  * {@code EventController} 클래스는 행사 관련 REST API 요청을 처리하는 컨트롤러입니다.
@@ -23,6 +45,15 @@ import org.springframework.web.bind.annotation.*;
  *   <li>키워드 기반 행사 검색</li>
  *   <li>카테고리별 행사 목록 조회</li>
  *   <li>특정 행사 상세 정보 조회</li>
+ *   <li>여러 행사 상세 정보 일괄 조회 — 요청 순서 유지, 존재하지 않는 번호 별도 반환</li>
+ *   <li>무한 스크롤용 커서 기반 목록 조회 — {@code cursor} 파라미터가 있는 요청</li>
+ *   <li>COUNT 쿼리 없는 Slice 목록 조회 — {@code slice=true} 파라미터가 있는 요청</li>
+ *   <li>기간 겹침 조회 및 오늘 열리는 행사 조회 — 카테고리·지자체 조건 선택</li>
+ *   <li>기준 좌표 주변 행사 조회 — 거리 오름차순</li>
+ *   <li>패싯 조회 — 카테고리·행정구역·시작 월 조건과 필터 칩별 행사 수</li>
+ *   <li>전체 행사 내보내기 — NDJSON/CSV 스트리밍</li>
+ *   <li>지자체 행사 피드 일괄 적재 — NDJSON/CSV, 자연 키 기준 갱신</li>
+ *   <li>변경 피드 — 토큰 이후에 등록·수정된 행사만 수정 순서대로 조회</li>
  * </ul>
  *
  * <p>
@@ -33,7 +64,7 @@ import org.springframework.web.bind.annotation.*;
  *
  * <p>
  *     이 컨트롤러의 기본 경로는 {@code /api/events}이며,
- *     모든 요청은 RESTful 규약에 따라 GET 메서드로 조회됩니다.
+ *     일괄 상세 조회와 일괄 적재를 제외한 모든 요청은 RESTful 규약에 따라 GET 메서드로 조회됩니다.
  * </p>
  */
 @RestController
@@ -42,6 +73,9 @@ import org.springframework.web.bind.annotation.*;
 public class EventController implements EventApiSpecification {
 
     private final EventService eventService;
+    private final EventExportService eventExportService;
+    private final EventImportService eventImportService;
+    private final EventChangeService eventChangeService;
 
     /**
      * 전체 행사를 페이지 단위로 조회합니다.
@@ -81,6 +115,236 @@ public class EventController implements EventApiSpecification {
         return ResponseEntity.ok(eventService.getEventsByCategory(categoryNo, pageable));
     }
 
+    /**
+     * 전체 행사를 커서 기반으로 조회합니다.
+     * <p>
+     * {@code cursor} 파라미터가 포함된 요청만 처리하며, 첫 페이지는 빈 값({@code ?cursor=})으로 요청합니다.
+     * </p>
+     *
+     * @param cursor 이전 응답의 {@code nextCursor} 값
+     * @param size   조회할 행사 수
+     * @return {@link EventCursorResponse} 객체를 포함한 {@link ResponseEntity}
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<EventCursorResponse> getAllEventsByCursor(@RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(eventService.getAllEventsByCursor(cursor, size));
+    }
+
+    /**
+     * 행사 제목에 특정 키워드가 포함된 행사 목록을 커서 기반으로 조회합니다.
+     *
+     * @param keyword 검색할 키워드
+     * @param cursor  이전 응답의 {@code nextCursor} 값
+     * @param size    조회할 행사 수
+     * @return {@link EventCursorResponse} 객체를 포함한 {@link ResponseEntity}
+     */
+    @GetMapping(value = "/search", params = "cursor")
+    public ResponseEntity<EventCursorResponse> getSearchEventsByTitleByCursor(@RequestParam String keyword,
+                                                                              @RequestParam(required = false) String cursor,
+                                                                              @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(eventService.searchEventsByTitleByCursor(keyword, cursor, size));
+    }
+
+    /**
+     * 특정 카테고리에 속한 행사 목록을 커서 기반으로 조회합니다.
+     *
+     * @param categoryNo 카테고리 번호
+     * @param cursor     이전 응답의 {@code nextCursor} 값
+     * @param size       조회할 행사 수
+     * @return {@link EventCursorResponse} 객체를 포함한 {@link ResponseEntity}
+     */
+    @GetMapping(value = "/categories/{category-no}", params = "cursor")
+    public ResponseEntity<EventCursorResponse> getEventsByCategoryByCursor(@PathVariable("category-no") Long categoryNo,
+                                                                           @RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(eventService.getEventsByCategoryByCursor(categoryNo, cursor, size));
+    }
+
+    /**
+     * 전체 행사를 COUNT 쿼리 없이 Slice 단위로 조회합니다.
+     *
+     * @param pageable  페이지 번호 및 크기를 담은 {@link Pageable} 객체
+     * @param withTotal {@code true}이면 캐시된 전체 행사 개수를 함께 반환합니다.
+     * @return {@link EventSliceResponse} 객체를 포함한 {@link ResponseEntity}
+     */
+    @GetMapping(params = "slice=true")
+    public ResponseEntity<EventSliceResponse> getAllEventsSlice(Pageable pageable,
+                                                                @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(eventService.getAllEventsSlice(pageable, withTotal));
+    }
+
+    /**
+     * 행사 제목에 특정 키워드가 포함된 행사 목록을 COUNT 쿼리 없이 Slice 단위로 조회합니다.
+     *
+     * @param keyword  검색할 키워드
+     * @param pageable 페이지 번호 및 크기를 담은 {@link Pageable} 객체
+     * @return {@link EventSliceResponse} 객체를 포함한 {@link ResponseEntity}
+     */
+    @GetMapping(value = "/search", params = "slice=true")
+    public ResponseEntity<EventSliceResponse> getSearchEventsByTitleSlice(@RequestParam String keyword, Pageable pageable) {
+        return ResponseEntity.ok(eventService.searchEventsByTitleSlice(keyword, pageable));
+    }
+
+    /**
+     * 특정 카테고리에 속한 행사 목록을 COUNT 쿼리 없이 Slice 단위로 조회합니다.
+     *
+     * @param categoryNo 카테고리 번호
+     * @param pageable   페이지 번호 및 크기를 담은 {@link Pageable} 객체
+     * @param withTotal  {@code true}이면 캐시된 카테고리별 행사 개수를 함께 반환합니다.
+     * @return {@link EventSliceResponse} 객체를 포함한 {@link ResponseEntity}
+     */
+    @GetMapping(value = "/categories/{category-no}", params = "slice=true")
+    public ResponseEntity<EventSliceResponse> getEventsByCategorySlice(@PathVariable("category-no") Long categoryNo,
+                                                                       Pageable pageable,
+                                                                       @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(eventService.getEventsByCategorySlice(categoryNo, pageable, withTotal));
+    }
+
+    /**
+     * 지정한 기간과 겹치는 행사 목록을 시작일 오름차순으로 조회합니다.
+     *
+     * @param from       조회 시작일 (yyyy-MM-dd, 포함)
+     * @param to         조회 종료일 (yyyy-MM-dd, 포함)
+     * @param categoryNo 카테고리 번호 (선택)
+     * @param localNo    지자체 번호 (선택)
+     * @param pageable   페이지 번호 및 크기를 담은 {@link Pageable} 객체
+     * @return {@link EventListResponse} 목록이 포함된 {@link Page} 객체를 포함한 {@link ResponseEntity}
+     */
+    @GetMapping("/period")
+    public ResponseEntity<Page<EventListResponse>> getEventsByPeriod(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long categoryNo,
+            @RequestParam(required = false) Short localNo,
+            Pageable pageable) {
+        return ResponseEntity.ok(eventService.getEventsByPeriod(from, to, categoryNo, localNo, pageable));
+    }
+
+    /**
+     * 오늘 열리고 있는 행사 목록을 시작일 오름차순으로 조회합니다.
+     *
+     * @param categoryNo 카테고리 번호 (선택)
+     * @param localNo    지자체 번호 (선택)
+     * @param pageable   페이지 번호 및 크기를 담은 {@link Pageable} 객체
+     * @return {@link EventListResponse} 목록이 포함된 {@link Page} 객체를 포함한 {@link ResponseEntity}
+     */
+    @GetMapping("/ongoing")
+    public ResponseEntity<Page<EventListResponse>> getOngoingEvents(@RequestParam(required = false) Long categoryNo,
+                                                                    @RequestParam(required = false) Short localNo,
+                                                                    Pageable pageable) {
+        return ResponseEntity.ok(eventService.getOngoingEvents(categoryNo, localNo, pageable));
+    }
+
+    /**
+     * 여러 행사의 상세 정보를 한 번에 조회합니다.
+     * <p>
+     * 번호 목록이 길어질 수 있어 본문으로 받으며, 조회만 수행하므로 서버 상태는 변경하지 않습니다.
+     * </p>
+     *
+     * @param request 조회할 행사 번호 목록
+     * @return 요청 순서의 상세 목록과 존재하지 않는 번호 목록을 담은 {@link EventBatchResponse}
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<EventBatchResponse> getEventDetails(@RequestBody EventBatchRequest request) {
+        return ResponseEntity.ok(eventService.getEventDetails(request.eventNos()));
+    }
+
+    /**
+     * 전체 행사를 NDJSON 또는 CSV 파일로 내려받습니다.
+     * <p>
+     * 응답 본문은 DB 커서에서 읽는 대로 기록되며, 요청 스레드가 아닌 MVC 비동기 실행기에서 작성됩니다.
+     * </p>
+     *
+     * @param format 내보내기 형식 ({@code ndjson} 또는 {@code csv})
+     * @return 첨부 파일 헤더와 스트리밍 본문을 담은 {@link ResponseEntity}
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEvents(@RequestParam(defaultValue = "ndjson") String format) {
+        EventExportFormat exportFormat = EventExportFormat.from(format);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("events." + exportFormat.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(out -> eventExportService.export(exportFormat, out));
+    }
+
+    /**
+     * 지자체 행사 피드를 NDJSON 또는 CSV 본문으로 받아 일괄 적재합니다.
+     * <p>
+     * 본문은 읽는 대로 단위별로 저장되며, 형식은 {@code Content-Type}으로 결정합니다.
+     * 일부 행이 제외되어도 나머지는 적재되므로 응답의 제외 수와 목록을 확인해야 합니다.
+     * </p>
+     *
+     * @param contentType 요청 본문의 미디어 타입 ({@code application/x-ndjson} 또는 {@code text/csv})
+     * @param body        요청 본문
+     * @return {@link EventImportResult} 객체를 포함한 {@link ResponseEntity}
+     * @throws IOException 본문을 읽는 중 오류가 발생한 경우
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<EventImportResult> importEvents(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                          InputStream body) throws IOException {
+        return ResponseEntity.ok(eventImportService.importEvents(EventExportFormat.from(contentType), body));
+    }
+
+    /**
+     * 토큰 이후에 등록·수정된 행사를 수정 순서대로 조회합니다.
+     * <p>
+     * 처음 동기화할 때는 {@code since} 없이 요청하고, 이후에는 응답의 {@code nextToken}을 그대로 전달합니다.
+     * </p>
+     *
+     * @param since 이전 응답의 {@code nextToken} 값 (선택)
+     * @param size  조회할 최대 변경 수 (기본 100)
+     * @return {@link EventChangesResponse} 객체를 포함한 {@link ResponseEntity}
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<EventChangesResponse> getChanges(@RequestParam(required = false) String since,
+                                                           @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(eventChangeService.getChanges(since, size));
+    }
+
+    /**
+     * 기준 좌표에서 반경 안에 있는 행사 목록을 가까운 순으로 조회합니다.
+     *
+     * @param lat        기준 위도
+     * @param lng        기준 경도
+     * @param radius     반경(km, 기본 30, 최대 100)
+     * @param categoryNo 카테고리 번호 (선택)
+     * @param localNo    지자체 번호 (선택)
+     * @param pageable   페이지 번호 및 크기를 담은 {@link Pageable} 객체
+     * @return {@link EventNearbyResponse} 목록이 포함된 {@link Page} 객체를 포함한 {@link ResponseEntity}
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<Page<EventNearbyResponse>> getNearbyEvents(@RequestParam double lat,
+                                                                     @RequestParam double lng,
+                                                                     @RequestParam(defaultValue = "30") double radius,
+                                                                     @RequestParam(required = false) Long categoryNo,
+                                                                     @RequestParam(required = false) Short localNo,
+                                                                     Pageable pageable) {
+        return ResponseEntity.ok(eventService.getNearbyEvents(lat, lng, radius, categoryNo, localNo, pageable));
+    }
+
+    /**
+     * 카테고리·행정구역·시작 월 조건으로 행사 목록을 조회하고, 필터 칩별 행사 수를 함께 반환합니다.
+     *
+     * @param categoryNo 카테고리 번호 (선택)
+     * @param district   행정구역 (선택, 예: {@code 경상남도})
+     * @param month      행사 시작 월 (선택, yyyy-MM)
+     * @param pageable   페이지 번호 및 크기를 담은 {@link Pageable} 객체
+     * @return {@link EventFacetResponse} 객체를 포함한 {@link ResponseEntity}
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<EventFacetResponse> getFacetedEvents(
+            @RequestParam(required = false) Long categoryNo,
+            @RequestParam(required = false) String district,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            Pageable pageable) {
+        return ResponseEntity.ok(eventService.getFacetedEvents(categoryNo, district, month, pageable));
+    }
+
     /**
      * 특정 행사의 상세 정보를 조회합니다.
      *
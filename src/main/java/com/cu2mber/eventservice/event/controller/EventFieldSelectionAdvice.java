@@ -0,0 +1,71 @@
+package com.cu2mber.eventservice.event.controller;
+
+import com.cu2mber.eventservice.event.dto.EventListResponse;
+import com.cu2mber.eventservice.global.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@code EventFieldSelectionAdvice}는 행사 목록 응답에 대한 필드 선택({@code fields} 파라미터, sparse fieldset)을 처리합니다.
+ *
+ * <p>
+ *     {@code GET /api/events?fields=eventNo,eventTitle,eventImageUrl}처럼 요청하면
+ *     목록의 각 {@link EventListResponse}에서 지정한 필드만 직렬화합니다.
+ *     페이지 정보 등 목록을 감싸는 필드는 그대로 유지되며, 알 수 없는 필드 이름은 400으로 응답합니다.
+ * </p>
+ */
+@RestControllerAdvice(assignableTypes = EventController.class)
+public class EventFieldSelectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String FIELDS_PARAM = "fields";
+
+    private static final Set<String> SELECTABLE_FIELDS = Arrays.stream(EventListResponse.class.getRecordComponents())
+            .map(RecordComponent::getName)
+            .collect(Collectors.toUnmodifiableSet());
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+
+        String fields = servletRequest.getServletRequest().getParameter(FIELDS_PARAM);
+        if (!StringUtils.hasText(fields)) {
+            return;
+        }
+
+        Set<String> selected = parse(fields);
+
+        bodyContainer.setFilters(JacksonConfig.defaultFilters()
+                .addFilter(EventListResponse.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(selected)));
+    }
+
+    private Set<String> parse(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+
+        for (String field : StringUtils.commaDelimitedListToSet(fields)) {
+            String name = field.strip();
+            if (!SELECTABLE_FIELDS.contains(name)) {
+                throw new IllegalArgumentException("선택할 수 없는 필드입니다: " + name);
+            }
+            selected.add(name);
+        }
+        return selected;
+    }
+}
@@ -1,17 +1,37 @@
 package com.cu2mber.eventservice.event.controller.specification;
 
+import com.cu2mber.eventservice.event.dto.EventBatchRequest;
+import com.cu2mber.eventservice.event.dto.EventBatchResponse;
+import com.cu2mber.eventservice.event.dto.EventChangesResponse;
+import com.cu2mber.eventservice.event.dto.EventCursorResponse;
 import com.cu2mber.eventservice.event.dto.EventDetailResponse;
+import com.cu2mber.eventservice.event.dto.EventFacetResponse;
+import com.cu2mber.eventservice.event.dto.EventImportResult;
 import com.cu2mber.eventservice.event.dto.EventListResponse;
+import com.cu2mber.eventservice.event.dto.EventNearbyResponse;
+import com.cu2mber.eventservice.event.dto.EventSliceResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.YearMonth;
 
 @Tag(name = "Event", description = "행사 관련 API")
 public interface EventApiSpecification {
@@ -55,4 +75,144 @@ public interface EventApiSpecification {
     @GetMapping("/{event-no}")
     ResponseEntity<EventDetailResponse> getEventDetail(@PathVariable("event-no") Long eventNo);
 
+    @Operation(summary = "행사 전체 커서 조회", description = "커서 기반으로 모든 행사를 최신순으로 조회합니다. 첫 페이지는 빈 cursor로 요청합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 요청 파라미터")
+    })
+    @GetMapping(params = "cursor")
+    ResponseEntity<EventCursorResponse> getAllEventsByCursor(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size);
+
+    @Operation(summary = "특정 행사 이름 커서 검색", description = "검색한 행사를 커서 기반으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 요청 파라미터")
+    })
+    @GetMapping(value = "/search", params = "cursor")
+    ResponseEntity<EventCursorResponse> getSearchEventsByTitleByCursor(@RequestParam String keyword,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "20") int size);
+
+    @Operation(summary = "카테고리별 행사 커서 조회", description = "특정 카테고리의 행사를 커서 기반으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 요청 파라미터")
+    })
+    @GetMapping(value = "/categories/{category-no}", params = "cursor")
+    ResponseEntity<EventCursorResponse> getEventsByCategoryByCursor(@PathVariable("category-no") Long categoryNo,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "20") int size);
+
+    @Operation(summary = "행사 전체 Slice 조회", description = "COUNT 쿼리 없이 모든 행사를 조회합니다. withTotal=true이면 캐시된 전체 개수를 함께 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터")
+    })
+    @GetMapping(params = "slice=true")
+    ResponseEntity<EventSliceResponse> getAllEventsSlice(Pageable pageable,
+                                                         @RequestParam(defaultValue = "false") boolean withTotal);
+
+    @Operation(summary = "특정 행사 이름 Slice 검색", description = "COUNT 쿼리 없이 검색한 행사를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터")
+    })
+    @GetMapping(value = "/search", params = "slice=true")
+    ResponseEntity<EventSliceResponse> getSearchEventsByTitleSlice(@RequestParam String keyword, Pageable pageable);
+
+    @Operation(summary = "카테고리별 행사 Slice 조회", description = "COUNT 쿼리 없이 특정 카테고리의 행사를 조회합니다. withTotal=true이면 캐시된 카테고리별 개수를 함께 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터")
+    })
+    @GetMapping(value = "/categories/{category-no}", params = "slice=true")
+    ResponseEntity<EventSliceResponse> getEventsByCategorySlice(@PathVariable("category-no") Long categoryNo,
+                                                                Pageable pageable,
+                                                                @RequestParam(defaultValue = "false") boolean withTotal);
+
+    @Operation(summary = "기간별 행사 조회", description = "지정한 기간(from~to)과 겹치는 행사를 시작일 순으로 조회합니다. 카테고리·지자체 조건을 함께 지정할 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간 또는 요청 파라미터"),
+            @ApiResponse(responseCode = "404", description = "카테고리 또는 지자체를 찾을 수 없음")
+    })
+    @GetMapping("/period")
+    ResponseEntity<Page<EventListResponse>> getEventsByPeriod(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long categoryNo,
+            @RequestParam(required = false) Short localNo,
+            Pageable pageable);
+
+    @Operation(summary = "진행 중인 행사 조회", description = "오늘 열리고 있는 행사를 시작일 순으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "404", description = "카테고리 또는 지자체를 찾을 수 없음")
+    })
+    @GetMapping("/ongoing")
+    ResponseEntity<Page<EventListResponse>> getOngoingEvents(@RequestParam(required = false) Long categoryNo,
+                                                             @RequestParam(required = false) Short localNo,
+                                                             Pageable pageable);
+
+    @Operation(summary = "주변 행사 조회", description = "기준 좌표에서 반경(km) 안에 있는 행사를 가까운 순으로 조회합니다. 행사 좌표는 지자체 대표 좌표입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "400", description = "좌표 또는 반경이 범위를 벗어남"),
+            @ApiResponse(responseCode = "404", description = "카테고리 또는 지자체를 찾을 수 없음")
+    })
+    @GetMapping("/nearby")
+    ResponseEntity<Page<EventNearbyResponse>> getNearbyEvents(@RequestParam double lat,
+                                                              @RequestParam double lng,
+                                                              @RequestParam(defaultValue = "30") double radius,
+                                                              @RequestParam(required = false) Long categoryNo,
+                                                              @RequestParam(required = false) Short localNo,
+                                                              Pageable pageable);
+
+    @Operation(summary = "패싯 조회", description = "카테고리·행정구역·시작 월 조건으로 행사를 최신 등록순으로 조회하고, 필터 칩별 행사 수를 함께 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
+    })
+    @GetMapping("/facets")
+    ResponseEntity<EventFacetResponse> getFacetedEvents(
+            @RequestParam(required = false) Long categoryNo,
+            @RequestParam(required = false) String district,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            Pageable pageable);
+
+    @Operation(summary = "행사 상세 일괄 조회", description = "여러 행사의 상세 정보를 요청 순서대로 조회하고, 존재하지 않는 번호를 함께 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "400", description = "번호 목록이 비었거나 최대 개수(200)를 초과")
+    })
+    @PostMapping("/batch")
+    ResponseEntity<EventBatchResponse> getEventDetails(@RequestBody EventBatchRequest request);
+
+    @Operation(summary = "행사 내보내기", description = "전체 행사를 NDJSON(기본) 또는 CSV 파일로 스트리밍합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식")
+    })
+    @GetMapping("/export")
+    ResponseEntity<StreamingResponseBody> exportEvents(@RequestParam(defaultValue = "ndjson") String format);
+
+    @Operation(summary = "행사 일괄 적재", description = "NDJSON 또는 CSV 본문의 행사를 적재합니다. (지자체, 행사명, 시작일)이 같은 행사는 갱신하며, 검증에 실패한 행은 제외하고 줄 번호와 이유를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "적재 완료 (일부 행 제외 가능)", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "400", description = "CSV 헤더 누락 등 본문 전체를 읽을 수 없음"),
+            @ApiResponse(responseCode = "415", description = "지원하지 않는 Content-Type")
+    })
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    ResponseEntity<EventImportResult> importEvents(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                   InputStream body) throws IOException;
+
+    @Operation(summary = "변경 피드", description = "토큰 이후에 등록·수정된 행사를 수정 순서대로 조회합니다. 처음에는 since 없이 요청하고, 이후 응답의 nextToken을 since로 전달합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공", useReturnTypeSchema=true),
+            @ApiResponse(responseCode = "400", description = "올바르지 않은 토큰 또는 size 범위 초과")
+    })
+    @GetMapping("/changes")
+    ResponseEntity<EventChangesResponse> getChanges(@RequestParam(required = false) String since,
+                                                    @RequestParam(defaultValue = "100") int size);
 }
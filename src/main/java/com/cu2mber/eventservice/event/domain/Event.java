@@ -7,10 +7,12 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Objects;
 
 /**
  * {@code Event} 엔티티는 행사 정보를 데이터베이스에 저장하기 위한 도메인 모델입니다.
@@ -20,18 +22,70 @@ import java.time.LocalTime;
  *     행사 일정·시간·장소·주최 정보·설명 등의 상세 데이터 조회 용입니다.
  * </p>
  *
+ * <p>
+ *     {@code @Index} 선언은 운영 DB의 마이그레이션({@code db/migration})과 동일하게 유지하며,
+ *     테스트용 H2 스키마 생성 시에도 같은 인덱스가 만들어지도록 합니다.
+ * </p>
+ *
+ * <p>
+ *     {@code eventSummary}는 목록 응답용으로 설명의 앞부분({@value #SUMMARY_LENGTH}자)을 저장 시점에 잘라 둔 컬럼입니다.
+ *     목록 조회는 이 컬럼만 읽으므로 TEXT 컬럼({@code eventDescription})을 읽지 않습니다.
+ * </p>
+ *
+ * <p>
+ *     연관 엔티티는 모두 지연 로딩이며, 엔티티를 조회하는 쿼리는 용도별 엔티티 그래프({@link #GRAPH_DETAIL})로 함께 읽을 연관을 지정합니다.
+ *     목록 조회는 생성자 표현식 DTO를 사용하므로 엔티티 그래프가 필요하지 않습니다.
+ * </p>
+ *
+ * <p>
+ *     {@code eventLatitude}/{@code eventLongitude}는 주변 행사 조회용 좌표입니다. 주소 대신 지자체 대표 좌표로 채워지며
+ *     ({@link EventLocationListener}), 정확한 좌표를 알면 {@link #locate(double, double)}로 지정할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ *     행사 번호는 INSERT 배치가 가능하도록 시퀀스({@code events_seq})에서 50개 단위로 발급하며,
+ *     (지자체, 행사명, 시작일)을 자연 키로 두어 일괄 적재 시 같은 행사는 {@link #update}로 갱신합니다.
+ * </p>
+ *
  *
  */
 @Getter
 @Entity
 @NoArgsConstructor
+@EntityListeners({EventEntityListener.class, EventLocationListener.class})
+@NamedEntityGraph(name = Event.GRAPH_DETAIL, attributeNodes = {
+        @NamedAttributeNode("localGov"),
+        @NamedAttributeNode("category")
+})
 @Table(name = "events",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"event_no", "local_no", "category_no"}),
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"event_no", "local_no", "category_no"}),
+                @UniqueConstraint(name = "uq_events_natural_key", columnNames = {"local_no", "event_title", "event_start_date"})
+        },
+        indexes = {
+                @Index(name = "idx_events_created_at", columnList = "created_at, event_no"),
+                @Index(name = "idx_events_category_created_at", columnList = "category_no, created_at, event_no"),
+                @Index(name = "idx_events_local_created_at", columnList = "local_no, created_at, event_no"),
+                @Index(name = "idx_events_updated_at", columnList = "updated_at, event_no")
+        },
         catalog = "event")
 public class Event {
 
+    /**
+     * 목록용 요약에 남길 설명의 최대 글자 수(코드 포인트 기준)입니다.
+     */
+    public static final int SUMMARY_LENGTH = 100;
+
+    private static final String ELLIPSIS = "…";
+
+    /**
+     * 상세 응답({@code EventDetailResponse}) 변환에 필요한 지자체·카테고리를 함께 읽는 엔티티 그래프 이름입니다.
+     */
+    public static final String GRAPH_DETAIL = "Event.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", catalog = "event", allocationSize = 50)
     private Long eventNo; // bigint
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -72,13 +126,27 @@ public class Event {
     @Column(columnDefinition = "TEXT")
     private String eventDescription;
 
+    @Column(length = SUMMARY_LENGTH + 1)
+    private String eventSummary;
+
     @Column(columnDefinition = "TEXT")
     private String eventImageUrl;
 
+    private Double eventLatitude;
+
+    private Double eventLongitude;
+
     @Column(nullable = false, updatable = false)
     @CreationTimestamp
     private LocalDateTime createdAt;
 
+    /**
+     * 등록 또는 마지막으로 수정된 일시입니다. 변경 피드의 정렬 키이며, 값이 바뀌지 않은 갱신({@link #update})에서는 바뀌지 않습니다.
+     */
+    @Column(nullable = false)
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
     public Event(LocalGov localGov, Category category, String eventTitle,
                  String eventAddress, LocalDate eventStartDate, LocalDate eventEndDate,
                  LocalTime eventStartTime, LocalTime eventEndTime, String eventUrl,
@@ -98,6 +166,88 @@ public class Event {
         this.eventInquiry = eventInquiry;
         this.eventDescription = eventDescription;
         this.eventImageUrl = eventImageUrl;
+        this.eventSummary = summarize(eventDescription);
+    }
+
+    /**
+     * 행사 좌표를 지정합니다.
+     *
+     * @param latitude  위도
+     * @param longitude 경도
+     */
+    public void locate(double latitude, double longitude) {
+        this.eventLatitude = latitude;
+        this.eventLongitude = longitude;
+    }
+
+    /**
+     * 자연 키(지자체, 행사명, 시작일)를 제외한 행사 정보를 갱신합니다.
+     * 값이 모두 같으면 아무것도 바꾸지 않으므로 UPDATE와 변경 이벤트가 발생하지 않습니다.
+     *
+     * @return 하나라도 값이 바뀌었으면 {@code true}
+     */
+    public boolean update(Category category, String eventAddress, LocalDate eventEndDate,
+                          LocalTime eventStartTime, LocalTime eventEndTime, String eventUrl,
+                          String eventSpot, String eventHost,
+                          String eventInquiry, String eventDescription, String eventImageUrl) {
+        boolean changed = !Objects.equals(this.category.getCategoryNo(), category.getCategoryNo())
+                || !Objects.equals(this.eventAddress, eventAddress)
+                || !Objects.equals(this.eventEndDate, eventEndDate)
+                || !Objects.equals(this.eventStartTime, eventStartTime)
+                || !Objects.equals(this.eventEndTime, eventEndTime)
+                || !Objects.equals(this.eventUrl, eventUrl)
+                || !Objects.equals(this.eventSpot, eventSpot)
+                || !Objects.equals(this.eventHost, eventHost)
+                || !Objects.equals(this.eventInquiry, eventInquiry)
+                || !Objects.equals(this.eventDescription, eventDescription)
+                || !Objects.equals(this.eventImageUrl, eventImageUrl);
+
+        if (!changed) {
+            return false;
+        }
+
+        this.category = category;
+        this.eventAddress = eventAddress;
+        this.eventEndDate = eventEndDate;
+        this.eventStartTime = eventStartTime;
+        this.eventEndTime = eventEndTime;
+        this.eventUrl = eventUrl;
+        this.eventSpot = eventSpot;
+        this.eventHost = eventHost;
+        this.eventInquiry = eventInquiry;
+        this.eventDescription = eventDescription;
+        this.eventImageUrl = eventImageUrl;
+        return true;
+    }
+
+    /**
+     * 저장·수정 직전에 설명으로부터 요약을 다시 계산합니다.
+     */
+    @PrePersist
+    @PreUpdate
+    void refreshSummary() {
+        this.eventSummary = summarize(eventDescription);
+    }
+
+    /**
+     * 설명의 앞뒤 공백을 제거하고 {@value #SUMMARY_LENGTH}자를 넘으면 잘라서 말줄임표를 붙입니다.
+     * 한글 외 문자(이모지 등)가 중간에서 잘리지 않도록 코드 포인트 단위로 자릅니다.
+     *
+     * @param description 행사 설명
+     * @return 목록용 요약, 설명이 없으면 {@code null}
+     */
+    public static String summarize(String description) {
+        if (description == null) {
+            return null;
+        }
+
+        String stripped = description.strip();
+        if (stripped.codePointCount(0, stripped.length()) <= SUMMARY_LENGTH) {
+            return stripped;
+        }
+
+        int end = stripped.offsetByCodePoints(0, SUMMARY_LENGTH);
+        return stripped.substring(0, end) + ELLIPSIS;
     }
 
 }
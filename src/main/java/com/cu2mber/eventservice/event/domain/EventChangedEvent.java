@@ -0,0 +1,25 @@
+package com.cu2mber.eventservice.event.domain;
+
+/**
+ * {@code EventChangedEvent}는 {@link Event} 엔티티가 등록·수정·삭제되었음을 알리는 애플리케이션 이벤트입니다.
+ *
+ * <p>
+ *     {@link EventEntityListener}가 JPA 생명주기 콜백에서 발행하며,
+ *     검색 색인처럼 행사 데이터를 메모리에 보관하는 컴포넌트가 이를 구독하여 자신의 상태를 갱신합니다.
+ *     구독자는 트랜잭션 커밋 이후({@code @TransactionalEventListener})에 처리하는 것을 원칙으로 합니다.
+ * </p>
+ *
+ * @param event 변경된 행사 엔티티
+ * @param type  변경 유형
+ */
+public record EventChangedEvent(
+        Event event,
+        Type type
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
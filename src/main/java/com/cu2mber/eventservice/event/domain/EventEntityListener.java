@@ -0,0 +1,37 @@
+package com.cu2mber.eventservice.event.domain;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * {@code EventEntityListener}는 {@link Event} 엔티티의 JPA 생명주기 콜백을
+ * {@link EventChangedEvent} 애플리케이션 이벤트로 변환하여 발행합니다.
+ *
+ * <p>
+ *     Hibernate는 Spring의 {@code SpringBeanContainer}를 통해 이 리스너를 생성하므로
+ *     생성자 주입을 사용할 수 있습니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class EventEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(Event event) {
+        eventPublisher.publishEvent(new EventChangedEvent(event, EventChangedEvent.Type.CREATED));
+    }
+
+    @PostUpdate
+    public void onUpdated(Event event) {
+        eventPublisher.publishEvent(new EventChangedEvent(event, EventChangedEvent.Type.UPDATED));
+    }
+
+    @PostRemove
+    public void onDeleted(Event event) {
+        eventPublisher.publishEvent(new EventChangedEvent(event, EventChangedEvent.Type.DELETED));
+    }
+}
@@ -0,0 +1,31 @@
+package com.cu2mber.eventservice.event.domain;
+
+import com.cu2mber.eventservice.event.geo.DistrictCentroids;
+import jakarta.persistence.PrePersist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * {@code EventLocationListener}는 좌표 없이 저장되는 {@link Event}에 지자체 대표 좌표를 채웁니다.
+ *
+ * <p>
+ *     {@link EventEntityListener}와 같이 Hibernate가 Spring 빈 컨테이너로 생성하므로 생성자 주입을 사용합니다.
+ *     좌표를 직접 지정한 행사는 그대로 두며, 좌표 표가 등록되지 않은 환경({@code @DataJpaTest} 등)에서는 아무 일도 하지 않습니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class EventLocationListener {
+
+    private final ObjectProvider<DistrictCentroids> districtCentroids;
+
+    @PrePersist
+    public void locate(Event event) {
+        DistrictCentroids centroids = districtCentroids.getIfAvailable();
+        if (centroids == null || event.getEventLatitude() != null || event.getLocalGov() == null) {
+            return;
+        }
+
+        centroids.locate(event.getLocalGov().getLocalDistrict(), event.getLocalGov().getLocalName())
+                .ifPresent(point -> event.locate(point.latitude(), point.longitude()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.cu2mber.eventservice.event.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@code EventTableVersion} 엔티티는 행사 테이블({@code events})의 변경 버전을 나타냅니다.
+ *
+ * <p>
+ *     운영 DB에서는 {@code events}의 트리거가 행이 추가·수정·삭제될 때마다 {@code version}을 1 올리고
+ *     {@code changedAt}을 DB 시계(UTC)로 기록합니다({@code V3__add_event_table_version.sql}).
+ *     애플리케이션은 이 값을 읽기만 합니다.
+ * </p>
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "event_table_version", catalog = "event")
+public class EventTableVersion {
+
+    /**
+     * {@code events} 테이블의 버전 행 번호
+     */
+    public static final int EVENTS = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private long version;
+
+    /**
+     * 마지막 변경 일시 (UTC)
+     */
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    public EventTableVersion(long version, LocalDateTime changedAt) {
+        this.id = EVENTS;
+        this.version = version;
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,14 @@
+package com.cu2mber.eventservice.event.dto;
+
+/**
+ * {@code CategoryEventCount}는 카테고리별 행사 개수 집계 결과를 담는 조회 전용 DTO입니다.
+ *
+ * <p>
+ *     {@code EventRepository}의 GROUP BY 집계 쿼리에서 생성자 표현식으로 직접 생성됩니다.
+ * </p>
+ */
+public record CategoryEventCount(
+        Long categoryNo,
+        long eventCount
+) {
+}
@@ -0,0 +1,18 @@
+package com.cu2mber.eventservice.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * {@code EventBatchItem}은 일괄 상세 조회 응답의 한 항목으로, 행사 번호와 상세 정보를 함께 담습니다.
+ *
+ * <p>
+ *     {@link EventDetailResponse}에는 행사 번호가 없으므로, 클라이언트가 요청한 번호와 결과를 짝지을 수 있도록 감쌉니다.
+ * </p>
+ */
+public record EventBatchItem(
+        @Schema(name = "행사번호")
+        Long eventNo,
+        @Schema(name = "행사상세")
+        EventDetailResponse event
+) {
+}
@@ -0,0 +1,18 @@
+package com.cu2mber.eventservice.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * {@code EventBatchRequest}는 여러 행사의 상세 정보를 한 번에 조회하기 위한 요청 DTO입니다.
+ *
+ * <p>
+ *     응답은 {@code eventNos}의 순서를 따르며, 중복된 번호는 처음 위치에 한 번만 포함됩니다.
+ * </p>
+ */
+public record EventBatchRequest(
+        @Schema(name = "행사번호목록")
+        List<Long> eventNos
+) {
+}
@@ -0,0 +1,21 @@
+package com.cu2mber.eventservice.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * {@code EventBatchResponse}는 여러 행사의 상세 정보를 한 번에 조회한 결과를 담는 응답 DTO입니다.
+ *
+ * <p>
+ *     {@code events}는 요청 순서를 따르며, 존재하지 않는 행사 번호는 {@code missingEventNos}에 요청 순서대로 담깁니다.
+ *     일부 번호가 없더라도 요청 전체를 실패시키지 않습니다.
+ * </p>
+ */
+public record EventBatchResponse(
+        @Schema(name = "행사목록")
+        List<EventBatchItem> events,
+        @Schema(name = "존재하지않는행사번호")
+        List<Long> missingEventNos
+) {
+}
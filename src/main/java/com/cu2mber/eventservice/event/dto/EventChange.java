@@ -0,0 +1,62 @@
+package com.cu2mber.eventservice.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * {@code EventChange}는 변경 피드의 한 건으로, 등록되거나 수정된 행사의 현재 상태입니다.
+ *
+ * <p>
+ *     {@code EventRepository.findChangesAfter}의 생성자 표현식이 직접 생성하므로 엔티티가 영속성 컨텍스트에 쌓이지 않습니다.
+ *     클라이언트는 {@code eventNo}를 키로 저장된 행사를 덮어쓰면 되며, {@code createdAt}과 {@code updatedAt}이 같으면 새로 등록된 행사입니다.
+ * </p>
+ */
+public record EventChange(
+        @Schema(name = "행사번호")
+        Long eventNo,
+        @Schema(name = "행정구역")
+        String localDistrict,
+        @Schema(name = "지역이름")
+        String localName,
+        @Schema(name = "축제성격")
+        String categoryName,
+        @Schema(name = "축제이름")
+        String eventTitle,
+        @Schema(name = "주소")
+        String eventAddress,
+        @Schema(name = "개최시작일자")
+        LocalDate eventStartDate,
+        @Schema(name = "개최종료일자")
+        LocalDate eventEndDate,
+        @Schema(name = "운영시작시간")
+        LocalTime eventStartTime,
+        @Schema(name = "운영종료시간")
+        LocalTime eventEndTime,
+        @Schema(name = "관련누리집")
+        String eventUrl,
+        @Schema(name = "축제장소")
+        String eventSpot,
+        @Schema(name = "주최/주관기관")
+        String eventHost,
+        @Schema(name = "문의")
+        String eventInquiry,
+        @Schema(name = "축제설명")
+        String eventDescription,
+        @Schema(name = "축제이미지")
+        String eventImageUrl,
+        @Schema(name = "등록일시")
+        LocalDateTime createdAt,
+        @Schema(name = "수정일시")
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * @return 이 변경 바로 다음부터 읽는 토큰
+     */
+    public EventChangeToken toToken() {
+        return new EventChangeToken(updatedAt, eventNo);
+    }
+}
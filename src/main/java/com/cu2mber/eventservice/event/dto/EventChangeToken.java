@@ -0,0 +1,64 @@
+package com.cu2mber.eventservice.event.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * {@code EventChangeToken}은 변경 피드에서 클라이언트가 마지막으로 받은 변경의 위치(워터마크)를 표현합니다.
+ *
+ * <p>
+ *     변경 피드는 {@code updatedAt ASC, eventNo ASC} 순으로 정렬되므로,
+ *     마지막으로 받은 행의 {@code updatedAt}과 {@code eventNo}만 있으면 다음 변경부터 이어서 읽을 수 있습니다.
+ *     {@link EventCursor}와 같이 클라이언트에는 {@link #encode()}로 만든 불투명(opaque) 문자열만 노출됩니다.
+ * </p>
+ */
+public record EventChangeToken(
+        LocalDateTime updatedAt,
+        Long eventNo
+) {
+
+    /**
+     * 처음 동기화할 때 사용하는 토큰입니다. 모든 행사가 이 위치 이후에 있습니다.
+     */
+    public static final EventChangeToken FIRST = new EventChangeToken(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private static final String DELIMITER = "_";
+
+    /**
+     * 토큰을 URL에 안전한 Base64 문자열로 인코딩합니다.
+     *
+     * @return 인코딩된 토큰 문자열
+     */
+    public String encode() {
+        String raw = updatedAt + DELIMITER + eventNo;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 토큰 문자열을 복원합니다.
+     * 값이 비어 있으면 처음 동기화 토큰({@link #FIRST})을 반환합니다.
+     *
+     * @param token 인코딩된 토큰 문자열
+     * @return 복원된 {@link EventChangeToken}
+     * @throws IllegalArgumentException 토큰 형식이 올바르지 않은 경우
+     */
+    public static EventChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+
+            return new EventChangeToken(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("올바르지 않은 변경 토큰입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.cu2mber.eventservice.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * {@code EventChangesResponse}는 변경 피드 조회 결과를 담는 응답 DTO입니다.
+ *
+ * <p>
+ *     클라이언트는 변경이 없어도 {@code nextToken}을 저장해 두었다가 다음 요청의 {@code since} 파라미터로 그대로 전달합니다.
+ *     {@code hasMore}가 {@code true}면 곧바로 다음 요청을 보내고, {@code false}면 최신 상태이므로 다음 폴링 주기까지 기다립니다.
+ * </p>
+ */
+public record EventChangesResponse(
+        @Schema(name = "변경목록")
+        List<EventChange> changes,
+        @Schema(name = "다음토큰")
+        String nextToken,
+        @Schema(name = "추가변경존재여부")
+        boolean hasMore
+) {
+}
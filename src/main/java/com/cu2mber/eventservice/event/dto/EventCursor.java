@@ -0,0 +1,70 @@
+package com.cu2mber.eventservice.event.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * {@code EventCursor}는 커서(keyset) 기반 페이지네이션에서 마지막으로 조회한 행사의 위치를 표현합니다.
+ *
+ * <p>
+ *     목록은 {@code createdAt DESC, eventNo DESC} 순으로 정렬되므로,
+ *     마지막 행의 {@code createdAt}과 {@code eventNo} 두 값만 있으면
+ *     OFFSET 없이 다음 페이지의 시작 지점을 찾을 수 있습니다.
+ * </p>
+ *
+ * <p>
+ *     클라이언트에는 {@link #encode()}로 만든 불투명(opaque) 문자열만 노출되며,
+ *     다음 요청 시 {@link #decode(String)}로 복원합니다.
+ * </p>
+ */
+public record EventCursor(
+        LocalDateTime createdAt,
+        Long eventNo
+) {
+
+    /**
+     * 첫 페이지 조회에 사용하는 커서입니다.
+     * MariaDB {@code DATETIME}이 표현할 수 있는 최댓값을 사용하여 모든 행이 조건을 만족하도록 합니다.
+     */
+    public static final EventCursor FIRST = new EventCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String DELIMITER = "_";
+
+    /**
+     * 커서를 URL에 안전한 Base64 문자열로 인코딩합니다.
+     *
+     * @return 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + eventNo;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 복원합니다.
+     * 값이 비어 있으면 첫 페이지 커서({@link #FIRST})를 반환합니다.
+     *
+     * @param cursor 인코딩된 커서 문자열
+     * @return 복원된 {@link EventCursor}
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static EventCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+
+            return new EventCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("올바르지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.cu2mber.eventservice.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * {@code EventCursorResponse}는 커서 기반 행사 목록 조회 결과를 담는 응답 DTO입니다.
+ *
+ * <p>
+ *     무한 스크롤 클라이언트는 {@code nextCursor} 값을 다음 요청의 {@code cursor} 파라미터로 그대로 전달합니다.
+ *     더 이상 조회할 행사가 없으면 {@code hasNext}는 {@code false}, {@code nextCursor}는 {@code null}입니다.
+ * </p>
+ */
+public record EventCursorResponse(
+        @Schema(name = "행사목록")
+        List<EventListResponse> content,
+        @Schema(name = "다음커서")
+        String nextCursor,
+        @Schema(name = "다음페이지존재여부")
+        boolean hasNext
+) {
+}
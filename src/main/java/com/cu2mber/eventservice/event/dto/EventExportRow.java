@@ -0,0 +1,32 @@
+package com.cu2mber.eventservice.event.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * {@code EventExportRow}는 전체 행사 내보내기(NDJSON/CSV)의 한 행을 표현하는 조회 전용 DTO입니다.
+ *
+ * <p>
+ *     {@code EventRepository.streamAllForExport()}의 생성자 표현식이 직접 생성하므로 엔티티가 영속성 컨텍스트에 쌓이지 않습니다.
+ *     CSV 헤더는 컴포넌트 이름과 순서를 그대로 사용합니다.
+ * </p>
+ */
+public record EventExportRow(
+        Long eventNo,
+        String localDistrict,
+        String localName,
+        String categoryName,
+        String eventTitle,
+        String eventAddress,
+        LocalDate eventStartDate,
+        LocalDate eventEndDate,
+        LocalTime eventStartTime,
+        LocalTime eventEndTime,
+        String eventUrl,
+        String eventSpot,
+        String eventHost,
+        String eventInquiry,
+        String eventDescription,
+        String eventImageUrl
+) {
+}
@@ -0,0 +1,31 @@
+package com.cu2mber.eventservice.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * {@code EventFacetResponse}는 패싯 조건으로 조회한 행사 목록과 필터 칩별 행사 수를 함께 담는 응답 DTO입니다.
+ *
+ * <p>
+ *     목록은 최신 등록순이며, 칩별 개수는 같은 종류의 조건을 제외한 나머지 조건을 적용한 값입니다.
+ *     예를 들어 카테고리를 하나 선택해도 다른 카테고리 칩에는 그 카테고리로 바꿨을 때의 행사 수가 표시됩니다.
+ * </p>
+ */
+public record EventFacetResponse(
+        @Schema(name = "행사목록")
+        List<EventListResponse> content,
+        @Schema(name = "페이지번호")
+        int page,
+        @Schema(name = "페이지크기")
+        int size,
+        @Schema(name = "전체행사개수")
+        long totalElements,
+        @Schema(name = "카테고리별행사수")
+        List<FacetCount> categories,
+        @Schema(name = "행정구역별행사수")
+        List<FacetCount> districts,
+        @Schema(name = "시작월별행사수")
+        List<FacetCount> months
+) {
+}
@@ -0,0 +1,22 @@
+package com.cu2mber.eventservice.event.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * {@code EventFacetRow}는 패싯 색인({@code EventFacetIndex})에 필요한 행사 필드만 담는 조회 전용 DTO입니다.
+ *
+ * @param eventNo    행사 고유 번호
+ * @param categoryNo 카테고리 번호
+ * @param localNo    지자체 번호
+ * @param startDate  행사 시작일 (시작 월 패싯)
+ * @param createdAt  등록 일시, 목록의 최신 등록순 정렬 키
+ */
+public record EventFacetRow(
+        Long eventNo,
+        Long categoryNo,
+        Short localNo,
+        LocalDate startDate,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,17 @@
+package com.cu2mber.eventservice.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * {@code EventImportError}는 일괄 적재에서 제외된 행과 그 이유입니다.
+ *
+ * @param line   입력 파일의 줄 번호(1부터, CSV는 헤더 포함)
+ * @param reason 제외 이유
+ */
+public record EventImportError(
+        @Schema(name = "줄 번호")
+        long line,
+        @Schema(name = "제외 이유")
+        String reason
+) {
+}
@@ -0,0 +1,39 @@
+package com.cu2mber.eventservice.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * {@code EventImportResult}는 일괄 적재 결과 요약입니다.
+ *
+ * <p>
+ *     {@code received = inserted + updated + unchanged + duplicated + rejected}이며,
+ *     {@code errors}에는 제외된 행 중 앞쪽 일부만 담깁니다.
+ * </p>
+ *
+ * @param received   읽은 행 수
+ * @param inserted   새로 등록한 행사 수
+ * @param updated    자연 키가 같은 기존 행사를 갱신한 수
+ * @param unchanged  기존 행사와 내용이 같아 건너뛴 수
+ * @param duplicated 같은 파일 안에서 뒤에 나온 같은 자연 키의 행으로 대체된 수
+ * @param rejected   검증 또는 저장에 실패해 제외한 행 수
+ * @param errors     제외된 행의 줄 번호와 이유
+ */
+public record EventImportResult(
+        @Schema(name = "읽은 행 수")
+        long received,
+        @Schema(name = "등록 수")
+        long inserted,
+        @Schema(name = "갱신 수")
+        long updated,
+        @Schema(name = "변경 없음")
+        long unchanged,
+        @Schema(name = "파일 내 중복")
+        long duplicated,
+        @Schema(name = "제외 수")
+        long rejected,
+        @Schema(name = "제외된 행")
+        List<EventImportError> errors
+) {
+}
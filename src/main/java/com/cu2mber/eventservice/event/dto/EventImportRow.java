@@ -0,0 +1,32 @@
+package com.cu2mber.eventservice.event.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * {@code EventImportRow}는 일괄 적재(NDJSON/CSV)로 들어온 행사 한 건입니다.
+ *
+ * <p>
+ *     필드 이름은 {@link EventExportRow}와 같으므로 내보내기 파일을 그대로 적재할 수 있으며, 행사 번호 등 다른 필드는 무시합니다.
+ *     지자체와 카테고리는 번호 대신 이름으로 받아 메모리 사전에서 찾습니다.
+ *     (지자체, 행사명, 시작일)이 자연 키이며, 같은 키의 행사가 이미 있으면 새로 만들지 않고 갱신합니다.
+ * </p>
+ */
+public record EventImportRow(
+        String localDistrict,
+        String localName,
+        String categoryName,
+        String eventTitle,
+        String eventAddress,
+        LocalDate eventStartDate,
+        LocalDate eventEndDate,
+        LocalTime eventStartTime,
+        LocalTime eventEndTime,
+        String eventUrl,
+        String eventSpot,
+        String eventHost,
+        String eventInquiry,
+        String eventDescription,
+        String eventImageUrl
+) {
+}
@@ -1,6 +1,7 @@
 package com.cu2mber.eventservice.event.dto;
 
 import com.cu2mber.eventservice.event.domain.Event;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
@@ -23,6 +24,17 @@ import java.time.LocalTime;
  * </p>
  *
  * <p>
+ * 목록 조회 API에서는 {@code EventRepository}의 생성자 표현식이 이 레코드를 직접 생성하므로,
+ * 컴포넌트를 추가하거나 순서를 바꿀 때는 {@code EventRepository.LIST_SELECT}도 함께 수정해야 합니다.
+ * </p>
+ *
+ * <p>
+ * {@code eventDescription}에는 전체 설명 대신 저장 시점에 잘라 둔 요약({@code Event#getEventSummary()})이 담깁니다.
+ * 기존 클라이언트와의 호환을 위해 JSON 필드 이름은 그대로 유지합니다.
+ * 요청에 {@code fields} 파라미터가 있으면 {@value #FILTER_ID} 필터로 지정한 필드만 직렬화합니다.
+ * </p>
+ *
+ * <p>
  * 본 클래스는 {@code record}로 정의되어 있으며, 모든 필드는 자동으로 {@code final}입니다.
  * 따라서 생성 이후 값이 변경되지 않는 **완전한 불변(immutable) 객체**입니다.
  * </p>
@@ -30,12 +42,13 @@ import java.time.LocalTime;
  * @see Event
  * @see #from(Event)
  */
+@JsonFilter(EventListResponse.FILTER_ID)
 public record EventListResponse(
         @Schema(name = "행사번호")
         Long eventNo,
         @Schema(name = "축제이름")
         String eventTitle,
-        @Schema(name = "축제설명")
+        @Schema(name = "축제설명(요약)")
         String eventDescription,
         @Schema(name = "개최지역")
         String eventAddress,
@@ -54,6 +67,11 @@ public record EventListResponse(
 
 ) {
 
+    /**
+     * {@code fields} 파라미터로 직렬화할 필드를 고를 때 사용하는 Jackson 필터 이름입니다.
+     */
+    public static final String FILTER_ID = "eventListFields";
+
     /**
      * {@link Event} 엔티티를 {@code EventListResponse}로 변환합니다.
      *
@@ -74,7 +92,7 @@ public record EventListResponse(
         return new EventListResponse(
                 event.getEventNo(),
                 event.getEventTitle(),
-                event.getEventDescription(),
+                event.getEventSummary(),
                 event.getEventAddress(),
                 event.getEventStartDate(),
                 event.getEventEndDate(),
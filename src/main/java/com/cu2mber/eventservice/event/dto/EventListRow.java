@@ -0,0 +1,46 @@
+package com.cu2mber.eventservice.event.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * {@code EventListRow}는 커서 기반 목록 조회에서 사용하는 조회 전용 DTO입니다.
+ *
+ * <p>
+ *     {@link EventListResponse}의 필드에 다음 커서 생성을 위한 {@code createdAt}을 더한 형태이며,
+ *     클라이언트에는 {@link #toResponse()}로 변환한 값만 전달됩니다.
+ * </p>
+ */
+public record EventListRow(
+        Long eventNo,
+        String eventTitle,
+        String eventDescription,
+        String eventAddress,
+        LocalDate eventStartDate,
+        LocalDate eventEndDate,
+        LocalTime eventStartTime,
+        LocalTime eventEndTime,
+        String eventInquiry,
+        String eventImageUrl,
+        LocalDateTime createdAt
+) {
+    public EventListResponse toResponse() {
+        return new EventListResponse(
+                eventNo,
+                eventTitle,
+                eventDescription,
+                eventAddress,
+                eventStartDate,
+                eventEndDate,
+                eventStartTime,
+                eventEndTime,
+                eventInquiry,
+                eventImageUrl
+        );
+    }
+
+    public EventCursor toCursor() {
+        return new EventCursor(createdAt, eventNo);
+    }
+}
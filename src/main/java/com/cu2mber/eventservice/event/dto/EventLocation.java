@@ -0,0 +1,37 @@
+package com.cu2mber.eventservice.event.dto;
+
+import com.cu2mber.eventservice.event.domain.Event;
+
+/**
+ * {@code EventLocation}은 위치 색인({@code EventGeoIndex})에 필요한 행사 필드만 담는 조회 전용 DTO입니다.
+ *
+ * @param eventNo    행사 고유 번호
+ * @param categoryNo 카테고리 번호
+ * @param localNo    지자체 번호
+ * @param latitude   위도
+ * @param longitude  경도
+ */
+public record EventLocation(
+        Long eventNo,
+        Long categoryNo,
+        Short localNo,
+        Double latitude,
+        Double longitude
+) {
+    public static EventLocation from(Event event) {
+        return new EventLocation(
+                event.getEventNo(),
+                event.getCategory().getCategoryNo(),
+                event.getLocalGov().getLocalNo(),
+                event.getEventLatitude(),
+                event.getEventLongitude()
+        );
+    }
+
+    /**
+     * @return 좌표가 모두 채워져 있으면 {@code true}
+     */
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+}
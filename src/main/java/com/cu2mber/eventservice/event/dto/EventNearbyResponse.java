@@ -0,0 +1,14 @@
+package com.cu2mber.eventservice.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * {@code EventNearbyResponse}는 주변 행사 조회 결과의 한 항목으로, 목록 응답과 기준 좌표로부터의 거리를 함께 담습니다.
+ */
+public record EventNearbyResponse(
+        @Schema(name = "행사")
+        EventListResponse event,
+        @Schema(name = "거리(km)")
+        double distanceKm
+) {
+}
@@ -0,0 +1,32 @@
+package com.cu2mber.eventservice.event.dto;
+
+import com.cu2mber.eventservice.event.domain.Event;
+
+import java.time.LocalDate;
+
+/**
+ * {@code EventPeriod}는 기간 색인({@code EventPeriodIndex})에 필요한 행사 필드만 담는 조회 전용 DTO입니다.
+ *
+ * @param eventNo    행사 고유 번호
+ * @param categoryNo 카테고리 번호
+ * @param localNo    지자체 번호
+ * @param startDate  행사 시작일
+ * @param endDate    행사 종료일, 없으면 시작일 하루만 열리는 행사로 취급합니다.
+ */
+public record EventPeriod(
+        Long eventNo,
+        Long categoryNo,
+        Short localNo,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+    public static EventPeriod from(Event event) {
+        return new EventPeriod(
+                event.getEventNo(),
+                event.getCategory().getCategoryNo(),
+                event.getLocalGov().getLocalNo(),
+                event.getEventStartDate(),
+                event.getEventEndDate()
+        );
+    }
+}
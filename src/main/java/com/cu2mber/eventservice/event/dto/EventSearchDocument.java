@@ -0,0 +1,27 @@
+package com.cu2mber.eventservice.event.dto;
+
+import com.cu2mber.eventservice.event.domain.Event;
+
+/**
+ * {@code EventSearchDocument}는 검색 색인에 필요한 행사 필드만 담는 조회 전용 DTO입니다.
+ *
+ * <p>
+ *     시작 시 전체 색인을 구성할 때 엔티티 대신 생성자 표현식으로 직접 조회하여
+ *     영속성 컨텍스트에 엔티티를 적재하지 않습니다.
+ * </p>
+ */
+public record EventSearchDocument(
+        Long eventNo,
+        String eventTitle,
+        String eventDescription,
+        String eventAddress
+) {
+    public static EventSearchDocument from(Event event) {
+        return new EventSearchDocument(
+                event.getEventNo(),
+                event.getEventTitle(),
+                event.getEventDescription(),
+                event.getEventAddress()
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.cu2mber.eventservice.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * {@code EventSliceResponse}는 COUNT 쿼리 없이 조회한 행사 목록({@link Slice})의 응답 DTO입니다.
+ *
+ * <p>
+ *     {@code hasNext}는 요청한 크기보다 한 건 더 조회하여 판단하며,
+ *     {@code totalElements}는 클라이언트가 요청한 경우에만 주기적으로 갱신되는 개수 캐시에서 채워집니다.
+ *     캐시가 아직 적재되지 않았거나 요청하지 않은 경우 {@code null}입니다.
+ * </p>
+ */
+public record EventSliceResponse(
+        @Schema(name = "행사목록")
+        List<EventListResponse> content,
+        @Schema(name = "페이지번호")
+        int page,
+        @Schema(name = "페이지크기")
+        int size,
+        @Schema(name = "다음페이지존재여부")
+        boolean hasNext,
+        @Schema(name = "전체행사개수(캐시)")
+        Long totalElements
+) {
+    public static EventSliceResponse of(Slice<EventListResponse> slice, Long totalElements) {
+        return new EventSliceResponse(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.hasNext(),
+                totalElements
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.cu2mber.eventservice.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * {@code FacetCount}는 필터 칩 하나(패싯 값)와 해당 조건의 행사 수입니다.
+ *
+ * <p>
+ *     {@code value}는 다음 요청의 조건 파라미터로 그대로 전달하는 값이며, {@code label}은 화면 표시용 이름입니다.
+ * </p>
+ */
+public record FacetCount(
+        @Schema(name = "값")
+        String value,
+        @Schema(name = "표시이름")
+        String label,
+        @Schema(name = "행사수")
+        long count
+) {
+}
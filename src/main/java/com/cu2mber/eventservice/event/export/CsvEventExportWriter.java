@@ -0,0 +1,112 @@
+package com.cu2mber.eventservice.event.export;
+
+import com.cu2mber.eventservice.event.dto.EventExportRow;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+
+/**
+ * {@code CsvEventExportWriter}는 행사를 RFC 4180 형식의 CSV로 기록합니다.
+ *
+ * <p>
+ *     첫 줄은 {@link EventExportRow}의 컴포넌트 이름으로 된 헤더이며, 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 먼저 씁니다.
+ *     쉼표·큰따옴표·줄바꿈이 들어간 값은 큰따옴표로 감싸고 내부 큰따옴표는 두 번 씁니다.
+ * </p>
+ */
+@Component
+public class CsvEventExportWriter implements EventExportWriter {
+
+    private static final char BOM = '\uFEFF';
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private static final String HEADER = Arrays.stream(EventExportRow.class.getRecordComponents())
+            .map(RecordComponent::getName)
+            .collect(Collectors.joining(","));
+
+    @Override
+    public EventExportFormat format() {
+        return EventExportFormat.CSV;
+    }
+
+    @Override
+    public long write(Iterator<EventExportRow> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+
+        writer.write(BOM);
+        writer.write(HEADER);
+        writer.write(LINE_SEPARATOR);
+
+        while (rows.hasNext()) {
+            writeRow(writer, rows.next());
+            count++;
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private void writeRow(Writer writer, EventExportRow row) throws IOException {
+        writeField(writer, row.eventNo(), false);
+        writeField(writer, row.localDistrict(), true);
+        writeField(writer, row.localName(), true);
+        writeField(writer, row.categoryName(), true);
+        writeField(writer, row.eventTitle(), true);
+        writeField(writer, row.eventAddress(), true);
+        writeField(writer, row.eventStartDate(), true);
+        writeField(writer, row.eventEndDate(), true);
+        writeField(writer, row.eventStartTime(), true);
+        writeField(writer, row.eventEndTime(), true);
+        writeField(writer, row.eventUrl(), true);
+        writeField(writer, row.eventSpot(), true);
+        writeField(writer, row.eventHost(), true);
+        writeField(writer, row.eventInquiry(), true);
+        writeField(writer, row.eventDescription(), true);
+        writeField(writer, row.eventImageUrl(), true);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeField(Writer writer, Object value, boolean separator) throws IOException {
+        if (separator) {
+            writer.write(',');
+        }
+        if (value == null) {
+            return;
+        }
+
+        String text = value.toString();
+        if (!needsQuoting(text)) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private boolean needsQuoting(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,68 @@
+package com.cu2mber.eventservice.event.export;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * {@code EventExportFormat}은 행사 내보내기·일괄 적재 형식입니다.
+ */
+public enum EventExportFormat {
+
+    /**
+     * 한 줄에 행사 하나씩 JSON 객체로 기록합니다.
+     */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+
+    /**
+     * 첫 줄에 헤더가 있는 UTF-8 CSV로 기록합니다. 엑셀 호환을 위해 BOM을 포함합니다.
+     */
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    EventExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 요청 파라미터 값(대소문자 무시)으로 형식을 찾습니다.
+     *
+     * @param value {@code ndjson} 또는 {@code csv}
+     * @return 해당 형식
+     * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+     */
+    public static EventExportFormat from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+
+    /**
+     * 요청 본문의 미디어 타입으로 형식을 찾습니다. {@code charset} 등 파라미터는 무시합니다.
+     *
+     * @param mediaType 요청의 {@code Content-Type}
+     * @return 해당 형식
+     * @throws IllegalArgumentException 지원하지 않는 미디어 타입인 경우
+     */
+    public static EventExportFormat from(MediaType mediaType) {
+        for (EventExportFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 미디어 타입입니다: " + mediaType);
+    }
+}
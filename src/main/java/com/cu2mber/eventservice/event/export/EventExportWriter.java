@@ -0,0 +1,32 @@
+package com.cu2mber.eventservice.event.export;
+
+import com.cu2mber.eventservice.event.dto.EventExportRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * {@code EventExportWriter}는 내보내기 행을 특정 형식으로 출력 스트림에 기록합니다.
+ *
+ * <p>
+ *     구현체는 행을 하나씩 기록하고 보관하지 않아야 합니다. 그래야 행 수와 관계없이 일정한 메모리로 내보낼 수 있습니다.
+ * </p>
+ */
+public interface EventExportWriter {
+
+    /**
+     * @return 이 구현체가 기록하는 형식
+     */
+    EventExportFormat format();
+
+    /**
+     * 행을 순서대로 기록합니다. 출력 스트림은 닫지 않습니다.
+     *
+     * @param rows 내보낼 행
+     * @param out  출력 스트림
+     * @return 기록한 행 수
+     * @throws IOException 출력 중 오류가 발생한 경우 (클라이언트 연결 종료 등)
+     */
+    long write(Iterator<EventExportRow> rows, OutputStream out) throws IOException;
+}
@@ -0,0 +1,55 @@
+package com.cu2mber.eventservice.event.export;
+
+import com.cu2mber.eventservice.event.dto.EventExportRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * {@code NdjsonEventExportWriter}는 행사를 한 줄에 하나씩 JSON 객체로 기록합니다(NDJSON).
+ *
+ * <p>
+ *     {@link SequenceWriter}로 같은 생성기를 재사용하며, 행마다 flush하지 않고 서블릿 출력 버퍼가 찰 때만 전송합니다.
+ * </p>
+ */
+@Component
+public class NdjsonEventExportWriter implements EventExportWriter {
+
+    private final ObjectWriter writer;
+
+    public NdjsonEventExportWriter(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(EventExportRow.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public EventExportFormat format() {
+        return EventExportFormat.NDJSON;
+    }
+
+    @Override
+    public long write(Iterator<EventExportRow> rows, OutputStream out) throws IOException {
+        long count = 0;
+
+        try (SequenceWriter sequence = writer.writeValues(out)) {
+            while (rows.hasNext()) {
+                sequence.write(rows.next());
+                count++;
+            }
+        }
+
+        if (count > 0) {
+            out.write('\n');
+        }
+        return count;
+    }
+}
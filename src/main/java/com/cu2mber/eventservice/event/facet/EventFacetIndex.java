@@ -0,0 +1,154 @@
+package com.cu2mber.eventservice.event.facet;
+
+import com.cu2mber.eventservice.event.domain.Event;
+import com.cu2mber.eventservice.event.domain.EventChangedEvent;
+import com.cu2mber.eventservice.event.dto.EventFacetRow;
+import com.cu2mber.eventservice.event.index.EventIndexRebuilder;
+import com.cu2mber.eventservice.event.repository.EventRepository;
+import com.cu2mber.eventservice.localgov.cache.LocalGovDictionary;
+import com.cu2mber.eventservice.localgov.dto.LocalGovResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@code EventFacetIndex}는 카테고리·행정구역·시작 월 패싯을 비트맵({@link FacetBitmaps})으로 메모리에 유지합니다.
+ *
+ * <p>
+ *     목록 화면의 필터 칩마다 {@code COUNT} 쿼리를 보내는 대신, 조건 조합은 비트맵 교집합으로,
+ *     칩별 개수는 교집합의 크기로 계산합니다. 데이터베이스는 결과 페이지를 기본 키로 조회할 때만 사용합니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>애플리케이션 시작 시({@link ApplicationReadyEvent}) 전체 행사를 읽어 구성합니다.</li>
+ *   <li>{@link EventChangedEvent}를 받으면 해당 행사의 비트만 갱신합니다(증분 유지).
+ *       기간 색인과 달리 재구성 없이 바로 반영되므로 쓰기 잠금 시간은 비트 몇 개를 바꾸는 동안뿐입니다.</li>
+ *   <li>엔티티 이벤트가 없는 변경(다른 인스턴스, 벌크 갱신, 직접 SQL)과 삭제는
+ *       {@code event.index.rebuild-interval} 주기의 전체 재구성으로 반영합니다({@link EventIndexRebuilder}).</li>
+ *   <li>삭제로 버려진 순번이 쌓이거나 등록 순서가 어긋나면 쓰기 직후 {@link FacetBitmaps#compact()}로 순번을 다시 매깁니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventFacetIndex {
+
+    private final EventRepository eventRepository;
+    private final LocalGovDictionary localGovDictionary;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final EventIndexRebuilder rebuilder = new EventIndexRebuilder(lock.writeLock());
+
+    private FacetBitmaps bitmaps = new FacetBitmaps();
+
+    /**
+     * 전체 행사를 다시 읽어 패싯 색인을 재구성합니다. 순번은 (등록 일시, 행사 번호) 순서로 매깁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${event.index.rebuild-interval:PT5M}",
+            fixedDelayString = "${event.index.rebuild-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        boolean rebuilt = rebuilder.rebuild(
+                () -> {
+                    FacetBitmaps loaded = new FacetBitmaps();
+                    eventRepository.findAllFacetRows().stream()
+                            .sorted(Comparator.comparing(EventFacetRow::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                                    .thenComparing(EventFacetRow::eventNo))
+                            .forEach(row -> loaded.put(row.eventNo(), row.createdAt(),
+                                    values(row.categoryNo(), row.localNo(), row.startDate())));
+                    return loaded;
+                },
+                this::apply,
+                loaded -> {
+                    bitmaps = loaded;
+                    compactIfNeeded();
+                });
+
+        if (rebuilt) {
+            log.info("[rebuild] 패싯 색인 구성 완료 - 행사 수: {}, 소요 시간: {}ms",
+                    size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 커밋된 행사 변경 사항을 색인에 바로 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent changed) {
+        rebuilder.apply(changed, event -> {
+            apply(bitmaps, event);
+            compactIfNeeded();
+        });
+    }
+
+    /**
+     * 조건에 맞는 행사 페이지와 패싯별 개수를 조회합니다.
+     *
+     * @param filter 선택 조건
+     * @param offset 건너뛸 행사 수
+     * @param limit  반환할 최대 행사 수
+     * @return 조회 결과
+     */
+    public FacetResult search(FacetFilter filter, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return bitmaps.query(filter, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(FacetBitmaps target, EventChangedEvent changed) {
+        Event event = changed.event();
+
+        if (changed.type() == EventChangedEvent.Type.DELETED) {
+            target.remove(event.getEventNo());
+        } else {
+            target.put(event.getEventNo(), event.getCreatedAt(),
+                    values(event.getCategory().getCategoryNo(), event.getLocalGov().getLocalNo(), event.getEventStartDate()));
+        }
+    }
+
+    /**
+     * 쓰기 잠금을 잡은 상태에서 호출해야 합니다.
+     */
+    private void compactIfNeeded() {
+        if (bitmaps.needsCompaction()) {
+            int allocated = bitmaps.allocated();
+            bitmaps = bitmaps.compact();
+            log.debug("[compact] 패싯 색인 순번 정리 - 순번 수: {} -> {}", allocated, bitmaps.allocated());
+        }
+    }
+
+    private FacetValues values(Long categoryNo, Short localNo, LocalDate startDate) {
+        String localDistrict = localNo == null ? null
+                : localGovDictionary.find(localNo).map(LocalGovResponse::localDistrict).orElse(null);
+        YearMonth month = startDate == null ? null : YearMonth.from(startDate);
+
+        return new FacetValues(categoryNo, localDistrict, month);
+    }
+}
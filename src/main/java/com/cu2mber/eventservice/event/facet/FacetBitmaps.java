@@ -0,0 +1,251 @@
+package com.cu2mber.eventservice.event.facet;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * {@code FacetBitmaps}는 패싯 값마다 해당 행사의 순번(ordinal)을 {@link BitSet}으로 보관하는 패싯 색인입니다.
+ *
+ * <p>
+ *     행사는 추가된 순서대로 순번을 받으며, 조건 조합은 비트맵 교집합으로, 패싯별 개수는 교집합의 {@link BitSet#cardinality()}로 계산합니다.
+ *     순번이 (등록 일시, 행사 번호) 순서와 같도록 유지하여, 순번 역순이 커서 목록과 같은 최신 등록순이 되게 합니다.
+ *     행사 번호는 시퀀스를 블록 단위로 받아 인스턴스마다 번호 순서와 등록 순서가 어긋나므로 정렬 키로 쓰지 않습니다.
+ * </p>
+ *
+ * <p>
+ *     삭제된 행사의 순번은 {@code live}에서 지워지고 바로 재사용하지 않습니다.
+ *     버려진 순번이 늘어나거나 등록 일시가 앞선 행사가 뒤늦게 추가되면 {@link #needsCompaction()}이 참이 되고,
+ *     {@link #compact()}로 살아 있는 행사만 정렬해 순번을 다시 매깁니다.
+ * </p>
+ *
+ * <p>
+ *     이 클래스는 스레드 안전하지 않습니다. {@link EventFacetIndex}가 읽기/쓰기 잠금으로 보호합니다.
+ * </p>
+ */
+final class FacetBitmaps {
+
+    private static final BitSet EMPTY = new BitSet();
+
+    /**
+     * 살아 있는 행사 수와 관계없이 이만큼의 버려진 순번은 정리하지 않습니다.
+     */
+    private static final int MIN_GARBAGE = 1024;
+
+    private static final Comparator<LocalDateTime> CREATED_AT_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private long[] eventNos = new long[1024];
+    private LocalDateTime[] createdAts = new LocalDateTime[1024];
+    private FacetValues[] values = new FacetValues[1024];
+    private int next;
+    private boolean ordered = true;
+
+    private final BitSet live = new BitSet();
+    private final Map<Long, BitSet> categories = new HashMap<>();
+    private final Map<String, BitSet> districts = new HashMap<>();
+    private final Map<YearMonth, BitSet> months = new HashMap<>();
+
+    int size() {
+        return live.cardinality();
+    }
+
+    /**
+     * @return 지금까지 배정한 순번 수 (삭제로 버려진 순번 포함)
+     */
+    int allocated() {
+        return next;
+    }
+
+    /**
+     * 행사를 추가하거나, 이미 있으면 패싯 값을 바꿉니다.
+     *
+     * @param eventNo     행사 번호
+     * @param createdAt   등록 일시, 순번 정렬 키
+     * @param facetValues 패싯 값
+     */
+    void put(long eventNo, LocalDateTime createdAt, FacetValues facetValues) {
+        Integer existing = ordinals.get(eventNo);
+        int ordinal;
+
+        if (existing != null) {
+            ordinal = existing;
+            unindex(ordinal);
+            if (CREATED_AT_ORDER.compare(createdAts[ordinal], createdAt) != 0) {
+                ordered = false;
+            }
+        } else {
+            if (next > 0 && compare(createdAt, eventNo, next - 1) < 0) {
+                ordered = false;
+            }
+            ordinal = next++;
+            ensureCapacity(next);
+            ordinals.put(eventNo, ordinal);
+            eventNos[ordinal] = eventNo;
+        }
+
+        createdAts[ordinal] = createdAt;
+        values[ordinal] = facetValues;
+        live.set(ordinal);
+        set(categories, facetValues.categoryNo(), ordinal);
+        set(districts, facetValues.localDistrict(), ordinal);
+        set(months, facetValues.month(), ordinal);
+    }
+
+    /**
+     * 행사를 제거합니다.
+     */
+    void remove(long eventNo) {
+        Integer ordinal = ordinals.remove(eventNo);
+        if (ordinal != null) {
+            unindex(ordinal);
+            values[ordinal] = null;
+        }
+    }
+
+    /**
+     * @return 버려진 순번이 살아 있는 행사 수(최소 {@value #MIN_GARBAGE})보다 많거나, 순번이 등록 순서와 어긋났으면 {@code true}
+     */
+    boolean needsCompaction() {
+        int garbage = next - size();
+        return !ordered || garbage > Math.max(MIN_GARBAGE, size());
+    }
+
+    /**
+     * 살아 있는 행사만 (등록 일시, 행사 번호) 순서로 다시 추가한 새 색인을 반환합니다. 이 색인은 바뀌지 않습니다.
+     *
+     * @return 순번을 다시 매긴 색인
+     */
+    FacetBitmaps compact() {
+        List<Integer> alive = new ArrayList<>(size());
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+            alive.add(ordinal);
+        }
+        alive.sort((left, right) -> compare(createdAts[left], eventNos[left], right));
+
+        FacetBitmaps compacted = new FacetBitmaps();
+        for (int ordinal : alive) {
+            compacted.put(eventNos[ordinal], createdAts[ordinal], values[ordinal]);
+        }
+        return compacted;
+    }
+
+    /**
+     * 조건에 맞는 행사와 패싯별 개수를 계산합니다.
+     *
+     * @param filter 선택 조건
+     * @param offset 건너뛸 행사 수
+     * @param limit  반환할 최대 행사 수
+     * @return 조회 결과
+     */
+    FacetResult query(FacetFilter filter, long offset, int limit) {
+        BitSet byCategory = filter.categoryNo() == null ? live : categories.getOrDefault(filter.categoryNo(), EMPTY);
+        BitSet byDistrict = filter.localDistrict() == null ? live : districts.getOrDefault(filter.localDistrict(), EMPTY);
+        BitSet byMonth = filter.month() == null ? live : months.getOrDefault(filter.month(), EMPTY);
+
+        BitSet matched = and(byCategory, byDistrict, byMonth);
+
+        return new FacetResult(
+                page(matched, offset, limit),
+                matched.cardinality(),
+                count(categories, and(byDistrict, byMonth)),
+                count(districts, and(byCategory, byMonth)),
+                count(months, and(byCategory, byDistrict)));
+    }
+
+    private void unindex(int ordinal) {
+        FacetValues old = values[ordinal];
+        live.clear(ordinal);
+        if (old != null) {
+            clear(categories, old.categoryNo(), ordinal);
+            clear(districts, old.localDistrict(), ordinal);
+            clear(months, old.month(), ordinal);
+        }
+    }
+
+    /**
+     * 최신 순번(가장 최근에 등록된 행사)부터 {@code offset}만큼 건너뛰고 최대 {@code limit}개를 반환합니다.
+     */
+    private List<Long> page(BitSet matched, long offset, int limit) {
+        List<Long> result = new ArrayList<>(Math.min(limit, 64));
+        long skipped = 0;
+
+        for (int ordinal = matched.previousSetBit(next - 1); ordinal >= 0 && result.size() < limit;
+             ordinal = matched.previousSetBit(ordinal - 1)) {
+            if (skipped++ < offset) {
+                continue;
+            }
+            result.add(eventNos[ordinal]);
+        }
+        return result;
+    }
+
+    /**
+     * (등록 일시, 행사 번호)를 순번 {@code ordinal}의 행사와 비교합니다.
+     */
+    private int compare(LocalDateTime createdAt, long eventNo, int ordinal) {
+        int byCreatedAt = CREATED_AT_ORDER.compare(createdAt, createdAts[ordinal]);
+        return byCreatedAt != 0 ? byCreatedAt : Long.compare(eventNo, eventNos[ordinal]);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > eventNos.length) {
+            int grown = Math.max(capacity, eventNos.length * 2);
+            eventNos = Arrays.copyOf(eventNos, grown);
+            createdAts = Arrays.copyOf(createdAts, grown);
+            values = Arrays.copyOf(values, grown);
+        }
+    }
+
+    private static <K> void set(Map<K, BitSet> bitmaps, K key, int ordinal) {
+        if (key != null) {
+            bitmaps.computeIfAbsent(key, ignored -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private static <K> void clear(Map<K, BitSet> bitmaps, K key, int ordinal) {
+        if (key == null) {
+            return;
+        }
+        BitSet bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.clear(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static BitSet and(BitSet first, BitSet... others) {
+        BitSet result = (BitSet) first.clone();
+        for (BitSet other : others) {
+            result.and(other);
+        }
+        return result;
+    }
+
+    private static <K extends Comparable<K>> SortedMap<K, Long> count(Map<K, BitSet> bitmaps, BitSet base) {
+        SortedMap<K, Long> counts = new TreeMap<>();
+        BitSet intersection = new BitSet();
+
+        for (Map.Entry<K, BitSet> entry : bitmaps.entrySet()) {
+            intersection.clear();
+            intersection.or(entry.getValue());
+            intersection.and(base);
+
+            int count = intersection.cardinality();
+            if (count > 0) {
+                counts.put(entry.getKey(), (long) count);
+            }
+        }
+        return counts;
+    }
+}
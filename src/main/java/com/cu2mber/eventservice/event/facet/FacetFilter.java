@@ -0,0 +1,13 @@
+package com.cu2mber.eventservice.event.facet;
+
+import java.time.YearMonth;
+
+/**
+ * {@code FacetFilter}는 패싯 조회의 선택 조건입니다. {@code null}인 항목은 조건을 적용하지 않습니다.
+ *
+ * @param categoryNo    카테고리 번호
+ * @param localDistrict 행정구역 (예: {@code 경상남도})
+ * @param month         행사 시작 월
+ */
+public record FacetFilter(Long categoryNo, String localDistrict, YearMonth month) {
+}
@@ -0,0 +1,28 @@
+package com.cu2mber.eventservice.event.facet;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * {@code FacetResult}는 패싯 조회 결과입니다.
+ *
+ * <p>
+ *     패싯별 개수는 해당 패싯을 제외한 나머지 조건만 적용한 값입니다.
+ *     예를 들어 카테고리를 선택해도 카테고리 개수는 다른 카테고리로 바꿨을 때의 결과 수를 보여 줍니다.
+ * </p>
+ *
+ * @param eventNos   요청한 범위의 행사 번호 (최신 등록순)
+ * @param total      조건에 맞는 전체 행사 수
+ * @param categories 카테고리 번호별 행사 수
+ * @param districts  행정구역별 행사 수
+ * @param months     시작 월별 행사 수
+ */
+public record FacetResult(
+        List<Long> eventNos,
+        long total,
+        SortedMap<Long, Long> categories,
+        SortedMap<String, Long> districts,
+        SortedMap<YearMonth, Long> months
+) {
+}
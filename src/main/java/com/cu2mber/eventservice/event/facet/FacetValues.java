@@ -0,0 +1,13 @@
+package com.cu2mber.eventservice.event.facet;
+
+import java.time.YearMonth;
+
+/**
+ * {@code FacetValues}는 행사 한 건이 속한 패싯 값입니다.
+ *
+ * @param categoryNo    카테고리 번호
+ * @param localDistrict 행정구역, 지자체를 찾지 못하면 {@code null}
+ * @param month         행사 시작 월, 시작일이 없으면 {@code null}
+ */
+record FacetValues(Long categoryNo, String localDistrict, YearMonth month) {
+}
@@ -0,0 +1,22 @@
+package com.cu2mber.eventservice.event.feed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * {@code EventChangeFeedProperties}는 행사 변경 피드({@code GET /api/events/changes})의 설정값입니다.
+ *
+ * @param safetyLag 피드에 포함하지 않는 최근 구간의 길이.
+ *                  {@code updatedAt}은 커밋이 아니라 flush 시점의 시각이므로, 늦게 커밋된 트랜잭션의 변경이
+ *                  이미 지나간 워터마크 뒤에 나타나지 않도록 이 시간보다 오래된 변경만 내려줍니다.
+ *                  가장 긴 쓰기 트랜잭션보다 길게 둡니다.
+ * @param maxSize   한 번에 내려주는 최대 변경 수
+ */
+@ConfigurationProperties(prefix = "event.changes")
+public record EventChangeFeedProperties(
+        @DefaultValue("5s") Duration safetyLag,
+        @DefaultValue("500") int maxSize
+) {
+}
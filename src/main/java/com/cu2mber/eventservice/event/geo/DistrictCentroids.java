@@ -0,0 +1,108 @@
+package com.cu2mber.eventservice.event.geo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@code DistrictCentroids}는 지자체(행정구역·지역이름)별 대표 좌표 표입니다.
+ *
+ * <p>
+ *     외부 지오코딩 API 없이 행사 좌표를 채우기 위해 {@code geo/district-centroids.csv}를 시작 시 한 번 읽어 둡니다.
+ *     시·군·구 좌표가 없으면 시·도 좌표를 사용하며, 개편 전 행정구역 이름({@code 강원도}, {@code 전라북도})도 현재 이름으로 찾습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class DistrictCentroids {
+
+    static final String LOCATION = "geo/district-centroids.csv";
+
+    private static final Map<String, String> DISTRICT_ALIASES = Map.of(
+            "강원도", "강원특별자치도",
+            "전라북도", "전북특별자치도",
+            "제주도", "제주특별자치도",
+            "세종시", "세종특별자치시"
+    );
+
+    private final Map<String, GeoPoint> centroids;
+
+    public DistrictCentroids() {
+        this(new ClassPathResource(LOCATION));
+    }
+
+    DistrictCentroids(Resource resource) {
+        this.centroids = load(resource);
+        log.debug("[DistrictCentroids] 지자체 좌표 적재 - 항목 수: {}", centroids.size());
+    }
+
+    /**
+     * 지자체의 대표 좌표를 찾습니다.
+     *
+     * @param localDistrict 행정구역 (예: {@code 경상남도})
+     * @param localName     지역이름 (예: {@code 진주시}), 없으면 {@code null}
+     * @return 시·군·구 좌표, 없으면 시·도 좌표, 둘 다 없으면 빈 {@link Optional}
+     */
+    public Optional<GeoPoint> locate(String localDistrict, String localName) {
+        if (localDistrict == null) {
+            return Optional.empty();
+        }
+
+        String district = DISTRICT_ALIASES.getOrDefault(localDistrict.strip(), localDistrict.strip());
+        if (localName != null && !localName.isBlank()) {
+            GeoPoint point = centroids.get(key(district, localName.strip()));
+            if (point != null) {
+                return Optional.of(point);
+            }
+        }
+        return Optional.ofNullable(centroids.get(key(district, "")));
+    }
+
+    public int size() {
+        return centroids.size();
+    }
+
+    private static Map<String, GeoPoint> load(Resource resource) {
+        Map<String, GeoPoint> loaded = new HashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            boolean header = true;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                if (header) {
+                    header = false;
+                    continue;
+                }
+
+                String[] columns = line.split(",", -1);
+                if (columns.length != 4) {
+                    throw new IllegalStateException("지자체 좌표 형식이 올바르지 않습니다: " + line);
+                }
+                loaded.put(key(columns[0].strip(), columns[1].strip()),
+                        new GeoPoint(Double.parseDouble(columns[2]), Double.parseDouble(columns[3])));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("지자체 좌표 파일을 읽을 수 없습니다: " + resource, e);
+        }
+
+        return Map.copyOf(loaded);
+    }
+
+    private static String key(String localDistrict, String localName) {
+        return localDistrict + '|' + localName;
+    }
+}
@@ -0,0 +1,10 @@
+package com.cu2mber.eventservice.event.geo;
+
+/**
+ * {@code EventDistance}는 기준 좌표로부터 행사까지의 거리입니다.
+ *
+ * @param eventNo    행사 고유 번호
+ * @param distanceKm 거리(km)
+ */
+public record EventDistance(Long eventNo, double distanceKm) {
+}
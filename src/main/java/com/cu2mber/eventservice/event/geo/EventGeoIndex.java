@@ -0,0 +1,128 @@
+package com.cu2mber.eventservice.event.geo;
+
+import com.cu2mber.eventservice.event.domain.EventChangedEvent;
+import com.cu2mber.eventservice.event.dto.EventLocation;
+import com.cu2mber.eventservice.event.index.EventIndexRebuilder;
+import com.cu2mber.eventservice.event.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code EventGeoIndex}는 행사 좌표를 메모리 격자({@link GeoGridIndex})에 색인하여 주변 행사 조회를 처리합니다.
+ *
+ * <p>
+ *     {@code EventPeriodIndex}와 같은 방식으로 시작 시 전체 좌표를 읽어 구성하고,
+ *     {@link EventChangedEvent}를 받으면 변경 내용을 기록해 두었다가 다음 조회 시 한 번만 재구성합니다.
+ *     엔티티 이벤트가 없는 변경과 삭제는 {@code event.index.rebuild-interval} 주기의 전체 재구성으로 반영합니다.
+ *     시작 시에는 {@link EventLocationBackfill}이 비어 있는 좌표를 채운 뒤에 구성됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventGeoIndex {
+
+    private final EventRepository eventRepository;
+
+    private final Lock lock = new ReentrantLock();
+
+    private final EventIndexRebuilder rebuilder = new EventIndexRebuilder(lock);
+
+    /**
+     * 행사 번호별 좌표입니다. {@link #lock}으로 보호됩니다.
+     */
+    private Map<Long, EventLocation> locations = new HashMap<>();
+
+    private volatile GeoGridIndex index = GeoGridIndex.EMPTY;
+
+    private volatile boolean dirty;
+
+    /**
+     * 전체 행사 좌표를 다시 읽어 색인을 재구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${event.index.rebuild-interval:PT5M}",
+            fixedDelayString = "${event.index.rebuild-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        boolean rebuilt = rebuilder.rebuild(
+                () -> {
+                    Map<Long, EventLocation> loaded = new HashMap<>();
+                    eventRepository.findAllLocations().forEach(location -> loaded.put(location.eventNo(), location));
+                    return loaded;
+                },
+                EventGeoIndex::apply,
+                loaded -> {
+                    locations = loaded;
+                    dirty = true;
+                });
+
+        if (rebuilt) {
+            log.info("[rebuild] 위치 색인 구성 완료 - 행사 수: {}, 소요 시간: {}ms",
+                    current().size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 커밋된 행사 변경 사항을 기록합니다. 색인은 다음 조회 시 재구성됩니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent changed) {
+        rebuilder.apply(changed, event -> {
+            apply(locations, event);
+            dirty = true;
+        });
+    }
+
+    /**
+     * 기준 좌표에서 반경 안에 있는 행사를 거리 오름차순으로 조회합니다.
+     *
+     * @param center     기준 좌표
+     * @param radiusKm   반경(km)
+     * @param categoryNo 카테고리 번호, {@code null}이면 전체
+     * @param localNo    지자체 번호, {@code null}이면 전체
+     * @return 반경 안의 행사 번호와 거리 목록
+     */
+    public List<EventDistance> findNearby(GeoPoint center, double radiusKm, Long categoryNo, Short localNo) {
+        return current().nearby(center, radiusKm, categoryNo, localNo);
+    }
+
+    private GeoGridIndex current() {
+        if (dirty) {
+            lock.lock();
+            try {
+                if (dirty) {
+                    dirty = false;
+                    index = GeoGridIndex.of(locations.values());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return index;
+    }
+
+    private static void apply(Map<Long, EventLocation> target, EventChangedEvent changed) {
+        Long eventNo = changed.event().getEventNo();
+
+        if (changed.type() == EventChangedEvent.Type.DELETED) {
+            target.remove(eventNo);
+        } else {
+            target.put(eventNo, EventLocation.from(changed.event()));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.cu2mber.eventservice.event.geo;
+
+import com.cu2mber.eventservice.event.repository.EventRepository;
+import com.cu2mber.eventservice.localgov.domain.LocalGov;
+import com.cu2mber.eventservice.localgov.repository.LocalGovRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * {@code EventLocationBackfill}은 좌표가 비어 있는 행사에 지자체 대표 좌표를 채웁니다.
+ *
+ * <p>
+ *     좌표 컬럼이 추가되기 전에 등록된 행사를 위해 시작 시 한 번 실행되며, {@link EventGeoIndex}보다 먼저 실행됩니다.
+ *     지자체마다 {@code UPDATE} 한 번으로 처리하고 이미 좌표가 있는 행사는 건드리지 않으므로 재시작 시에는 거의 비용이 없습니다.
+ *     새로 저장되는 행사는 {@code EventLocationListener}가 저장 시점에 채웁니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventLocationBackfill {
+
+    private final LocalGovRepository localGovRepository;
+    private final EventRepository eventRepository;
+    private final DistrictCentroids districtCentroids;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int updated = 0;
+        int unmatched = 0;
+
+        for (LocalGov localGov : localGovRepository.findAll()) {
+            Optional<GeoPoint> centroid = districtCentroids.locate(localGov.getLocalDistrict(), localGov.getLocalName());
+            if (centroid.isEmpty()) {
+                unmatched++;
+                continue;
+            }
+
+            updated += eventRepository.assignLocationByLocalNo(
+                    localGov.getLocalNo(), centroid.get().latitude(), centroid.get().longitude());
+        }
+
+        if (updated > 0 || unmatched > 0) {
+            log.info("[backfill] 행사 좌표 채우기 완료 - 갱신 행사 수: {}, 좌표 없는 지자체 수: {}", updated, unmatched);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.cu2mber.eventservice.event.geo;
+
+import com.cu2mber.eventservice.event.dto.EventLocation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@code GeoGridIndex}는 행사 좌표를 위도·경도 격자({@value #CELL_DEGREES}도, 약 11km) 셀로 나누어 보관하는 불변 공간 색인입니다.
+ *
+ * <p>
+ *     셀 번호는 {@code (위도 행 << 32) | 경도 열}로 만들고 행사를 셀 번호 순으로 정렬해 둡니다.
+ *     같은 위도 행에서 인접한 경도 열의 셀 번호는 연속되므로, 반경을 감싸는 사각형의 각 행마다
+ *     이진 탐색 한 번으로 후보 구간을 찾고 haversine 거리로 반경 밖 후보를 거릅니다.
+ * </p>
+ *
+ * <p>
+ *     행사는 기본형 배열로 보관하며, 결과는 거리 오름차순(같으면 행사 번호 오름차순)입니다.
+ *     서비스 대상이 국내이므로 날짜 변경선을 넘는 반경은 고려하지 않습니다.
+ * </p>
+ */
+final class GeoGridIndex {
+
+    static final double CELL_DEGREES = 0.1;
+
+    static final GeoGridIndex EMPTY = of(List.of());
+
+    private static final double KM_PER_DEGREE = Math.toRadians(GeoPoint.EARTH_RADIUS_KM);
+
+    private static final Comparator<EventDistance> BY_DISTANCE =
+            Comparator.comparingDouble(EventDistance::distanceKm).thenComparing(EventDistance::eventNo);
+
+    private final long[] cells;
+    private final long[] eventNos;
+    private final long[] categoryNos;
+    private final short[] localNos;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    private GeoGridIndex(List<EventLocation> sorted) {
+        int size = sorted.size();
+
+        this.cells = new long[size];
+        this.eventNos = new long[size];
+        this.categoryNos = new long[size];
+        this.localNos = new short[size];
+        this.latitudes = new double[size];
+        this.longitudes = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            EventLocation location = sorted.get(i);
+            cells[i] = cellOf(location.latitude(), location.longitude());
+            eventNos[i] = location.eventNo();
+            categoryNos[i] = location.categoryNo();
+            localNos[i] = location.localNo();
+            latitudes[i] = location.latitude();
+            longitudes[i] = location.longitude();
+        }
+    }
+
+    /**
+     * 좌표가 있는 행사로 색인을 구성합니다.
+     *
+     * @param locations 행사 위치 목록 (좌표가 없는 항목은 제외됩니다)
+     * @return 구성된 색인
+     */
+    static GeoGridIndex of(Collection<EventLocation> locations) {
+        List<EventLocation> sorted = new ArrayList<>(locations.size());
+        for (EventLocation location : locations) {
+            if (location.hasCoordinates()) {
+                sorted.add(location);
+            }
+        }
+        sorted.sort(Comparator.comparingLong((EventLocation location) -> cellOf(location.latitude(), location.longitude()))
+                .thenComparing(EventLocation::eventNo));
+
+        return new GeoGridIndex(sorted);
+    }
+
+    int size() {
+        return eventNos.length;
+    }
+
+    /**
+     * 기준 좌표에서 반경 안에 있는 행사를 거리 오름차순으로 조회합니다.
+     *
+     * @param center     기준 좌표
+     * @param radiusKm   반경(km)
+     * @param categoryNo 카테고리 번호, {@code null}이면 전체
+     * @param localNo    지자체 번호, {@code null}이면 전체
+     * @return 반경 안의 행사와 거리 목록
+     */
+    List<EventDistance> nearby(GeoPoint center, double radiusKm, Long categoryNo, Short localNo) {
+        List<EventDistance> result = new ArrayList<>();
+        if (cells.length == 0) {
+            return result;
+        }
+
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(-90, center.latitude() - latSpan);
+        double maxLat = Math.min(90, center.latitude() + latSpan);
+
+        double cos = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        double lngSpan = cos <= 1e-9 ? 360 : radiusKm / (KM_PER_DEGREE * cos);
+        double minLng = Math.max(-180, center.longitude() - lngSpan);
+        double maxLng = Math.min(180, center.longitude() + lngSpan);
+
+        int fromRow = row(minLat);
+        int toRow = row(maxLat);
+        int fromColumn = column(minLng);
+        int toColumn = column(maxLng);
+
+        for (int row = fromRow; row <= toRow; row++) {
+            int from = lowerBound(cell(row, fromColumn));
+            int to = lowerBound(cell(row, toColumn) + 1);
+
+            for (int i = from; i < to; i++) {
+                if (categoryNo != null && categoryNos[i] != categoryNo) {
+                    continue;
+                }
+                if (localNo != null && localNos[i] != localNo) {
+                    continue;
+                }
+
+                double distance = GeoPoint.distanceKm(center.latitude(), center.longitude(), latitudes[i], longitudes[i]);
+                if (distance <= radiusKm) {
+                    result.add(new EventDistance(eventNos[i], distance));
+                }
+            }
+        }
+
+        result.sort(BY_DISTANCE);
+        return result;
+    }
+
+    /**
+     * 셀 번호가 {@code cell} 이상인 첫 위치를 찾습니다.
+     */
+    private int lowerBound(long cell) {
+        int lo = 0;
+        int hi = cells.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cells[mid] < cell) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    static long cellOf(double latitude, double longitude) {
+        return cell(row(latitude), column(longitude));
+    }
+
+    private static long cell(int row, int column) {
+        return ((long) row << 32) | column;
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+}
@@ -0,0 +1,44 @@
+package com.cu2mber.eventservice.event.geo;
+
+/**
+ * {@code GeoPoint}는 WGS84 위도·경도 좌표입니다.
+ *
+ * @param latitude  위도 (-90 ~ 90)
+ * @param longitude 경도 (-180 ~ 180)
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    /**
+     * 지구 평균 반지름(km)입니다.
+     */
+    static final double EARTH_RADIUS_KM = 6371.0088;
+
+    public GeoPoint {
+        if (latitude < -90 || latitude > 90 || Double.isNaN(latitude)) {
+            throw new IllegalArgumentException("위도는 -90 이상 90 이하여야 합니다: " + latitude);
+        }
+        if (longitude < -180 || longitude > 180 || Double.isNaN(longitude)) {
+            throw new IllegalArgumentException("경도는 -180 이상 180 이하여야 합니다: " + longitude);
+        }
+    }
+
+    /**
+     * 두 좌표 사이의 대원 거리(haversine)를 km 단위로 계산합니다.
+     *
+     * @param other 다른 좌표
+     * @return 거리(km)
+     */
+    public double distanceKm(GeoPoint other) {
+        return distanceKm(latitude, longitude, other.latitude, other.longitude);
+    }
+
+    static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
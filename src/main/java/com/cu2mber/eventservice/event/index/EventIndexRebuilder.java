@@ -0,0 +1,101 @@
+package com.cu2mber.eventservice.event.index;
+
+import com.cu2mber.eventservice.event.domain.EventChangedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@code EventIndexRebuilder}는 행사 데이터를 메모리에 보관하는 색인의 전체 재구성과 증분 반영을 조율합니다.
+ *
+ * <p>
+ *     {@link EventChangedEvent}는 이 인스턴스에서 커밋된 변경만 전달하므로, 다른 인스턴스의 변경이나
+ *     벌크 갱신, SQL로 직접 수정·삭제한 행은 증분 반영만으로는 색인에 들어오지 않습니다.
+ *     그래서 색인은 주기적으로 전체 행을 다시 읽어 새로 만든 뒤 교체하며, 삭제된 행은 새 색인에 없으므로 함께 정리됩니다.
+ * </p>
+ *
+ * <p>
+ *     전체 조회는 잠금 밖에서 수행되므로 조회 도중 커밋된 변경은 결과에 빠져 있을 수 있습니다.
+ *     재구성 중에 받은 변경은 기록해 두었다가 교체 직전에 새 색인에 다시 적용하며,
+ *     변경 적용과 교체는 색인이 넘겨준 같은 잠금 안에서 이루어지므로 그 사이에 변경이 유실되지 않습니다.
+ * </p>
+ */
+public final class EventIndexRebuilder {
+
+    private final Lock lock;
+
+    /**
+     * 진행 중인 재구성이 시작된 뒤 받은 변경입니다. 재구성 중이 아니면 {@code null}입니다. {@link #lock}으로 보호됩니다.
+     */
+    private List<EventChangedEvent> pending;
+
+    /**
+     * @param lock 색인을 변경할 때 잡는 잠금 (읽기·쓰기 잠금을 사용한다면 쓰기 잠금)
+     */
+    public EventIndexRebuilder(Lock lock) {
+        this.lock = lock;
+    }
+
+    /**
+     * 변경을 현재 색인에 적용하고, 재구성 중이면 새 색인에도 다시 적용하도록 기록합니다.
+     *
+     * @param changed 커밋된 행사 변경
+     * @param apply   현재 색인에 변경을 적용하는 함수 (잠금 안에서 호출됩니다)
+     */
+    public void apply(EventChangedEvent changed, Consumer<EventChangedEvent> apply) {
+        lock.lock();
+        try {
+            apply.accept(changed);
+            if (pending != null) {
+                pending.add(changed);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 전체 행을 다시 읽어 새 색인을 만들고, 재구성 중에 받은 변경을 적용한 뒤 교체합니다.
+     * 다른 재구성이 진행 중이면 아무것도 하지 않습니다.
+     *
+     * @param load    전체 행을 읽어 새 색인을 만드는 함수 (잠금 밖에서 호출됩니다)
+     * @param replay  재구성 중에 받은 변경을 새 색인에 적용하는 함수 (잠금 안에서 호출됩니다)
+     * @param install 새 색인으로 교체하는 함수 (잠금 안에서 호출됩니다)
+     * @param <T>     색인 타입
+     * @return 재구성을 수행했으면 {@code true}
+     */
+    public <T> boolean rebuild(Supplier<T> load, BiConsumer<T, EventChangedEvent> replay, Consumer<T> install) {
+        lock.lock();
+        try {
+            if (pending != null) {
+                return false;
+            }
+            pending = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+
+        T rebuilt = null;
+        try {
+            rebuilt = load.get();
+        } finally {
+            lock.lock();
+            try {
+                if (rebuilt != null) {
+                    for (EventChangedEvent changed : pending) {
+                        replay.accept(rebuilt, changed);
+                    }
+                    install.accept(rebuilt);
+                }
+            } finally {
+                pending = null;
+                lock.unlock();
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,202 @@
+package com.cu2mber.eventservice.event.ingest;
+
+import com.cu2mber.eventservice.event.dto.EventImportRow;
+import com.cu2mber.eventservice.event.export.EventExportFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code CsvEventImportReader}는 첫 줄이 헤더인 RFC 4180 형식의 CSV를 읽습니다.
+ *
+ * <p>
+ *     헤더에는 {@link EventImportRow}의 컴포넌트 이름이 모두 있어야 하며 순서는 상관없고, 다른 컬럼(행사 번호 등)은 무시합니다.
+ *     내보내기 CSV의 UTF-8 BOM과 큰따옴표로 감싼 값(쉼표, 줄바꿈, 두 번 쓴 큰따옴표 포함)을 처리하며, 빈 값은 {@code null}로 읽습니다.
+ *     날짜·시간은 ISO 형식({@code 2025-10-01}, {@code 10:00})이어야 합니다.
+ * </p>
+ */
+@Component
+public class CsvEventImportReader implements EventImportReader {
+
+    private static final char BOM = '\uFEFF';
+
+    private static final List<String> COLUMNS = Arrays.stream(EventImportRow.class.getRecordComponents())
+            .map(RecordComponent::getName)
+            .toList();
+
+    @Override
+    public EventExportFormat format() {
+        return EventExportFormat.CSV;
+    }
+
+    @Override
+    public void read(InputStream in, EventImportHandler handler) throws IOException {
+        RecordReader records = new RecordReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+
+        List<String> header = records.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+        if (!header.isEmpty() && !header.getFirst().isEmpty() && header.getFirst().charAt(0) == BOM) {
+            header.set(0, header.getFirst().substring(1));
+        }
+
+        int[] positions = positions(header);
+
+        while (true) {
+            long line = records.line();
+            List<String> fields = records.next();
+            if (fields == null) {
+                break;
+            }
+            if (fields.size() == 1 && fields.getFirst().isEmpty()) {
+                continue;
+            }
+            if (fields.size() != header.size()) {
+                handler.reject(line, "컬럼 수가 헤더와 다릅니다: " + fields.size() + "/" + header.size());
+                continue;
+            }
+
+            try {
+                handler.accept(line, toRow(fields, positions));
+            } catch (DateTimeParseException e) {
+                handler.reject(line, "날짜·시간 형식 오류: " + e.getParsedString());
+            }
+        }
+    }
+
+    /**
+     * @return {@link #COLUMNS} 순서대로 헤더에서의 위치
+     */
+    private int[] positions(List<String> header) {
+        Map<String, Integer> byName = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            byName.putIfAbsent(header.get(i).strip(), i);
+        }
+
+        List<String> missing = COLUMNS.stream().filter(column -> !byName.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV 헤더에 없는 컬럼이 있습니다: " + String.join(", ", missing));
+        }
+
+        return COLUMNS.stream().mapToInt(byName::get).toArray();
+    }
+
+    private EventImportRow toRow(List<String> fields, int[] positions) {
+        String[] values = new String[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            String value = fields.get(positions[i]);
+            values[i] = value.isEmpty() ? null : value;
+        }
+
+        return new EventImportRow(
+                values[0], values[1], values[2], values[3], values[4],
+                date(values[5]), date(values[6]), time(values[7]), time(values[8]),
+                values[9], values[10], values[11], values[12], values[13], values[14]);
+    }
+
+    private static LocalDate date(String value) {
+        return value == null ? null : LocalDate.parse(value.strip());
+    }
+
+    private static LocalTime time(String value) {
+        return value == null ? null : LocalTime.parse(value.strip());
+    }
+
+    /**
+     * 문자 단위로 CSV 레코드(줄바꿈이 들어간 값은 여러 줄)를 읽습니다.
+     */
+    private static final class RecordReader {
+
+        private final Reader reader;
+        private long line = 1;
+        private int pushedBack = -2;
+
+        private RecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * @return 다음 레코드가 시작되는 줄 번호
+         */
+        long line() {
+            return line;
+        }
+
+        /**
+         * @return 다음 레코드의 필드 목록, 입력이 끝났으면 {@code null}
+         */
+        List<String> next() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다 (" + line + "번째 줄).");
+                    }
+                    if (c == '"') {
+                        int next = read();
+                        if (next != '"') {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int next = read();
+                        if (next != '\n') {
+                            pushedBack = next;
+                        }
+                    }
+                    if (c != -1) {
+                        line++;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (pushedBack != -2) {
+                int c = pushedBack;
+                pushedBack = -2;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.cu2mber.eventservice.event.ingest;
+
+import com.cu2mber.eventservice.event.dto.EventImportRow;
+
+/**
+ * {@code EventImportHandler}는 {@link EventImportReader}가 읽은 행을 하나씩 받습니다.
+ */
+public interface EventImportHandler {
+
+    /**
+     * 형식에 맞게 읽은 행을 받습니다.
+     *
+     * @param line 행이 시작되는 줄 번호
+     * @param row  읽은 행
+     */
+    void accept(long line, EventImportRow row);
+
+    /**
+     * 형식 오류로 읽지 못한 행을 받습니다. 나머지 행은 계속 읽습니다.
+     *
+     * @param line   행이 시작되는 줄 번호
+     * @param reason 오류 내용
+     */
+    void reject(long line, String reason);
+}
@@ -0,0 +1,32 @@
+package com.cu2mber.eventservice.event.ingest;
+
+import com.cu2mber.eventservice.event.export.EventExportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@code EventImportReader}는 일괄 적재 입력을 특정 형식으로 읽어 행 단위로 넘깁니다.
+ *
+ * <p>
+ *     {@code EventExportWriter}의 반대 방향이며, 같은 형식({@link EventExportFormat})을 사용합니다.
+ *     구현체는 행을 보관하지 않고 읽는 즉시 넘겨야 입력 크기와 관계없이 일정한 메모리로 적재할 수 있습니다.
+ * </p>
+ */
+public interface EventImportReader {
+
+    /**
+     * @return 이 구현체가 읽는 형식
+     */
+    EventExportFormat format();
+
+    /**
+     * 입력을 끝까지 읽어 행마다 {@code handler}를 호출합니다. 입력 스트림은 닫지 않습니다.
+     *
+     * @param in      입력 스트림 (UTF-8)
+     * @param handler 행을 받을 처리기
+     * @throws IOException              입력을 읽는 중 오류가 발생한 경우
+     * @throws IllegalArgumentException 입력 전체를 읽을 수 없는 형식인 경우 (CSV 헤더 누락 등)
+     */
+    void read(InputStream in, EventImportHandler handler) throws IOException;
+}
@@ -0,0 +1,64 @@
+package com.cu2mber.eventservice.event.ingest;
+
+import com.cu2mber.eventservice.event.dto.EventImportRow;
+import com.cu2mber.eventservice.event.export.EventExportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code NdjsonEventImportReader}는 한 줄에 행사 하나씩 JSON 객체로 된 입력을 읽습니다.
+ *
+ * <p>
+ *     빈 줄은 건너뛰고, {@link EventImportRow}에 없는 필드(행사 번호 등)는 무시합니다.
+ *     JSON으로 읽을 수 없는 줄은 거절하고 다음 줄을 계속 읽습니다.
+ * </p>
+ */
+@Component
+public class NdjsonEventImportReader implements EventImportReader {
+
+    private static final char BOM = '\uFEFF';
+
+    private final ObjectReader rowReader;
+
+    public NdjsonEventImportReader(ObjectMapper objectMapper) {
+        this.rowReader = objectMapper.readerFor(EventImportRow.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public EventExportFormat format() {
+        return EventExportFormat.NDJSON;
+    }
+
+    @Override
+    public void read(InputStream in, EventImportHandler handler) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long line = 0;
+        String text;
+
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (line == 1 && !text.isEmpty() && text.charAt(0) == BOM) {
+                text = text.substring(1);
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+
+            try {
+                handler.accept(line, rowReader.readValue(text));
+            } catch (JsonProcessingException e) {
+                handler.reject(line, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
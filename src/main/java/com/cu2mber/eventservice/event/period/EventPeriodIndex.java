@@ -0,0 +1,136 @@
+package com.cu2mber.eventservice.event.period;
+
+import com.cu2mber.eventservice.event.domain.EventChangedEvent;
+import com.cu2mber.eventservice.event.dto.EventPeriod;
+import com.cu2mber.eventservice.event.index.EventIndexRebuilder;
+import com.cu2mber.eventservice.event.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code EventPeriodIndex}는 행사 기간(시작일~종료일)을 메모리에 색인하여 기간 겹침 조회를 처리합니다.
+ *
+ * <p>
+ *     "이번 주말에 열리는 축제"와 같은 조회는 {@code event_start_date <= :to AND event_end_date >= :from} 조건이라
+ *     B-Tree 인덱스 하나로 범위를 좁히기 어렵고 테이블 전체를 읽게 됩니다.
+ *     이 색인은 {@link IntervalIndex}로 겹치는 행사 번호만 찾고, 데이터베이스는 결과 페이지를 기본 키로 조회할 때만 사용합니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>애플리케이션 시작 시({@link ApplicationReadyEvent}) 전체 행사 기간을 읽어 색인을 구성합니다.</li>
+ *   <li>{@link EventChangedEvent}를 받으면 변경 내용을 기록해 두고, 다음 조회 시 한 번만 색인을 다시 구성합니다.
+ *       연속된 변경이 많아도 재구성 비용은 조회 시점에 한 번만 발생합니다.</li>
+ *   <li>엔티티 이벤트가 없는 변경(다른 인스턴스, 벌크 갱신, 직접 SQL)과 삭제는
+ *       {@code event.index.rebuild-interval} 주기의 전체 재구성으로 반영합니다({@link EventIndexRebuilder}).</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventPeriodIndex {
+
+    private final EventRepository eventRepository;
+
+    private final Lock lock = new ReentrantLock();
+
+    private final EventIndexRebuilder rebuilder = new EventIndexRebuilder(lock);
+
+    /**
+     * 행사 번호별 기간입니다. {@link #lock}으로 보호됩니다.
+     */
+    private Map<Long, EventPeriod> periods = new HashMap<>();
+
+    private volatile IntervalIndex index = IntervalIndex.EMPTY;
+
+    private volatile boolean dirty;
+
+    /**
+     * 전체 행사 기간을 다시 읽어 색인을 재구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${event.index.rebuild-interval:PT5M}",
+            fixedDelayString = "${event.index.rebuild-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        boolean rebuilt = rebuilder.rebuild(
+                () -> {
+                    Map<Long, EventPeriod> loaded = new HashMap<>();
+                    eventRepository.findAllPeriods().forEach(period -> loaded.put(period.eventNo(), period));
+                    return loaded;
+                },
+                EventPeriodIndex::apply,
+                loaded -> {
+                    periods = loaded;
+                    dirty = true;
+                });
+
+        if (rebuilt) {
+            log.info("[rebuild] 기간 색인 구성 완료 - 행사 수: {}, 소요 시간: {}ms",
+                    current().size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 커밋된 행사 변경 사항을 기록합니다. 색인은 다음 조회 시 재구성됩니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent changed) {
+        rebuilder.apply(changed, event -> {
+            apply(periods, event);
+            dirty = true;
+        });
+    }
+
+    /**
+     * {@code [from, to]} 기간과 겹치는 행사 번호를 시작일 오름차순으로 조회합니다.
+     *
+     * @param from       조회 시작일 (포함)
+     * @param to         조회 종료일 (포함)
+     * @param categoryNo 카테고리 번호, {@code null}이면 전체
+     * @param localNo    지자체 번호, {@code null}이면 전체
+     * @return 조건에 맞는 행사 번호 목록
+     */
+    public List<Long> findOverlapping(LocalDate from, LocalDate to, Long categoryNo, Short localNo) {
+        return current().overlapping(from, to, categoryNo, localNo);
+    }
+
+    private IntervalIndex current() {
+        if (dirty) {
+            lock.lock();
+            try {
+                if (dirty) {
+                    dirty = false;
+                    index = IntervalIndex.of(periods.values());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return index;
+    }
+
+    private static void apply(Map<Long, EventPeriod> target, EventChangedEvent changed) {
+        Long eventNo = changed.event().getEventNo();
+
+        if (changed.type() == EventChangedEvent.Type.DELETED) {
+            target.remove(eventNo);
+        } else {
+            target.put(eventNo, EventPeriod.from(changed.event()));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.cu2mber.eventservice.event.period;
+
+import com.cu2mber.eventservice.event.dto.EventPeriod;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@code IntervalIndex}는 행사 기간을 시작일 순으로 정렬한 배열 위에 구성한 불변 구간 트리입니다.
+ *
+ * <p>
+ *     정렬된 배열의 구간 {@code [lo, hi)}마다 가운데 원소 {@code mid}를 노드로 보는 암시적 이진 탐색 트리이며,
+ *     {@code maxEnds[mid]}에 해당 구간의 최대 종료일을 저장합니다(augmented interval tree).
+ *     조회 구간과 겹치는 행사를 찾을 때 최대 종료일이 조회 시작일보다 이른 하위 트리와
+ *     시작일이 조회 종료일보다 늦은 오른쪽 하위 트리를 건너뛰므로 {@code O(log n + k)}에 조회됩니다.
+ * </p>
+ *
+ * <p>
+ *     날짜는 epoch day({@code int})로, 행사는 기본형 배열로 보관하여 10만 건 기준 수 MB 이내로 유지합니다.
+ *     결과는 중위 순회 순서, 즉 시작일 오름차순(같으면 행사 번호 오름차순)으로 반환됩니다.
+ * </p>
+ */
+final class IntervalIndex {
+
+    static final IntervalIndex EMPTY = of(List.of());
+
+    private final long[] eventNos;
+    private final long[] categoryNos;
+    private final short[] localNos;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] maxEnds;
+
+    private IntervalIndex(List<EventPeriod> sorted) {
+        int size = sorted.size();
+
+        this.eventNos = new long[size];
+        this.categoryNos = new long[size];
+        this.localNos = new short[size];
+        this.starts = new int[size];
+        this.ends = new int[size];
+        this.maxEnds = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            EventPeriod period = sorted.get(i);
+            eventNos[i] = period.eventNo();
+            categoryNos[i] = period.categoryNo();
+            localNos[i] = period.localNo();
+            starts[i] = (int) period.startDate().toEpochDay();
+            ends[i] = (int) endDateOf(period).toEpochDay();
+        }
+
+        buildMaxEnds(0, size);
+    }
+
+    /**
+     * 행사 기간 목록으로 색인을 구성합니다. 시작일이 없는 행사는 기간 조회 대상이 아니므로 제외합니다.
+     *
+     * @param periods 행사 기간 목록
+     * @return 구성된 색인
+     */
+    static IntervalIndex of(Collection<EventPeriod> periods) {
+        List<EventPeriod> sorted = periods.stream()
+                .filter(period -> period.startDate() != null)
+                .sorted(Comparator.comparing(EventPeriod::startDate).thenComparing(EventPeriod::eventNo))
+                .toList();
+
+        return new IntervalIndex(sorted);
+    }
+
+    /**
+     * {@code [from, to]} 기간과 하루라도 겹치는 행사 번호를 조회합니다.
+     *
+     * @param from       조회 시작일 (포함)
+     * @param to         조회 종료일 (포함)
+     * @param categoryNo 카테고리 번호, {@code null}이면 전체
+     * @param localNo    지자체 번호, {@code null}이면 전체
+     * @return 시작일 오름차순으로 정렬된 행사 번호 목록
+     */
+    List<Long> overlapping(LocalDate from, LocalDate to, Long categoryNo, Short localNo) {
+        List<Long> result = new ArrayList<>();
+        collect(0, eventNos.length, (int) from.toEpochDay(), (int) to.toEpochDay(), categoryNo, localNo, result);
+        return result;
+    }
+
+    int size() {
+        return eventNos.length;
+    }
+
+    private int buildMaxEnds(int lo, int hi) {
+        if (lo >= hi) {
+            return Integer.MIN_VALUE;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        int max = Math.max(ends[mid], Math.max(buildMaxEnds(lo, mid), buildMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private void collect(int lo, int hi, int from, int to, Long categoryNo, Short localNo, List<Long> result) {
+        if (lo >= hi) {
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+
+        // 이 하위 트리의 모든 행사가 조회 시작일 전에 끝났습니다.
+        if (maxEnds[mid] < from) {
+            return;
+        }
+
+        collect(lo, mid, from, to, categoryNo, localNo, result);
+
+        // 시작일 순으로 정렬되어 있으므로 mid 이후의 행사는 모두 조회 종료일 이후에 시작합니다.
+        if (starts[mid] > to) {
+            return;
+        }
+
+        if (ends[mid] >= from
+                && (categoryNo == null || categoryNos[mid] == categoryNo)
+                && (localNo == null || localNos[mid] == localNo)) {
+            result.add(eventNos[mid]);
+        }
+
+        collect(mid + 1, hi, from, to, categoryNo, localNo, result);
+    }
+
+    private static LocalDate endDateOf(EventPeriod period) {
+        return Objects.requireNonNullElse(period.endDate(), period.startDate());
+    }
+}
@@ -1,15 +1,33 @@
 package com.cu2mber.eventservice.event.repository;
 
 import com.cu2mber.eventservice.event.domain.Event;
-import lombok.NonNull;
+import com.cu2mber.eventservice.event.dto.CategoryEventCount;
+import com.cu2mber.eventservice.event.dto.EventChange;
+import com.cu2mber.eventservice.event.dto.EventExportRow;
+import com.cu2mber.eventservice.event.dto.EventFacetRow;
+import com.cu2mber.eventservice.event.dto.EventListResponse;
+import com.cu2mber.eventservice.event.dto.EventListRow;
+import com.cu2mber.eventservice.event.dto.EventLocation;
+import com.cu2mber.eventservice.event.dto.EventPeriod;
+import com.cu2mber.eventservice.event.dto.EventSearchDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * {@code EventRepository}는 행사(Event) 엔티티에 대한 데이터 접근 기능을 제공합니다.
@@ -17,18 +35,39 @@ import java.util.Optional;
  * Spring Data JPA를 사용하여 데이터베이스에서 행사 정보를 조회, 검색, 분류합니다.
  * 기본 CRUD 기능은 {@link JpaRepository}를 상속받아 제공합니다.
  * </p>
+ *
+ * <p>
+ * 목록 조회 쿼리는 엔티티 대신 생성자 표현식으로 {@link EventListResponse}를 직접 생성합니다.
+ * 목록에 필요한 10개 컬럼만 조회하므로 {@code eventUrl}, {@code eventDescription} 같은 TEXT 컬럼과 연관 엔티티 조인을 읽지 않고,
+ * 결과가 영속성 컨텍스트에 등록되지 않아 스냅샷 비교(dirty checking) 비용도 발생하지 않습니다.
+ * </p>
  */
 public interface EventRepository extends JpaRepository<Event, Long> {
 
+    /**
+     * 목록 조회용 생성자 표현식입니다. {@link EventListResponse}의 컴포넌트 순서와 일치해야 합니다.
+     * 설명은 TEXT 컬럼 대신 저장 시점에 잘라 둔 {@code eventSummary}를 읽습니다.
+     */
+    String LIST_SELECT = "SELECT new com.cu2mber.eventservice.event.dto.EventListResponse(" +
+            "e.eventNo, e.eventTitle, e.eventSummary, e.eventAddress, e.eventStartDate, e.eventEndDate, " +
+            "e.eventStartTime, e.eventEndTime, e.eventInquiry, e.eventImageUrl) ";
+
+    /**
+     * 커서 조회용 생성자 표현식입니다. 다음 커서 생성을 위해 {@code createdAt}을 함께 조회합니다.
+     */
+    String ROW_SELECT = "SELECT new com.cu2mber.eventservice.event.dto.EventListRow(" +
+            "e.eventNo, e.eventTitle, e.eventSummary, e.eventAddress, e.eventStartDate, e.eventEndDate, " +
+            "e.eventStartTime, e.eventEndTime, e.eventInquiry, e.eventImageUrl, e.createdAt) ";
+
     /**
      * 모든 행사를 페이지 단위로 조회합니다.
      *
      * @param pageable 페이징 및 정렬 정보를 포함한 {@link Pageable} 객체
-     * @return {@link Event} 엔티티 목록이 포함된 {@link Page}
+     * @return {@link EventListResponse} 목록이 포함된 {@link Page}
      */
-    @NonNull
-    @EntityGraph(attributePaths = {"localGov", "category"})
-    Page<Event> findAll(@NonNull Pageable pageable);
+    @Query(value = LIST_SELECT + "FROM Event e",
+            countQuery = "SELECT COUNT(e) FROM Event e")
+    Page<EventListResponse> findAllListBy(Pageable pageable);
 
     /**
      * 행사 제목에 특정 키워드가 포함된 축제 목록을 페이지 단위로 조회합니다.
@@ -38,25 +77,297 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      *
      * @param keyword  검색할 키워드 (제목에 포함될 문자열)
      * @param pageable 페이징 및 정렬 정보를 포함한 {@link Pageable} 객체
-     * @return 조건에 맞는 {@link Event} 목록이 포함된 {@link Page}
+     * @return 조건에 맞는 {@link EventListResponse} 목록이 포함된 {@link Page}
+     */
+    @Query(value = LIST_SELECT + "FROM Event e WHERE e.eventTitle LIKE %:keyword%",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE e.eventTitle LIKE %:keyword%")
+    Page<EventListResponse> findByEventTitleContaining(@Param("keyword")String keyword, Pageable pageable);
+
+    /**
+     * 행사 제목에 특정 키워드가 포함된 행사 번호를 최신 등록순으로 조회합니다.
+     * <p>
+     * {@code like} 검색 엔진이 사용하며, 페이지·Slice·커서 단위로 자르는 일은 호출하는 쪽에서 합니다.
+     * </p>
+     *
+     * @param keyword 검색할 키워드 (제목에 포함될 문자열)
+     * @return 조건에 맞는 행사 번호 목록
      */
-    @Query("SELECT e FROM Event e WHERE e.eventTitle LIKE %:keyword%")
-    Page<Event> findByEventTitleContaining(@Param("keyword")String keyword, Pageable pageable);
+    @Query("SELECT e.eventNo FROM Event e WHERE e.eventTitle LIKE %:keyword% ORDER BY e.createdAt DESC, e.eventNo DESC")
+    List<Long> findEventNosByEventTitleContaining(@Param("keyword") String keyword);
 
     /**
      * 특정 카테고리 번호에 속하는 행사 목록을 페이지 단위로 조회합니다.
      *
      * @param categoryNo 카테고리 번호
      * @param pageable   페이징 및 정렬 정보를 포함한 {@link Pageable} 객체
-     * @return 해당 카테고리의 {@link Event} 목록이 포함된 {@link Page}
+     * @return 해당 카테고리의 {@link EventListResponse} 목록이 포함된 {@link Page}
      */
-    Page<Event> findByCategory_CategoryNo(Long categoryNo, Pageable pageable);
+    @Query(value = LIST_SELECT + "FROM Event e WHERE e.category.categoryNo = :categoryNo",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE e.category.categoryNo = :categoryNo")
+    Page<EventListResponse> findByCategory_CategoryNo(@Param("categoryNo") Long categoryNo, Pageable pageable);
+
+    /**
+     * 행사 번호 목록에 해당하는 행사를 목록용 DTO로 조회합니다.
+     * <p>
+     * 반환 순서는 보장되지 않으므로 호출하는 쪽에서 정렬해야 합니다.
+     * </p>
+     *
+     * @param eventNos 조회할 행사 번호 목록
+     * @return {@link EventListResponse} 목록
+     */
+    @Query(LIST_SELECT + "FROM Event e WHERE e.eventNo IN :eventNos")
+    List<EventListResponse> findListByEventNoIn(@Param("eventNos") Collection<Long> eventNos);
+
+    /**
+     * 행사 번호 목록에 해당하는 행사를 커서 조회용 DTO로 조회합니다.
+     * <p>
+     * 반환 순서는 보장되지 않으므로 호출하는 쪽에서 정렬해야 합니다.
+     * </p>
+     *
+     * @param eventNos 조회할 행사 번호 목록
+     * @return {@link EventListRow} 목록
+     */
+    @Query(ROW_SELECT + "FROM Event e WHERE e.eventNo IN :eventNos")
+    List<EventListRow> findRowsByEventNoIn(@Param("eventNos") Collection<Long> eventNos);
 
     /**
      * 행사 고유 번호(eventNo)를 기준으로 단일 행사 정보를 조회합니다.
+     * <p>
+     * {@link Event#GRAPH_DETAIL} 그래프로 지자체·카테고리를 한 번의 조인 쿼리로 함께 읽습니다.
+     * </p>
      *
      * @param eventNo 행사 고유 번호
      * @return 해당 번호에 해당하는 {@link Event} 엔티티, 존재하지 않으면 {@code null}
      */
+    @EntityGraph(Event.GRAPH_DETAIL)
     Optional<Event> findByEventNo(Long eventNo);
+
+    /**
+     * 행사 번호 목록에 해당하는 행사를 지자체·카테고리와 함께 한 번의 쿼리로 조회합니다.
+     * <p>
+     * 일괄 상세 조회에서 사용하며, {@link Event#GRAPH_DETAIL} 그래프로 연관 엔티티를 함께 읽어 상세 응답 변환 시 추가 조회가 발생하지 않습니다.
+     * 반환 순서는 보장되지 않습니다.
+     * </p>
+     *
+     * @param eventNos 조회할 행사 번호 목록
+     * @return 존재하는 {@link Event} 엔티티 목록
+     */
+    @EntityGraph(Event.GRAPH_DETAIL)
+    @Query("SELECT e FROM Event e WHERE e.eventNo IN :eventNos")
+    List<Event> findAllWithDetailsByEventNoIn(@Param("eventNos") Collection<Long> eventNos);
+
+    /**
+     * 모든 행사를 COUNT 쿼리 없이 {@link Slice} 단위로 조회합니다.
+     * <p>
+     * 요청한 크기보다 한 건 더 조회하여 다음 페이지 존재 여부만 판단합니다.
+     * </p>
+     *
+     * @param pageable 페이징 및 정렬 정보를 포함한 {@link Pageable} 객체
+     * @return {@link EventListResponse} 목록이 포함된 {@link Slice}
+     */
+    @Query(LIST_SELECT + "FROM Event e")
+    Slice<EventListResponse> findSliceBy(Pageable pageable);
+
+    /**
+     * 특정 카테고리에 속하는 행사를 COUNT 쿼리 없이 {@link Slice} 단위로 조회합니다.
+     *
+     * @param categoryNo 카테고리 번호
+     * @param pageable   페이징 및 정렬 정보를 포함한 {@link Pageable} 객체
+     * @return 해당 카테고리의 {@link EventListResponse} 목록이 포함된 {@link Slice}
+     */
+    @Query(LIST_SELECT + "FROM Event e WHERE e.category.categoryNo = :categoryNo")
+    Slice<EventListResponse> findSliceByCategory_CategoryNo(@Param("categoryNo") Long categoryNo, Pageable pageable);
+
+    /**
+     * 카테고리별 행사 개수를 한 번의 GROUP BY 쿼리로 집계합니다.
+     *
+     * @return 카테고리 번호와 행사 개수를 담은 {@link CategoryEventCount} 목록
+     */
+    @Query("SELECT new com.cu2mber.eventservice.event.dto.CategoryEventCount(e.category.categoryNo, COUNT(e)) " +
+            "FROM Event e GROUP BY e.category.categoryNo")
+    List<CategoryEventCount> countGroupByCategory();
+
+    /**
+     * 검색 색인 구성에 필요한 필드만 모든 행사에 대해 조회합니다.
+     *
+     * @return 전체 행사의 {@link EventSearchDocument} 목록
+     */
+    @Query("SELECT new com.cu2mber.eventservice.event.dto.EventSearchDocument(" +
+            "e.eventNo, e.eventTitle, e.eventDescription, e.eventAddress) FROM Event e")
+    List<EventSearchDocument> findAllSearchDocuments();
+
+    /**
+     * 기간 색인 구성에 필요한 필드만 모든 행사에 대해 조회합니다.
+     *
+     * @return 전체 행사의 {@link EventPeriod} 목록
+     */
+    @Query("SELECT new com.cu2mber.eventservice.event.dto.EventPeriod(" +
+            "e.eventNo, e.category.categoryNo, e.localGov.localNo, e.eventStartDate, e.eventEndDate) FROM Event e")
+    List<EventPeriod> findAllPeriods();
+
+    /**
+     * 패싯 색인 구성에 필요한 필드만 모든 행사에 대해 조회합니다.
+     *
+     * @return 전체 행사의 {@link EventFacetRow} 목록
+     */
+    @Query("SELECT new com.cu2mber.eventservice.event.dto.EventFacetRow(" +
+            "e.eventNo, e.category.categoryNo, e.localGov.localNo, e.eventStartDate, e.createdAt) FROM Event e")
+    List<EventFacetRow> findAllFacetRows();
+
+    /**
+     * 위치 색인 구성에 필요한 필드만 좌표가 있는 행사에 대해 조회합니다.
+     *
+     * @return 좌표가 있는 행사의 {@link EventLocation} 목록
+     */
+    @Query("SELECT new com.cu2mber.eventservice.event.dto.EventLocation(" +
+            "e.eventNo, e.category.categoryNo, e.localGov.localNo, e.eventLatitude, e.eventLongitude) " +
+            "FROM Event e WHERE e.eventLatitude IS NOT NULL AND e.eventLongitude IS NOT NULL")
+    List<EventLocation> findAllLocations();
+
+    /**
+     * 특정 지자체의 행사 중 좌표가 비어 있는 행사에 좌표를 일괄 지정합니다.
+     * <p>
+     * 벌크 갱신이므로 엔티티 콜백과 변경 이벤트는 발생하지 않습니다.
+     * </p>
+     *
+     * @param localNo   지자체 번호
+     * @param latitude  위도
+     * @param longitude 경도
+     * @return 갱신된 행사 수
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.eventLatitude = :latitude, e.eventLongitude = :longitude " +
+            "WHERE e.localGov.localNo = :localNo AND e.eventLatitude IS NULL")
+    int assignLocationByLocalNo(@Param("localNo") Short localNo,
+                                @Param("latitude") double latitude,
+                                @Param("longitude") double longitude);
+
+    /**
+     * 전체 행사를 내보내기용 DTO로 행사 번호 순서대로 스트리밍합니다.
+     * <p>
+     * 결과는 JDBC 커서로 {@code fetchSize}건씩 가져오므로 전체 행 수와 관계없이 메모리 사용량이 일정합니다.
+     * 생성자 표현식이라 영속성 컨텍스트에 엔티티가 쌓이지 않으며, 반환된 {@link Stream}은 트랜잭션 안에서 소비한 뒤 반드시 닫아야 합니다.
+     * </p>
+     *
+     * @return {@link EventExportRow} 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.cu2mber.eventservice.event.dto.EventExportRow(
+                e.eventNo, l.localDistrict, l.localName, c.categoryName, e.eventTitle, e.eventAddress,
+                e.eventStartDate, e.eventEndDate, e.eventStartTime, e.eventEndTime, e.eventUrl, e.eventSpot,
+                e.eventHost, e.eventInquiry, e.eventDescription, e.eventImageUrl)
+            FROM Event e JOIN e.localGov l JOIN e.category c
+            ORDER BY e.eventNo
+            """)
+    Stream<EventExportRow> streamAllForExport();
+
+    /**
+     * 일괄 적재할 행들의 자연 키(지자체, 행사명, 시작일)와 일치할 수 있는 기존 행사를 한 번에 조회합니다.
+     * <p>
+     * 세 컬럼을 각각 {@code IN}으로 걸러 자연 키 유니크 인덱스를 사용하며, 조합이 어긋난 행이 함께 조회될 수 있으므로
+     * 호출자가 정확한 키로 다시 걸러야 합니다.
+     * </p>
+     *
+     * @param localNos   지자체 번호 목록
+     * @param titles     행사명 목록
+     * @param startDates 시작일 목록
+     * @return 후보 행사 목록
+     */
+    @Query("""
+            SELECT e FROM Event e
+            WHERE e.localGov.localNo IN :localNos
+              AND e.eventTitle IN :titles
+              AND e.eventStartDate IN :startDates
+            """)
+    List<Event> findAllByNaturalKeyIn(@Param("localNos") Collection<Short> localNos,
+                                      @Param("titles") Collection<String> titles,
+                                      @Param("startDates") Collection<LocalDate> startDates);
+
+    /**
+     * 데이터베이스의 현재 일시를 조회합니다.
+     * <p>
+     * 변경 피드의 상한은 애플리케이션 인스턴스마다 다를 수 있는 JVM 시계가 아니라 이 값으로 정합니다.
+     * </p>
+     *
+     * @return 데이터베이스 세션 시간대 기준 현재 일시
+     */
+    @Query("SELECT LOCAL DATETIME")
+    LocalDateTime currentDateTime();
+
+    /**
+     * 토큰(updatedAt, eventNo) 이후에 등록·수정된 행사를 수정 순서대로 조회합니다.
+     * <p>
+     * {@code idx_events_updated_at} 인덱스 범위만 읽으므로 비용이 전체 행사 수가 아닌 변경 수에 비례합니다.
+     * {@code until} 이후의 변경은 아직 커밋되지 않은 트랜잭션과 순서가 뒤바뀔 수 있어 제외합니다.
+     * </p>
+     *
+     * @param updatedAt 마지막으로 받은 변경의 수정 일시
+     * @param eventNo   마지막으로 받은 변경의 행사 번호
+     * @param until     포함할 수정 일시의 상한(미포함)
+     * @param pageable  조회할 행 수를 담은 {@link Pageable} 객체 (page 번호는 항상 0)
+     * @return 토큰 이후의 {@link EventChange} 목록
+     */
+    @Query("""
+            SELECT new com.cu2mber.eventservice.event.dto.EventChange(
+                e.eventNo, l.localDistrict, l.localName, c.categoryName, e.eventTitle, e.eventAddress,
+                e.eventStartDate, e.eventEndDate, e.eventStartTime, e.eventEndTime, e.eventUrl, e.eventSpot,
+                e.eventHost, e.eventInquiry, e.eventDescription, e.eventImageUrl, e.createdAt, e.updatedAt)
+            FROM Event e JOIN e.localGov l JOIN e.category c
+            WHERE (e.updatedAt > :updatedAt
+                   OR (e.updatedAt = :updatedAt AND e.eventNo > :eventNo))
+              AND e.updatedAt < :until
+            ORDER BY e.updatedAt ASC, e.eventNo ASC
+            """)
+    List<EventChange> findChangesAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                       @Param("eventNo") Long eventNo,
+                                       @Param("until") LocalDateTime until,
+                                       Pageable pageable);
+
+    /**
+     * 커서(createdAt, eventNo) 이후의 행사 목록을 최신 등록순으로 조회합니다.
+     * <p>
+     * OFFSET을 사용하지 않고 마지막으로 조회한 행의 정렬 키보다 작은 행부터 읽기 때문에
+     * 페이지 깊이와 관계없이 일정한 비용으로 조회됩니다.
+     * 첫 페이지는 {@code EventCursor.FIRST}를 전달하여 조회합니다.
+     * </p>
+     *
+     * @param createdAt 마지막으로 조회한 행사의 등록 일시
+     * @param eventNo   마지막으로 조회한 행사의 고유 번호
+     * @param pageable  조회할 행 수를 담은 {@link Pageable} 객체 (page 번호는 항상 0)
+     * @return 커서 이후의 {@link EventListRow} 목록
+     */
+    @Query(ROW_SELECT + """
+            FROM Event e
+            WHERE e.createdAt < :createdAt
+               OR (e.createdAt = :createdAt AND e.eventNo < :eventNo)
+            ORDER BY e.createdAt DESC, e.eventNo DESC
+            """)
+    List<EventListRow> findAllAfterCursor(@Param("createdAt") LocalDateTime createdAt,
+                                          @Param("eventNo") Long eventNo,
+                                          Pageable pageable);
+
+    /**
+     * 특정 카테고리에 속한 행사 중 커서 이후의 목록을 최신 등록순으로 조회합니다.
+     *
+     * @param categoryNo 카테고리 번호
+     * @param createdAt  마지막으로 조회한 행사의 등록 일시
+     * @param eventNo    마지막으로 조회한 행사의 고유 번호
+     * @param pageable   조회할 행 수를 담은 {@link Pageable} 객체 (page 번호는 항상 0)
+     * @return 커서 이후의 {@link EventListRow} 목록
+     */
+    @Query(ROW_SELECT + """
+            FROM Event e
+            WHERE e.category.categoryNo = :categoryNo
+              AND (e.createdAt < :createdAt
+                   OR (e.createdAt = :createdAt AND e.eventNo < :eventNo))
+            ORDER BY e.createdAt DESC, e.eventNo DESC
+            """)
+    List<EventListRow> findByCategoryNoAfterCursor(@Param("categoryNo") Long categoryNo,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("eventNo") Long eventNo,
+                                                   Pageable pageable);
 }
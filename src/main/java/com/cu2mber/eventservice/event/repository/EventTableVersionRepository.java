@@ -0,0 +1,12 @@
+package com.cu2mber.eventservice.event.repository;
+
+import com.cu2mber.eventservice.event.domain.EventTableVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * {@code EventTableVersionRepository} 인터페이스는 {@link EventTableVersion} 엔티티에 대한
+ * 데이터 접근 계층(Repository)을 정의합니다.
+ */
+public interface EventTableVersionRepository extends JpaRepository<EventTableVersion, Integer> {
+
+}
@@ -0,0 +1,32 @@
+package com.cu2mber.eventservice.event.search;
+
+import java.util.List;
+
+/**
+ * {@code EventSearchEngine}은 행사 키워드 검색을 수행하는 검색 백엔드의 공통 인터페이스입니다.
+ *
+ * <p>
+ *     {@code event.search.engine} 설정값에 따라 구현체가 선택됩니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@code ngram} (기본값) — 메모리 내 n-gram 역색인 기반의 연관도 순 검색 ({@link NgramEventSearchEngine})</li>
+ *   <li>{@code like} — 데이터베이스 {@code LIKE %keyword%} 기반의 최신순 검색 ({@link LikeEventSearchEngine})</li>
+ * </ul>
+ *
+ * <p>
+ *     엔진은 조건에 맞는 행사 번호만 정렬하여 반환하고, 페이지·Slice·커서 단위로 잘라
+ *     해당 행사만 기본 키로 조회하는 일은 {@code EventService}가 담당합니다.
+ * </p>
+ */
+public interface EventSearchEngine {
+
+    /**
+     * 키워드에 해당하는 행사 번호를 엔진의 정렬 순서대로 조회합니다.
+     * 공백뿐인 키워드는 어떤 행사와도 일치하지 않으므로 빈 목록을 반환합니다.
+     *
+     * @param keyword 검색할 키워드
+     * @return 정렬된 행사 번호 목록
+     */
+    List<Long> search(String keyword);
+}
@@ -0,0 +1,144 @@
+package com.cu2mber.eventservice.event.search;
+
+import com.cu2mber.eventservice.event.dto.EventSearchDocument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code InvertedIndex}는 n-gram 토큰에서 행사 번호로의 역색인입니다.
+ *
+ * <p>
+ *     각 토큰의 포스팅에는 필드 가중치가 반영된 출현 빈도가 저장되며,
+ *     검색 시 모든 검색 토큰을 포함한 행사에 대해 {@code Σ 가중 빈도 × idf} 점수를 계산하여 정렬합니다.
+ *     제목 일치가 설명·주소 일치보다 높은 순위를 갖도록 필드별 가중치를 둡니다.
+ * </p>
+ *
+ * <p>
+ *     이 클래스는 스레드 안전하지 않으며, 동시성 제어는 {@link NgramEventSearchEngine}이 담당합니다.
+ * </p>
+ */
+final class InvertedIndex {
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float ADDRESS_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private final Map<String, Posting> postings = new HashMap<>();
+    private final Map<Long, Posting[]> documentPostings = new HashMap<>();
+
+    /**
+     * 행사를 색인합니다. 이미 색인된 행사라면 기존 토큰을 제거한 뒤 다시 색인합니다.
+     */
+    void put(EventSearchDocument document) {
+        remove(document.eventNo());
+
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, document.eventTitle(), TITLE_WEIGHT);
+        addField(weights, document.eventAddress(), ADDRESS_WEIGHT);
+        addField(weights, document.eventDescription(), DESCRIPTION_WEIGHT);
+
+        // 행사마다 토큰 문자열을 따로 보관하지 않도록 포스팅 객체를 공유합니다.
+        Posting[] documentPosting = new Posting[weights.size()];
+        int i = 0;
+
+        for (Map.Entry<String, Float> entry : weights.entrySet()) {
+            Posting posting = postings.computeIfAbsent(entry.getKey(), Posting::new);
+            posting.weights.put(document.eventNo(), entry.getValue());
+            documentPosting[i++] = posting;
+        }
+        documentPostings.put(document.eventNo(), documentPosting);
+    }
+
+    /**
+     * 색인에서 행사를 제거합니다.
+     */
+    void remove(Long eventNo) {
+        Posting[] documentPosting = documentPostings.remove(eventNo);
+
+        if (documentPosting == null) {
+            return;
+        }
+
+        for (Posting posting : documentPosting) {
+            posting.weights.remove(eventNo);
+
+            if (posting.weights.isEmpty()) {
+                postings.remove(posting.gram);
+            }
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함한 행사 번호를 연관도 내림차순으로 반환합니다.
+     * 점수가 같으면 최근에 등록된(번호가 큰) 행사가 먼저 옵니다.
+     */
+    List<Long> search(String keyword) {
+        List<Map<Long, Float>> matched = new ArrayList<>();
+
+        for (String gram : NgramTokenizer.tokenizeForQuery(keyword)) {
+            Posting posting = postings.get(gram);
+
+            if (posting == null) {
+                return List.of();
+            }
+            matched.add(posting.weights);
+        }
+
+        if (matched.isEmpty()) {
+            return List.of();
+        }
+
+        // 가장 짧은 포스팅부터 교집합을 구해 후보 수를 최소화합니다.
+        matched.sort(Comparator.comparingInt(Map::size));
+
+        Set<Long> candidates = new HashSet<>(matched.getFirst().keySet());
+        for (int i = 1; i < matched.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(matched.get(i).keySet());
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        int documentCount = documentPostings.size();
+
+        for (Map<Long, Float> posting : matched) {
+            double idf = Math.log(1.0 + (double) documentCount / posting.size());
+
+            for (Long eventNo : candidates) {
+                scores.merge(eventNo, posting.get(eventNo) * idf, Double::sum);
+            }
+        }
+
+        List<Long> ranked = new ArrayList<>(candidates);
+        ranked.sort(Comparator.<Long>comparingDouble(scores::get).reversed()
+                .thenComparing(Comparator.reverseOrder()));
+        return ranked;
+    }
+
+    int size() {
+        return documentPostings.size();
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float fieldWeight) {
+        for (String gram : NgramTokenizer.tokenizeForIndex(text)) {
+            weights.merge(gram, fieldWeight, Float::sum);
+        }
+    }
+
+    /**
+     * 토큰 하나의 포스팅입니다. 행사 번호별 가중 빈도를 보관합니다.
+     */
+    private static final class Posting {
+
+        private final String gram;
+        private final Map<Long, Float> weights = new HashMap<>();
+
+        private Posting(String gram) {
+            this.gram = gram;
+        }
+    }
+}
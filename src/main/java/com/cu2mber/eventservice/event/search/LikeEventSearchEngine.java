@@ -0,0 +1,34 @@
+package com.cu2mber.eventservice.event.search;
+
+import com.cu2mber.eventservice.event.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code LikeEventSearchEngine}은 행사 제목에 대한 {@code LIKE %keyword%} 쿼리로 검색하는 구현체입니다.
+ *
+ * <p>
+ *     색인을 유지하지 않으므로 메모리를 사용하지 않지만, 검색마다 테이블 전체를 읽습니다.
+ *     {@code event.search.engine=like}로 설정한 경우에만 사용됩니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.search.engine", havingValue = "like")
+public class LikeEventSearchEngine implements EventSearchEngine {
+
+    private final EventRepository eventRepository;
+
+    @Override
+    public List<Long> search(String keyword) {
+        // LIKE %%는 모든 행과 일치하므로 n-gram 엔진과 같이 빈 결과로 처리합니다.
+        if (keyword.isBlank()) {
+            return List.of();
+        }
+
+        return eventRepository.findEventNosByEventTitleContaining(keyword);
+    }
+}
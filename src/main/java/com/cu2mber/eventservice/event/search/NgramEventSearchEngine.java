@@ -0,0 +1,104 @@
+package com.cu2mber.eventservice.event.search;
+
+import com.cu2mber.eventservice.event.domain.Event;
+import com.cu2mber.eventservice.event.domain.EventChangedEvent;
+import com.cu2mber.eventservice.event.dto.EventSearchDocument;
+import com.cu2mber.eventservice.event.index.EventIndexRebuilder;
+import com.cu2mber.eventservice.event.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@code NgramEventSearchEngine}은 애플리케이션 메모리에 유지하는 n-gram 역색인으로 행사를 검색하는 기본 검색 엔진입니다.
+ *
+ * <p>
+ *     행사 제목({@code eventTitle}), 설명({@code eventDescription}), 주소({@code eventAddress})를 색인하며,
+ *     선행 와일드카드 {@code LIKE} 검색과 달리 테이블 전체를 읽지 않고 연관도 순으로 결과를 반환합니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>애플리케이션 시작 시({@link ApplicationReadyEvent}) 전체 색인을 구성합니다.</li>
+ *   <li>이후에는 {@link EventChangedEvent}를 구독하여 변경된 행사만 증분 색인합니다.</li>
+ *   <li>엔티티 이벤트가 없는 변경(다른 인스턴스, 벌크 갱신, 직접 SQL)과 삭제는
+ *       {@code event.index.rebuild-interval} 주기의 전체 재구성으로 반영합니다({@link EventIndexRebuilder}).</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.search.engine", havingValue = "ngram", matchIfMissing = true)
+public class NgramEventSearchEngine implements EventSearchEngine {
+
+    private final EventRepository eventRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final EventIndexRebuilder rebuilder = new EventIndexRebuilder(lock.writeLock());
+
+    private InvertedIndex index = new InvertedIndex();
+
+    /**
+     * 전체 행사를 다시 읽어 색인을 재구성합니다.
+     * 새 색인을 모두 만든 뒤 교체하므로 재구성 중에도 기존 색인으로 검색할 수 있습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${event.index.rebuild-interval:PT5M}",
+            fixedDelayString = "${event.index.rebuild-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        boolean rebuilt = rebuilder.rebuild(
+                () -> {
+                    InvertedIndex loaded = new InvertedIndex();
+                    eventRepository.findAllSearchDocuments().forEach(loaded::put);
+                    return loaded;
+                },
+                NgramEventSearchEngine::apply,
+                loaded -> index = loaded);
+
+        if (rebuilt) {
+            log.info("[rebuild] 검색 색인 구성 완료 - 행사 수: {}, 소요 시간: {}ms",
+                    index.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 커밋된 행사 변경 사항을 색인에 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent changed) {
+        rebuilder.apply(changed, event -> apply(index, event));
+    }
+
+    @Override
+    public List<Long> search(String keyword) {
+        lock.readLock().lock();
+        try {
+            return index.search(keyword);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void apply(InvertedIndex target, EventChangedEvent changed) {
+        Event event = changed.event();
+
+        if (changed.type() == EventChangedEvent.Type.DELETED) {
+            target.remove(event.getEventNo());
+        } else {
+            target.put(EventSearchDocument.from(event));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.cu2mber.eventservice.event.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * {@code NgramTokenizer}는 행사 텍스트를 n-gram 토큰으로 분해합니다.
+ *
+ * <p>
+ *     한국어 축제명은 띄어쓰기가 일정하지 않고 형태소 분석 없이도 부분 일치가 필요하므로,
+ *     문자·숫자 단위로 나눈 각 단어를 1-gram과 2-gram으로 분해하여 색인합니다.
+ *     검색어는 2-gram으로 분해하며(한 글자 단어는 1-gram), 모든 토큰을 포함한 문서만 결과로 반환됩니다.
+ * </p>
+ */
+final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰을 생성합니다. 한 글자 검색어도 찾을 수 있도록 1-gram과 2-gram을 모두 포함합니다.
+     *
+     * @param text 색인할 텍스트
+     * @return n-gram 토큰 목록 (중복 포함, 출현 빈도 계산용)
+     */
+    static List<String> tokenizeForIndex(String text) {
+        List<String> grams = new ArrayList<>();
+
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.add(word.substring(i, i + 1));
+
+                if (i + 1 < word.length()) {
+                    grams.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색용 토큰을 생성합니다.
+     *
+     * @param keyword 검색어
+     * @return 중복이 제거된 n-gram 토큰 집합
+     */
+    static Set<String> tokenizeForQuery(String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+
+        for (String word : words(keyword)) {
+            if (word.length() == 1) {
+                grams.add(word);
+                continue;
+            }
+
+            for (int i = 0; i + 1 < word.length(); i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        List<String> words = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+
+        if (!current.isEmpty()) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+}
@@ -0,0 +1,26 @@
+package com.cu2mber.eventservice.event.service;
+
+import com.cu2mber.eventservice.event.dto.EventChangesResponse;
+
+/**
+ * {@code EventChangeService}는 행사 카탈로그의 변경 피드(증분 동기화)를 제공하는 서비스 인터페이스입니다.
+ * <p>
+ * 하위 서비스와 앱은 목록 전체를 다시 조회하는 대신, 마지막으로 받은 토큰 이후의 변경만 받아
+ * 변경 수에 비례하는 비용으로 동기화합니다.
+ * </p>
+ */
+public interface EventChangeService {
+
+    /**
+     * 토큰 이후에 등록·수정된 행사를 수정 순서대로 조회합니다.
+     * <p>
+     * 응답의 {@code nextToken}은 변경이 없을 때도 항상 채워지며, 같은 토큰으로 다시 요청하면 같은 위치부터 이어서 읽습니다.
+     * </p>
+     *
+     * @param since 이전 응답의 {@code nextToken} 값, 처음 동기화할 때는 {@code null} 또는 빈 문자열
+     * @param size  조회할 최대 변경 수
+     * @return 변경 목록과 다음 토큰을 담은 {@link EventChangesResponse}
+     * @throws IllegalArgumentException 토큰 형식이 올바르지 않거나 {@code size}가 범위를 벗어난 경우
+     */
+    EventChangesResponse getChanges(String since, int size);
+}
@@ -0,0 +1,25 @@
+package com.cu2mber.eventservice.event.service;
+
+import com.cu2mber.eventservice.event.export.EventExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * {@code EventExportService}는 전체 행사 카탈로그를 파일 형식으로 내보내는 서비스 인터페이스입니다.
+ * <p>
+ * 행을 DB 커서에서 읽는 즉시 출력 스트림에 기록하므로, 전체 결과를 메모리에 올리지 않습니다.
+ * </p>
+ */
+public interface EventExportService {
+
+    /**
+     * 전체 행사를 행사 번호 순서대로 지정한 형식으로 기록합니다.
+     *
+     * @param format 내보내기 형식
+     * @param out    출력 스트림 (닫지 않음)
+     * @return 기록한 행사 수
+     * @throws IOException 출력 중 오류가 발생한 경우
+     */
+    long export(EventExportFormat format, OutputStream out) throws IOException;
+}
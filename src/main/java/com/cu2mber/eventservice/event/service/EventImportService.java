@@ -0,0 +1,32 @@
+package com.cu2mber.eventservice.event.service;
+
+import com.cu2mber.eventservice.event.dto.EventImportResult;
+import com.cu2mber.eventservice.event.export.EventExportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@code EventImportService}는 지자체 행사 피드(NDJSON/CSV)를 일괄 적재하는 서비스 인터페이스입니다.
+ * <p>
+ * 입력을 읽는 즉시 일정 크기 단위로 나누어 저장하므로, 전체 입력을 메모리에 올리지 않습니다.
+ * (지자체, 행사명, 시작일)이 같은 행사가 이미 있으면 새로 등록하지 않고 갱신합니다.
+ * </p>
+ */
+public interface EventImportService {
+
+    /**
+     * 입력의 행사를 모두 적재합니다.
+     * <p>
+     * 단위마다 별도 트랜잭션으로 저장하므로, 한 단위의 저장이 실패해도 앞서 저장한 단위와 나머지 단위는 유지됩니다.
+     * 검증에 실패한 행은 결과의 {@code errors}에 줄 번호와 함께 담기고 나머지 행은 계속 적재됩니다.
+     * </p>
+     *
+     * @param format 입력 형식
+     * @param in     입력 스트림 (닫지 않음)
+     * @return 적재 결과 요약
+     * @throws IOException              입력을 읽는 중 오류가 발생한 경우
+     * @throws IllegalArgumentException 입력 전체를 읽을 수 없는 형식인 경우
+     */
+    EventImportResult importEvents(EventExportFormat format, InputStream in) throws IOException;
+}
@@ -1,10 +1,19 @@
 package com.cu2mber.eventservice.event.service;
 
+import com.cu2mber.eventservice.event.dto.EventBatchResponse;
+import com.cu2mber.eventservice.event.dto.EventCursorResponse;
 import com.cu2mber.eventservice.event.dto.EventDetailResponse;
+import com.cu2mber.eventservice.event.dto.EventFacetResponse;
 import com.cu2mber.eventservice.event.dto.EventListResponse;
+import com.cu2mber.eventservice.event.dto.EventNearbyResponse;
+import com.cu2mber.eventservice.event.dto.EventSliceResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
 
 /**
  * {@code EventService}는 행사(Event) 관련 비즈니스 로직을 처리하는 서비스 인터페이스입니다.
@@ -26,12 +35,13 @@ public interface EventService {
     Page<EventListResponse> getAllEvents(Pageable pageable);
 
     /**
-     * 행사 제목에 특정 키워드가 포함된 행사 목록을 페이지 단위로 조회합니다.
+     * 키워드에 해당하는 행사 목록을 페이지 단위로 조회합니다.
      * <p>
-     * 부분 일치 검색(contains) 방식으로 제목을 필터링합니다.
+     * 설정된 검색 엔진({@code event.search.engine})에 위임하며,
+     * 기본 n-gram 엔진은 제목·설명·주소를 대상으로 연관도 순 결과를 반환합니다.
      * </p>
      *
-     * @param keyword  검색할 키워드 (제목 내 포함될 문자열)
+     * @param keyword  검색할 키워드
      * @param pageable 페이징 및 정렬 정보를 포함한 {@link Pageable} 객체
      * @return 검색 조건에 부합하는 {@link EventListResponse} DTO 목록이 포함된 {@link Page}
      */
@@ -48,10 +58,151 @@ public interface EventService {
 
     /**
      * 행사 고유 번호(eventNo)를 기준으로 단일 행사 상세 정보를 조회합니다.
+     * <p>
+     * 조회 결과는 상세 응답 캐시에 보관되며, 존재하지 않는 번호도 짧은 시간 동안 캐시됩니다.
+     * </p>
      *
      * @param eventNo 축제 고유 번호
      * @return 해당 번호에 해당하는 {@link EventDetailResponse} DTO, 존재하지 않으면 {@code null}
      */
     EventDetailResponse getEventDetail(Long eventNo);
 
+    /**
+     * 여러 행사의 상세 정보를 한 번에 조회합니다.
+     * <p>
+     * 상세 응답 캐시에 없는 번호만 모아 한 번의 {@code IN} 쿼리로 조회하며,
+     * 결과는 요청 순서를 따르고 존재하지 않는 번호는 별도 목록으로 반환합니다.
+     * </p>
+     *
+     * @param eventNos 조회할 행사 번호 목록 (중복 제거 후 최대 200개)
+     * @return {@link EventBatchResponse} DTO
+     * @throws IllegalArgumentException 번호 목록이 비었거나, {@code null}을 포함하거나, 최대 개수를 넘는 경우
+     */
+    EventBatchResponse getEventDetails(List<Long> eventNos);
+
+    /**
+     * 전체 행사 목록을 커서 기반으로 조회합니다.
+     * <p>
+     * OFFSET 대신 마지막으로 조회한 행의 (createdAt, eventNo)를 기준으로 다음 행을 읽으므로
+     * 페이지 깊이와 관계없이 조회 비용이 일정합니다.
+     * </p>
+     *
+     * @param cursor 이전 응답의 {@code nextCursor} 값, 첫 페이지는 {@code null} 또는 빈 문자열
+     * @param size   조회할 행사 수
+     * @return 행사 목록과 다음 커서를 담은 {@link EventCursorResponse}
+     */
+    EventCursorResponse getAllEventsByCursor(String cursor, int size);
+
+    /**
+     * 키워드에 해당하는 행사 목록을 커서 기반으로 조회합니다.
+     * <p>
+     * 페이지 조회와 같은 검색 엔진 결과를 같은 순서로 이어서 반환합니다.
+     * 커서의 행사가 그 사이 검색 결과에서 빠졌다면 이어서 조회할 위치를 알 수 없으므로 잘못된 커서로 처리합니다.
+     * </p>
+     *
+     * @param keyword 검색할 키워드
+     * @param cursor  이전 응답의 {@code nextCursor} 값, 첫 페이지는 {@code null} 또는 빈 문자열
+     * @param size    조회할 행사 수
+     * @return 행사 목록과 다음 커서를 담은 {@link EventCursorResponse}
+     */
+    EventCursorResponse searchEventsByTitleByCursor(String keyword, String cursor, int size);
+
+    /**
+     * 특정 카테고리에 속한 행사 목록을 커서 기반으로 조회합니다.
+     *
+     * @param categoryNo 카테고리 번호
+     * @param cursor     이전 응답의 {@code nextCursor} 값, 첫 페이지는 {@code null} 또는 빈 문자열
+     * @param size       조회할 행사 수
+     * @return 행사 목록과 다음 커서를 담은 {@link EventCursorResponse}
+     */
+    EventCursorResponse getEventsByCategoryByCursor(Long categoryNo, String cursor, int size);
+
+    /**
+     * 전체 행사 목록을 COUNT 쿼리 없이 {@link org.springframework.data.domain.Slice} 단위로 조회합니다.
+     *
+     * @param pageable  페이징 정보를 포함한 {@link Pageable} 객체
+     * @param withTotal {@code true}이면 개수 캐시의 전체 행사 개수를 함께 반환합니다.
+     * @return 행사 목록과 다음 페이지 존재 여부를 담은 {@link EventSliceResponse}
+     */
+    EventSliceResponse getAllEventsSlice(Pageable pageable, boolean withTotal);
+
+    /**
+     * 키워드에 해당하는 행사 목록을 COUNT 쿼리 없이 조회합니다.
+     * <p>
+     * 페이지 조회와 같은 검색 엔진 결과를 사용하며, {@code totalElements}는 항상 {@code null}입니다.
+     * </p>
+     *
+     * @param keyword  검색할 키워드
+     * @param pageable 페이징 정보를 포함한 {@link Pageable} 객체
+     * @return 행사 목록과 다음 페이지 존재 여부를 담은 {@link EventSliceResponse}
+     */
+    EventSliceResponse searchEventsByTitleSlice(String keyword, Pageable pageable);
+
+    /**
+     * 특정 카테고리에 속한 행사 목록을 COUNT 쿼리 없이 조회합니다.
+     *
+     * @param categoryNo 카테고리 번호
+     * @param pageable   페이징 정보를 포함한 {@link Pageable} 객체
+     * @param withTotal  {@code true}이면 개수 캐시의 카테고리별 행사 개수를 함께 반환합니다.
+     * @return 행사 목록과 다음 페이지 존재 여부를 담은 {@link EventSliceResponse}
+     */
+    EventSliceResponse getEventsByCategorySlice(Long categoryNo, Pageable pageable, boolean withTotal);
+
+    /**
+     * 지정한 기간과 하루라도 겹치는 행사 목록을 시작일 오름차순으로 조회합니다.
+     * <p>
+     * 메모리 기간 색인으로 대상을 찾으므로 기간 조건 때문에 테이블 전체를 읽지 않습니다.
+     * </p>
+     *
+     * @param from       조회 시작일 (포함)
+     * @param to         조회 종료일 (포함)
+     * @param categoryNo 카테고리 번호, {@code null}이면 전체
+     * @param localNo    지자체 번호, {@code null}이면 전체
+     * @param pageable   페이징 정보를 포함한 {@link Pageable} 객체
+     * @return {@link EventListResponse} 목록이 포함된 {@link Page}
+     */
+    Page<EventListResponse> getEventsByPeriod(LocalDate from, LocalDate to, Long categoryNo, Short localNo, Pageable pageable);
+
+    /**
+     * 오늘 열리고 있는 행사 목록을 시작일 오름차순으로 조회합니다.
+     *
+     * @param categoryNo 카테고리 번호, {@code null}이면 전체
+     * @param localNo    지자체 번호, {@code null}이면 전체
+     * @param pageable   페이징 정보를 포함한 {@link Pageable} 객체
+     * @return {@link EventListResponse} 목록이 포함된 {@link Page}
+     */
+    Page<EventListResponse> getOngoingEvents(Long categoryNo, Short localNo, Pageable pageable);
+
+    /**
+     * 기준 좌표에서 반경 안에 있는 행사 목록을 가까운 순으로 조회합니다.
+     * <p>
+     * 행사 좌표는 지자체 대표 좌표이므로 같은 지자체의 행사는 같은 거리로 계산됩니다.
+     * </p>
+     *
+     * @param latitude   기준 위도
+     * @param longitude  기준 경도
+     * @param radiusKm   반경(km, 최대 100)
+     * @param categoryNo 카테고리 번호, {@code null}이면 전체
+     * @param localNo    지자체 번호, {@code null}이면 전체
+     * @param pageable   페이징 정보를 포함한 {@link Pageable} 객체
+     * @return 거리를 포함한 {@link EventNearbyResponse} 목록이 포함된 {@link Page}
+     * @throws IllegalArgumentException 좌표 또는 반경이 범위를 벗어난 경우
+     */
+    Page<EventNearbyResponse> getNearbyEvents(double latitude, double longitude, double radiusKm,
+                                              Long categoryNo, Short localNo, Pageable pageable);
+
+    /**
+     * 카테고리·행정구역·시작 월 조건으로 행사 목록을 최신 등록순으로 조회하고, 필터 칩별 행사 수를 함께 반환합니다.
+     * <p>
+     * 조건 조합과 개수 계산은 메모리 패싯 색인에서 처리하며, 데이터베이스는 결과 페이지 조회에만 사용합니다.
+     * </p>
+     *
+     * @param categoryNo    카테고리 번호, {@code null}이면 전체
+     * @param localDistrict 행정구역, {@code null}이면 전체
+     * @param month         행사 시작 월, {@code null}이면 전체
+     * @param pageable      페이징 정보를 포함한 {@link Pageable} 객체
+     * @return 행사 목록과 패싯별 개수를 담은 {@link EventFacetResponse}
+     */
+    EventFacetResponse getFacetedEvents(Long categoryNo, String localDistrict, YearMonth month, Pageable pageable);
+
 }
@@ -0,0 +1,60 @@
+package com.cu2mber.eventservice.event.service.impl;
+
+import com.cu2mber.eventservice.event.dto.EventChange;
+import com.cu2mber.eventservice.event.dto.EventChangeToken;
+import com.cu2mber.eventservice.event.dto.EventChangesResponse;
+import com.cu2mber.eventservice.event.feed.EventChangeFeedProperties;
+import com.cu2mber.eventservice.event.repository.EventRepository;
+import com.cu2mber.eventservice.event.service.EventChangeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link EventChangeService} 구현체입니다.
+ * <p>
+ * {@code updatedAt}은 flush 시점의 시각이라 커밋 순서와 다를 수 있으므로, 현재 시각에서
+ * {@code event.changes.safety-lag}만큼 이전까지의 변경만 내려줍니다. 그보다 최근의 변경은 다음 요청에서 내려갑니다.
+ * </p>
+ * <p>
+ * 현재 시각은 인스턴스마다 다를 수 있는 JVM 시계가 아니라 데이터베이스에서 읽습니다.
+ * {@code updatedAt}은 JPA 쓰기에서는 JVM 시계로, SQL 직접 수정에서는 DB의 {@code ON UPDATE CURRENT_TIMESTAMP}로 채워지므로
+ * 두 시계가 같은 시간대({@code Asia/Seoul})를 쓰도록 JVM 기본 시간대와 DB 세션 시간대를 고정합니다.
+ * 남는 시계 오차는 {@code safety-lag}보다 작아야 합니다(NTP 동기화 전제).
+ * </p>
+ * <p>
+ * 워터마크를 지난 변경은 다시 내려가지 않으므로 복제 지연이 있는 읽기 전용 복제본이 아니라
+ * 주 데이터베이스에서 읽도록 읽기 전용이 아닌 트랜잭션을 사용합니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class EventChangeServiceImpl implements EventChangeService {
+
+    private final EventRepository eventRepository;
+    private final EventChangeFeedProperties properties;
+
+    @Override
+    @Transactional
+    public EventChangesResponse getChanges(String since, int size) {
+        if (size < 1 || size > properties.maxSize()) {
+            throw new IllegalArgumentException("size는 1 이상 " + properties.maxSize() + " 이하여야 합니다.");
+        }
+
+        EventChangeToken current = EventChangeToken.decode(since);
+        LocalDateTime until = eventRepository.currentDateTime().minus(properties.safetyLag());
+
+        List<EventChange> rows = eventRepository.findChangesAfter(
+                current.updatedAt(), current.eventNo(), until, PageRequest.of(0, size + 1));
+
+        boolean hasMore = rows.size() > size;
+        List<EventChange> changes = hasMore ? rows.subList(0, size) : rows;
+        EventChangeToken next = changes.isEmpty() ? current : changes.getLast().toToken();
+
+        return new EventChangesResponse(List.copyOf(changes), next.encode(), hasMore);
+    }
+}
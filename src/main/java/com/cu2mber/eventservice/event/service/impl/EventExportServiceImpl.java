@@ -0,0 +1,56 @@
+package com.cu2mber.eventservice.event.service.impl;
+
+import com.cu2mber.eventservice.event.dto.EventExportRow;
+import com.cu2mber.eventservice.event.export.EventExportFormat;
+import com.cu2mber.eventservice.event.export.EventExportWriter;
+import com.cu2mber.eventservice.event.repository.EventRepository;
+import com.cu2mber.eventservice.event.service.EventExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * {@link EventExportService} 구현체입니다.
+ * <p>
+ * {@link EventRepository#streamAllForExport()}의 커서 스트림을 형식별 {@link EventExportWriter}에 그대로 넘깁니다.
+ * 스트림은 읽기 전용 트랜잭션 안에서만 유효하므로 기록이 끝날 때까지 트랜잭션을 유지합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class EventExportServiceImpl implements EventExportService {
+
+    private final EventRepository eventRepository;
+    private final Map<EventExportFormat, EventExportWriter> writers = new EnumMap<>(EventExportFormat.class);
+
+    public EventExportServiceImpl(EventRepository eventRepository, List<EventExportWriter> writers) {
+        this.eventRepository = eventRepository;
+        for (EventExportWriter writer : writers) {
+            this.writers.put(writer.format(), writer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long export(EventExportFormat format, OutputStream out) throws IOException {
+        EventExportWriter writer = writers.get(format);
+        if (writer == null) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+        }
+
+        long count;
+        try (Stream<EventExportRow> rows = eventRepository.streamAllForExport()) {
+            count = writer.write(rows.iterator(), out);
+        }
+
+        log.debug("행사 내보내기 완료: format={}, rows={}", format, count);
+        return count;
+    }
+}
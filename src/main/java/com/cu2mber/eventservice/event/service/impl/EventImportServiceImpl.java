@@ -0,0 +1,333 @@
+package com.cu2mber.eventservice.event.service.impl;
+
+import com.cu2mber.eventservice.category.cache.CategoryDictionary;
+import com.cu2mber.eventservice.category.domain.Category;
+import com.cu2mber.eventservice.category.dto.CategoryResponse;
+import com.cu2mber.eventservice.event.domain.Event;
+import com.cu2mber.eventservice.event.dto.EventImportError;
+import com.cu2mber.eventservice.event.dto.EventImportResult;
+import com.cu2mber.eventservice.event.dto.EventImportRow;
+import com.cu2mber.eventservice.event.export.EventExportFormat;
+import com.cu2mber.eventservice.event.geo.DistrictCentroids;
+import com.cu2mber.eventservice.event.ingest.EventImportHandler;
+import com.cu2mber.eventservice.event.ingest.EventImportReader;
+import com.cu2mber.eventservice.event.repository.EventRepository;
+import com.cu2mber.eventservice.event.service.EventImportService;
+import com.cu2mber.eventservice.localgov.cache.LocalGovDictionary;
+import com.cu2mber.eventservice.localgov.domain.LocalGov;
+import com.cu2mber.eventservice.localgov.dto.LocalGovResponse;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link EventImportService} 구현체입니다.
+ * <p>
+ * 형식별 {@link EventImportReader}가 넘기는 행을 검증한 뒤 {@value #CHUNK_SIZE}행 단위로 모아 저장합니다.
+ * 단위마다 자연 키로 기존 행사를 한 번에 조회해 갱신하고, 나머지는 새로 등록합니다.
+ * 행사 번호를 시퀀스에서 미리 할당받으므로 등록은 {@code hibernate.jdbc.batch_size} 단위의 JDBC 배치로 실행됩니다.
+ * </p>
+ * <p>
+ * 요청 단위 영속성 컨텍스트(open-in-view)에 엔티티가 쌓이지 않도록 단위마다 flush 후 비웁니다.
+ * 지자체·카테고리는 메모리 사전에서 번호를 찾아 프록시로만 참조하고, 좌표도 미리 채워
+ * {@code EventLocationListener}가 지자체를 다시 읽지 않게 합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class EventImportServiceImpl implements EventImportService {
+
+    /**
+     * 한 트랜잭션에서 저장하는 최대 행 수입니다.
+     */
+    static final int CHUNK_SIZE = 500;
+
+    /**
+     * 결과에 담는 제외 행의 최대 개수입니다.
+     */
+    static final int MAX_ERRORS = 100;
+
+    private final EventRepository eventRepository;
+    private final CategoryDictionary categoryDictionary;
+    private final LocalGovDictionary localGovDictionary;
+    private final DistrictCentroids districtCentroids;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<EventExportFormat, EventImportReader> readers = new EnumMap<>(EventExportFormat.class);
+
+    public EventImportServiceImpl(EventRepository eventRepository,
+                                  CategoryDictionary categoryDictionary,
+                                  LocalGovDictionary localGovDictionary,
+                                  DistrictCentroids districtCentroids,
+                                  EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager,
+                                  List<EventImportReader> readers) {
+        this.eventRepository = eventRepository;
+        this.categoryDictionary = categoryDictionary;
+        this.localGovDictionary = localGovDictionary;
+        this.districtCentroids = districtCentroids;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (EventImportReader reader : readers) {
+            this.readers.put(reader.format(), reader);
+        }
+    }
+
+    @Override
+    public EventImportResult importEvents(EventExportFormat format, InputStream in) throws IOException {
+        EventImportReader reader = readers.get(format);
+        if (reader == null) {
+            throw new IllegalArgumentException("지원하지 않는 적재 형식입니다: " + format);
+        }
+
+        Session session = new Session();
+        reader.read(in, session);
+        session.flushChunk();
+
+        EventImportResult result = session.result();
+        log.info("행사 일괄 적재 완료: format={}, received={}, inserted={}, updated={}, unchanged={}, duplicated={}, rejected={}",
+                format, result.received(), result.inserted(), result.updated(), result.unchanged(),
+                result.duplicated(), result.rejected());
+        return result;
+    }
+
+    /**
+     * 행을 검증합니다.
+     *
+     * @return 제외 이유, 문제가 없으면 {@code null}
+     */
+    static String validate(EventImportRow row) {
+        if (isBlank(row.eventTitle())) {
+            return "행사명이 없습니다.";
+        }
+        if (isBlank(row.localDistrict())) {
+            return "행정구역이 없습니다.";
+        }
+        if (isBlank(row.categoryName())) {
+            return "카테고리가 없습니다.";
+        }
+        if (isBlank(row.eventAddress()) || isBlank(row.eventUrl()) || isBlank(row.eventSpot())
+                || isBlank(row.eventHost()) || isBlank(row.eventInquiry())) {
+            return "주소, URL, 장소, 주최, 문의처는 비어 있을 수 없습니다.";
+        }
+        if (row.eventStartDate() == null || row.eventEndDate() == null
+                || row.eventStartTime() == null || row.eventEndTime() == null) {
+            return "시작·종료 날짜와 시간은 비어 있을 수 없습니다.";
+        }
+        if (row.eventStartDate().isAfter(row.eventEndDate())) {
+            return "시작일이 종료일보다 늦습니다.";
+        }
+        if (row.eventTitle().length() > 255 || row.eventAddress().length() > 255) {
+            return "행사명과 주소는 255자를 넘을 수 없습니다.";
+        }
+        if (row.eventSpot().length() > 50 || row.eventHost().length() > 50 || row.eventInquiry().length() > 50) {
+            return "장소, 주최, 문의처는 50자를 넘을 수 없습니다.";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 자연 키(지자체, 행사명, 시작일)입니다.
+     * <p>
+     * 행사명은 {@code uq_events_natural_key}의 콜레이션({@code utf8mb4_general_ci})과 같게 비교되도록
+     * 끝 공백을 지우고 소문자로 바꿔 보관합니다. 그렇지 않으면 DB가 같은 행사로 보는 행을 새 행사로 INSERT해 유니크 제약에 걸립니다.
+     * </p>
+     */
+    private record NaturalKey(Short localNo, String eventTitle, LocalDate eventStartDate) {
+
+        static NaturalKey of(Short localNo, String eventTitle, LocalDate eventStartDate) {
+            return new NaturalKey(localNo, eventTitle.stripTrailing().toLowerCase(Locale.ROOT), eventStartDate);
+        }
+
+        static NaturalKey of(Event event) {
+            return of(event.getLocalGov().getLocalNo(), event.getEventTitle(), event.getEventStartDate());
+        }
+    }
+
+    /**
+     * 검증을 통과해 저장을 기다리는 행입니다.
+     */
+    private record Pending(long line, EventImportRow row, LocalGovResponse localGov, CategoryResponse category) {
+    }
+
+    /**
+     * 한 번의 적재 요청 동안 단위와 집계를 보관합니다.
+     */
+    private final class Session implements EventImportHandler {
+
+        private final Map<NaturalKey, Pending> chunk = new LinkedHashMap<>();
+        private final List<EventImportError> errors = new ArrayList<>();
+        private long received;
+        private long inserted;
+        private long updated;
+        private long unchanged;
+        private long duplicated;
+        private long rejected;
+
+        @Override
+        public void accept(long line, EventImportRow row) {
+            received++;
+
+            String reason = validate(row);
+            if (reason != null) {
+                reject(line, reason, false);
+                return;
+            }
+
+            LocalGovResponse localGov = localGovDictionary.findByName(row.localDistrict(), row.localName()).orElse(null);
+            if (localGov == null) {
+                reject(line, "지자체를 찾을 수 없습니다: " + row.localDistrict() + " " + row.localName(), false);
+                return;
+            }
+            CategoryResponse category = categoryDictionary.findByName(row.categoryName()).orElse(null);
+            if (category == null) {
+                reject(line, "카테고리를 찾을 수 없습니다: " + row.categoryName(), false);
+                return;
+            }
+
+            NaturalKey key = NaturalKey.of(localGov.localNo(), row.eventTitle(), row.eventStartDate());
+            if (chunk.remove(key) != null) {
+                duplicated++;
+            }
+            chunk.put(key, new Pending(line, row, localGov, category));
+
+            if (chunk.size() >= CHUNK_SIZE) {
+                flushChunk();
+            }
+        }
+
+        @Override
+        public void reject(long line, String reason) {
+            reject(line, reason, true);
+        }
+
+        private void reject(long line, String reason, boolean count) {
+            if (count) {
+                received++;
+            }
+            rejected++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new EventImportError(line, reason));
+            }
+        }
+
+        /**
+         * 모아 둔 단위를 한 트랜잭션으로 저장합니다.
+         * 단위 저장이 실패하면 행마다 별도 트랜잭션으로 다시 저장해, 실패한 행만 제외하고 계속 진행합니다.
+         */
+        void flushChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            try {
+                saveInTransaction(chunk);
+            } catch (DataAccessException e) {
+                log.warn("행사 일괄 적재 단위 저장 실패, 행 단위로 다시 저장: rows={}, cause={}",
+                        chunk.size(), e.getMostSpecificCause().getMessage());
+                entityManager.clear();
+                chunk.forEach(this::saveOne);
+            } finally {
+                entityManager.clear();
+                chunk.clear();
+            }
+        }
+
+        private void saveOne(NaturalKey key, Pending pending) {
+            try {
+                saveInTransaction(Map.of(key, pending));
+            } catch (DataAccessException e) {
+                reject(pending.line(), "저장 실패: " + e.getMostSpecificCause().getMessage(), false);
+            } finally {
+                entityManager.clear();
+            }
+        }
+
+        private void saveInTransaction(Map<NaturalKey, Pending> rows) {
+            int[] counts = transactionTemplate.execute(status -> save(rows));
+            inserted += counts[0];
+            updated += counts[1];
+            unchanged += counts[2];
+        }
+
+        /**
+         * @return {등록 수, 갱신 수, 변경 없음 수}
+         */
+        private int[] save(Map<NaturalKey, Pending> chunk) {
+            Set<Short> localNos = new HashSet<>();
+            Set<String> titles = new HashSet<>();
+            Set<LocalDate> startDates = new HashSet<>();
+            for (Pending pending : chunk.values()) {
+                localNos.add(pending.localGov().localNo());
+                titles.add(pending.row().eventTitle());
+                startDates.add(pending.row().eventStartDate());
+            }
+
+            Map<NaturalKey, Event> existing = new HashMap<>();
+            for (Event event : eventRepository.findAllByNaturalKeyIn(localNos, titles, startDates)) {
+                existing.put(NaturalKey.of(event), event);
+            }
+
+            List<Event> created = new ArrayList<>();
+            int updatedCount = 0;
+            int unchangedCount = 0;
+
+            for (Map.Entry<NaturalKey, Pending> entry : chunk.entrySet()) {
+                Pending pending = entry.getValue();
+                EventImportRow row = pending.row();
+                Category category = entityManager.getReference(Category.class, pending.category().categoryNo());
+                Event event = existing.get(entry.getKey());
+
+                if (event == null) {
+                    created.add(create(pending, category));
+                } else if (event.update(category, row.eventAddress(), row.eventEndDate(),
+                        row.eventStartTime(), row.eventEndTime(), row.eventUrl(), row.eventSpot(),
+                        row.eventHost(), row.eventInquiry(), row.eventDescription(), row.eventImageUrl())) {
+                    updatedCount++;
+                } else {
+                    unchangedCount++;
+                }
+            }
+
+            eventRepository.saveAllAndFlush(created);
+            return new int[]{created.size(), updatedCount, unchangedCount};
+        }
+
+        private Event create(Pending pending, Category category) {
+            EventImportRow row = pending.row();
+            LocalGov localGov = entityManager.getReference(LocalGov.class, pending.localGov().localNo());
+            Event event = new Event(localGov, category, row.eventTitle(), row.eventAddress(),
+                    row.eventStartDate(), row.eventEndDate(), row.eventStartTime(), row.eventEndTime(),
+                    row.eventUrl(), row.eventSpot(), row.eventHost(), row.eventInquiry(),
+                    row.eventDescription(), row.eventImageUrl());
+
+            districtCentroids.locate(pending.localGov().localDistrict(), pending.localGov().localName())
+                    .ifPresent(point -> event.locate(point.latitude(), point.longitude()));
+            return event;
+        }
+
+        EventImportResult result() {
+            return new EventImportResult(received, inserted, updated, unchanged, duplicated, rejected, List.copyOf(errors));
+        }
+    }
+}
@@ -1,22 +1,59 @@
 package com.cu2mber.eventservice.event.service.impl;
 
-import com.cu2mber.eventservice.category.domain.Category;
-import com.cu2mber.eventservice.category.repository.CategoryRepository;
+import com.cu2mber.eventservice.category.cache.CategoryDictionary;
+import com.cu2mber.eventservice.category.dto.CategoryResponse;
+import com.cu2mber.eventservice.event.cache.EventCountCache;
+import com.cu2mber.eventservice.event.cache.EventDetailCache;
+import com.cu2mber.eventservice.event.cache.EventPageCache;
+import com.cu2mber.eventservice.event.domain.Event;
+import com.cu2mber.eventservice.event.dto.EventBatchItem;
+import com.cu2mber.eventservice.event.dto.EventBatchResponse;
+import com.cu2mber.eventservice.event.dto.EventCursor;
+import com.cu2mber.eventservice.event.dto.EventCursorResponse;
 import com.cu2mber.eventservice.event.dto.EventDetailResponse;
+import com.cu2mber.eventservice.event.dto.EventFacetResponse;
 import com.cu2mber.eventservice.event.dto.EventListResponse;
+import com.cu2mber.eventservice.event.dto.EventListRow;
+import com.cu2mber.eventservice.event.dto.EventNearbyResponse;
+import com.cu2mber.eventservice.event.dto.EventSliceResponse;
+import com.cu2mber.eventservice.event.dto.FacetCount;
+import com.cu2mber.eventservice.event.facet.EventFacetIndex;
+import com.cu2mber.eventservice.event.facet.FacetFilter;
+import com.cu2mber.eventservice.event.facet.FacetResult;
+import com.cu2mber.eventservice.event.geo.EventDistance;
+import com.cu2mber.eventservice.event.geo.EventGeoIndex;
+import com.cu2mber.eventservice.event.geo.GeoPoint;
+import com.cu2mber.eventservice.event.period.EventPeriodIndex;
 import com.cu2mber.eventservice.event.repository.EventRepository;
+import com.cu2mber.eventservice.event.search.EventSearchEngine;
 import com.cu2mber.eventservice.event.service.EventService;
+import com.cu2mber.eventservice.localgov.cache.LocalGovDictionary;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * {@link EventService} 구현체입니다.
@@ -24,15 +61,33 @@ import java.util.Optional;
  * 모든 메서드는 읽기 전용 트랜잭션(@Transactional(readOnly = true))으로 수행되며,
  * 행사 데이터를 최신 등록순으로 정렬하여 조회합니다.
  * </p>
+ *
+ * <p>
+ * 모든 메서드의 실행 시간은 {@code event.service} 타이머({@code method} 태그)로 기록되며,
+ * 백분위수(p50/p95/p99) 설정은 {@code management.metrics.distribution.*}를 따릅니다.
+ * </p>
  */
 @Slf4j
+@Timed("event.service")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Service
 public class EventServiceImpl implements EventService {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 200;
+    private static final double MAX_NEARBY_RADIUS_KM = 100;
+
     private final EventRepository eventRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryDictionary categoryDictionary;
+    private final EventCountCache eventCountCache;
+    private final EventSearchEngine eventSearchEngine;
+    private final EventDetailCache eventDetailCache;
+    private final EventPeriodIndex eventPeriodIndex;
+    private final LocalGovDictionary localGovDictionary;
+    private final EventGeoIndex eventGeoIndex;
+    private final EventFacetIndex eventFacetIndex;
+    private final EventPageCache eventPageCache;
 
     /**
      * 전체 행사 목록을 페이지 단위로 조회합니다.
@@ -40,6 +95,7 @@ public class EventServiceImpl implements EventService {
      *     프론트엔드에서 전달된 페이지 번호(page)와 페이지 크기(size)를 기반으로
      *     최신순으로 정렬된 행사 목록을 반환합니다.
      *     정렬 기준은 해당 서비스에서 event_no 내림차순으로 고정됩니다.
+     *     앞쪽 페이지는 {@link EventPageCache}에 보관된 결과를 반환합니다.
      * </p>
      *
      * @param pageable 요청된 페이징 정보
@@ -47,66 +103,264 @@ public class EventServiceImpl implements EventService {
      */
     @Override
     public Page<EventListResponse> getAllEvents(Pageable pageable) {
+        Pageable fixedPageable = createPageable(pageable);
+
+        return eventPageCache.get(null, fixedPageable, () -> eventRepository.findAllListBy(fixedPageable));
+    }
 
-        log.info("[getAllEvents] 전체 행사 목록 조회 요청 - page: {}", pageable.getPageNumber());
+    @Override
+    public Page<EventListResponse> searchEventsByTitle(String keyword, Pageable pageable) {
+        List<Long> matched = eventSearchEngine.search(keyword);
+
+        return new PageImpl<>(findListInOrder(pageOf(matched, pageable)), pageable, matched.size());
+    }
+
+    @Override
+    public Page<EventListResponse> getEventsByCategory(Long categoryNo, Pageable pageable) {
+        validateCategory(categoryNo);
 
         Pageable fixedPageable = createPageable(pageable);
 
-        Page<EventListResponse> events = eventRepository.findAll(fixedPageable)
-                .map(EventListResponse::from);
+        return eventPageCache.get(categoryNo, fixedPageable,
+                () -> eventRepository.findByCategory_CategoryNo(categoryNo, fixedPageable));
+    }
 
-        log.info("[getAllEvents] 조회된 행사 개수: {}", events.getTotalElements());
-        return events;
+    @Override
+    public EventDetailResponse getEventDetail(Long eventNo) {
+        return eventDetailCache.get(eventNo,
+                        key -> eventRepository.findByEventNo(key).map(EventDetailResponse::from))
+                .orElseThrow(() -> {
+                    log.warn("[getEventDetail] 행사 조회 실패 - 존재하지 않는 eventNo: {}", eventNo);
+                    return new EntityNotFoundException("해당 번호의 행사를 찾을 수 없습니다.");
+                });
+    }
+
+    /**
+     * 여러 행사의 상세 정보를 요청 순서대로 조회합니다.
+     * <p>
+     *     캐시에 있는 번호는 그대로 사용하고, 나머지는 {@link #loadEventDetails(Set)}로 한 번에 조회하여 캐시에 채웁니다.
+     * </p>
+     *
+     * @param eventNos 조회할 행사 번호 목록
+     * @return 요청 순서의 상세 목록과 존재하지 않는 번호 목록
+     */
+    @Override
+    public EventBatchResponse getEventDetails(List<Long> eventNos) {
+        Set<Long> distinctEventNos = validateBatch(eventNos);
 
+        Map<Long, Optional<EventDetailResponse>> details =
+                eventDetailCache.getAll(distinctEventNos, this::loadEventDetails);
+
+        List<EventBatchItem> events = new ArrayList<>(distinctEventNos.size());
+        List<Long> missingEventNos = new ArrayList<>();
+        for (Long eventNo : distinctEventNos) {
+            details.getOrDefault(eventNo, Optional.empty())
+                    .ifPresentOrElse(detail -> events.add(new EventBatchItem(eventNo, detail)),
+                            () -> missingEventNos.add(eventNo));
+        }
+
+        return new EventBatchResponse(events, missingEventNos);
     }
 
     @Override
-    public Page<EventListResponse> searchEventsByTitle(String keyword, Pageable pageable) {
+    public EventCursorResponse getAllEventsByCursor(String cursor, int size) {
+        EventCursor current = EventCursor.decode(cursor);
 
-        log.info("[searchEventsByTitle] 키워드 검색 요청 - keyword: {}", keyword);
+        List<EventListRow> rows = eventRepository.findAllAfterCursor(
+                current.createdAt(), current.eventNo(), createCursorPageable(size));
 
-        Pageable fixedPageable = createPageable(pageable);
+        return toCursorResponse(rows, size);
+    }
+
+    @Override
+    public EventCursorResponse searchEventsByTitleByCursor(String keyword, String cursor, int size) {
+        validateCursorSize(size);
+        EventCursor current = EventCursor.decode(cursor);
+
+        List<Long> matched = eventSearchEngine.search(keyword);
 
-        Page<EventListResponse> results = eventRepository.findByEventTitleContaining(keyword, fixedPageable)
-                .map(EventListResponse::from);
+        // 검색 결과는 엔진의 정렬 순서를 따르므로 커서 행사의 다음 위치부터 이어서 조회합니다.
+        int from = 0;
+        if (!EventCursor.FIRST.equals(current)) {
+            from = matched.indexOf(current.eventNo()) + 1;
 
-        log.info("[searchEventsByTitle] 검색 결과 개수 : {}", results.getTotalElements());
-        return results;
+            if (from == 0) {
+                throw new IllegalArgumentException("검색 결과가 변경되어 커서 위치를 찾을 수 없습니다. 첫 페이지부터 다시 조회해 주세요.");
+            }
+        }
+
+        List<Long> eventNos = matched.subList(from, Math.min(from + size + 1, matched.size()));
+        List<EventListRow> rows = inOrder(eventNos, eventRepository.findRowsByEventNoIn(eventNos), EventListRow::eventNo);
+
+        return toCursorResponse(rows, size);
     }
 
     @Override
-    public Page<EventListResponse> getEventsByCategory(Long categoryNo, Pageable pageable) {
+    public EventCursorResponse getEventsByCategoryByCursor(Long categoryNo, String cursor, int size) {
+        validateCategory(categoryNo);
+
+        EventCursor current = EventCursor.decode(cursor);
+
+        List<EventListRow> rows = eventRepository.findByCategoryNoAfterCursor(
+                categoryNo, current.createdAt(), current.eventNo(), createCursorPageable(size));
+
+        return toCursorResponse(rows, size);
+    }
+
+    @Override
+    public EventSliceResponse getAllEventsSlice(Pageable pageable, boolean withTotal) {
+        Slice<EventListResponse> events = eventRepository.findSliceBy(createPageable(pageable));
+
+        Long total = withTotal ? eventCountCache.getTotalCount().orElse(null) : null;
+        return EventSliceResponse.of(events, total);
+    }
+
+    @Override
+    public EventSliceResponse searchEventsByTitleSlice(String keyword, Pageable pageable) {
+        List<Long> matched = eventSearchEngine.search(keyword);
+        List<Long> page = pageOf(matched, pageable);
+
+        boolean hasNext = pageable.getOffset() + page.size() < matched.size();
+        Slice<EventListResponse> results = new SliceImpl<>(findListInOrder(page), pageable, hasNext);
+
+        return EventSliceResponse.of(results, null);
+    }
+
+    @Override
+    public EventSliceResponse getEventsByCategorySlice(Long categoryNo, Pageable pageable, boolean withTotal) {
+        validateCategory(categoryNo);
+
+        Slice<EventListResponse> results = eventRepository.findSliceByCategory_CategoryNo(categoryNo, createPageable(pageable));
 
-        Optional<Category> category = categoryRepository.findById(categoryNo);
+        Long total = withTotal ? eventCountCache.getCategoryCount(categoryNo).orElse(null) : null;
+        return EventSliceResponse.of(results, total);
+    }
 
-        if(category.isPresent()){
-            log.info("[getEventsByCategory] 특정 카테고리 검색 : {}", category);
-        } else {
-            log.error("[getEventsByCategory] 특정 카테고리 검색 실패");
+    @Override
+    public Page<EventListResponse> getEventsByPeriod(LocalDate from, LocalDate to, Long categoryNo, Short localNo,
+                                                     Pageable pageable) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from은 to보다 늦을 수 없습니다.");
+        }
+        if (categoryNo != null) {
+            validateCategory(categoryNo);
+        }
+        if (localNo != null) {
+            validateLocalGov(localNo);
         }
 
-        Pageable fixedPageable = createPageable(pageable);
+        List<Long> matched = eventPeriodIndex.findOverlapping(from, to, categoryNo, localNo);
+
+        return new PageImpl<>(findListInOrder(pageOf(matched, pageable)), pageable, matched.size());
+    }
 
-        Page<EventListResponse> results = eventRepository.findByCategory_CategoryNo(category.get().getCategoryNo(), fixedPageable)
-                .map(EventListResponse::from);
+    @Override
+    public Page<EventListResponse> getOngoingEvents(Long categoryNo, Short localNo, Pageable pageable) {
+        LocalDate today = LocalDate.now();
 
-        log.info("[getEventsByCategory] 조회된 행사 개수: {}", results.getTotalElements());
-        return results;
+        return getEventsByPeriod(today, today, categoryNo, localNo, pageable);
     }
 
+    /**
+     * 위치 색인에서 반경 안의 행사를 거리순으로 찾고, 요청한 페이지의 행사만 데이터베이스에서 조회합니다.
+     */
     @Override
-    public EventDetailResponse getEventDetail(Long eventNo) {
-        log.info("[getEventDetail] 행사 상세 조회 요청 - eventNo: {}", eventNo);
+    public Page<EventNearbyResponse> getNearbyEvents(double latitude, double longitude, double radiusKm,
+                                                     Long categoryNo, Short localNo, Pageable pageable) {
+        GeoPoint center = new GeoPoint(latitude, longitude);
+        if (!(radiusKm > 0 && radiusKm <= MAX_NEARBY_RADIUS_KM)) {
+            throw new IllegalArgumentException("radius는 0보다 크고 " + (int) MAX_NEARBY_RADIUS_KM + " 이하여야 합니다.");
+        }
+        if (categoryNo != null) {
+            validateCategory(categoryNo);
+        }
+        if (localNo != null) {
+            validateLocalGov(localNo);
+        }
 
-        EventDetailResponse response = eventRepository.findByEventNo(eventNo)
-                .map(EventDetailResponse::from)
-                .orElseThrow(() -> {
-                    log.warn("[getEventDetail] 행사 조회 실패 - 존재하지 않는 eventNo: {}", eventNo);
-                    return new EntityNotFoundException("해당 번호의 행사를 찾을 수 없습니다.");
-                });
+        List<EventDistance> matched = eventGeoIndex.findNearby(center, radiusKm, categoryNo, localNo);
+
+        List<EventDistance> page = pageOf(matched, pageable);
+        if (page.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, matched.size());
+        }
+
+        Map<Long, EventListResponse> events = new HashMap<>();
+        for (EventListResponse event : eventRepository.findListByEventNoIn(
+                page.stream().map(EventDistance::eventNo).toList())) {
+            events.put(event.eventNo(), event);
+        }
+
+        List<EventNearbyResponse> content = new ArrayList<>(page.size());
+        for (EventDistance distance : page) {
+            EventListResponse event = events.get(distance.eventNo());
+            // 색인 재구성 전에 삭제된 행사는 건너뜁니다.
+            if (event != null) {
+                content.add(new EventNearbyResponse(event, distance.distanceKm()));
+            }
+        }
 
-        log.info("[getEventDetail] 행사 상세 조회 성공 - eventNo: {}", eventNo);
-        return response;
+        return new PageImpl<>(content, pageable, matched.size());
+    }
+
+    /**
+     * 패싯 색인에서 조건에 맞는 행사 번호와 칩별 개수를 구하고, 요청한 페이지의 행사만 데이터베이스에서 조회합니다.
+     */
+    @Override
+    public EventFacetResponse getFacetedEvents(Long categoryNo, String localDistrict, YearMonth month, Pageable pageable) {
+        if (categoryNo != null) {
+            validateCategory(categoryNo);
+        }
+
+        FacetResult result = eventFacetIndex.search(new FacetFilter(categoryNo, localDistrict, month),
+                pageable.getOffset(), pageable.getPageSize());
+
+        List<EventListResponse> events = findListInOrder(result.eventNos());
+
+        List<FacetCount> categories = result.categories().entrySet().stream()
+                .map(entry -> new FacetCount(String.valueOf(entry.getKey()),
+                        categoryDictionary.find(entry.getKey()).map(CategoryResponse::categoryName).orElse(null),
+                        entry.getValue()))
+                .toList();
+        List<FacetCount> districts = result.districts().entrySet().stream()
+                .map(entry -> new FacetCount(entry.getKey(), entry.getKey(), entry.getValue()))
+                .toList();
+        List<FacetCount> months = result.months().entrySet().stream()
+                .map(entry -> new FacetCount(entry.getKey().toString(), entry.getKey().toString(), entry.getValue()))
+                .toList();
+
+        return new EventFacetResponse(events, pageable.getPageNumber(), pageable.getPageSize(), result.total(),
+                categories, districts, months);
+    }
+
+    /**
+     * 검색 엔진이나 메모리 색인이 정렬한 목록에서 요청한 페이지에 해당하는 구간을 잘라냅니다.
+     */
+    private static <T> List<T> pageOf(List<T> ranked, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+
+        return ranked.subList(from, to);
+    }
+
+    private List<EventListResponse> findListInOrder(List<Long> eventNos) {
+        if (eventNos.isEmpty()) {
+            return List.of();
+        }
+
+        return inOrder(eventNos, eventRepository.findListByEventNoIn(eventNos), EventListResponse::eventNo);
+    }
+
+    /**
+     * IN 조회 결과는 순서가 보장되지 않으므로 행사 번호 목록의 순서대로 다시 정렬합니다. 그 사이 삭제된 행사는 제외됩니다.
+     */
+    private static <T> List<T> inOrder(List<Long> eventNos, List<T> rows, Function<T, Long> eventNo) {
+        Map<Long, T> byEventNo = rows.stream().collect(Collectors.toMap(eventNo, Function.identity()));
+
+        return eventNos.stream()
+                .map(byEventNo::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     /**
@@ -121,4 +375,95 @@ public class EventServiceImpl implements EventService {
 
         return PageRequest.of(page, size, sort);
     }
+
+    /**
+     * 메모리에 적재된 카테고리 사전으로 카테고리 존재 여부를 확인합니다. 데이터베이스를 조회하지 않습니다.
+     */
+    private void validateCategory(Long categoryNo) {
+        if (!categoryDictionary.contains(categoryNo)) {
+            log.warn("[validateCategory] 존재하지 않는 categoryNo: {}", categoryNo);
+            throw new EntityNotFoundException("해당 번호의 카테고리를 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 메모리에 적재된 지자체 사전으로 지자체 존재 여부를 확인합니다.
+     */
+    private void validateLocalGov(Short localNo) {
+        if (!localGovDictionary.contains(localNo)) {
+            log.warn("[validateLocalGov] 존재하지 않는 localNo: {}", localNo);
+            throw new EntityNotFoundException("해당 번호의 지자체를 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 일괄 조회 번호 목록을 검증하고, 순서를 유지한 채 중복을 제거합니다.
+     */
+    private Set<Long> validateBatch(List<Long> eventNos) {
+        if (eventNos == null || eventNos.isEmpty()) {
+            throw new IllegalArgumentException("eventNos는 1개 이상이어야 합니다.");
+        }
+
+        Set<Long> distinctEventNos = new LinkedHashSet<>(eventNos);
+        if (distinctEventNos.contains(null)) {
+            throw new IllegalArgumentException("eventNos에 null을 포함할 수 없습니다.");
+        }
+        if (distinctEventNos.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("eventNos는 " + MAX_BATCH_SIZE + "개 이하여야 합니다.");
+        }
+
+        return distinctEventNos;
+    }
+
+    /**
+     * 캐시에 없는 행사 번호를 한 번의 fetch join 쿼리로 조회합니다.
+     * 존재하지 않는 번호는 {@link Optional#empty()}로 채워 단건 조회와 같이 캐시되도록 합니다.
+     */
+    private Map<Long, Optional<EventDetailResponse>> loadEventDetails(Set<? extends Long> eventNos) {
+        Map<Long, Optional<EventDetailResponse>> loaded = new HashMap<>();
+        for (Long eventNo : eventNos) {
+            loaded.put(eventNo, Optional.empty());
+        }
+
+        for (Event event : eventRepository.findAllWithDetailsByEventNoIn(List.copyOf(eventNos))) {
+            loaded.put(event.getEventNo(), Optional.of(EventDetailResponse.from(event)));
+        }
+
+        return loaded;
+    }
+
+    /**
+     * 커서 조회용 Pageable 객체를 생성합니다.
+     * 다음 페이지 존재 여부를 판단하기 위해 요청한 크기보다 한 건 더 조회합니다.
+     * 정렬은 쿼리에 고정되어 있으므로 page 번호와 정렬 정보는 사용하지 않습니다.
+     */
+    private Pageable createCursorPageable(int size) {
+        validateCursorSize(size);
+
+        return PageRequest.of(0, size + 1);
+    }
+
+    private void validateCursorSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_CURSOR_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * size + 1 건으로 조회된 결과를 응답으로 변환합니다.
+     * 초과 조회된 한 건이 있으면 다음 페이지가 존재하는 것으로 판단하고,
+     * 실제로 반환하는 마지막 행을 기준으로 다음 커서를 생성합니다.
+     */
+    private EventCursorResponse toCursorResponse(List<EventListRow> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<EventListRow> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? page.getLast().toCursor().encode() : null;
+
+        return new EventCursorResponse(
+                page.stream().map(EventListRow::toResponse).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
 }
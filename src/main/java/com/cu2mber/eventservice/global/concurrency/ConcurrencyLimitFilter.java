@@ -0,0 +1,109 @@
+package com.cu2mber.eventservice.global.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ConcurrencyLimitFilter}는 가상 스레드 모드에서 동시에 처리되는 API 요청 수를 제한합니다.
+ *
+ * <p>
+ *     가상 스레드를 사용하면 Tomcat 스레드 풀이 더 이상 동시 요청 수의 상한이 되지 않으므로,
+ *     트래픽이 몰리면 수천 개의 요청이 Hikari 커넥션 풀 앞에서 대기하다 {@code connection-timeout}으로 실패합니다.
+ *     이 필터는 {@link Semaphore}로 처리 슬롯을 제한하여 대기를 필터 앞에서 하도록 하고,
+ *     {@code acquireTimeout} 안에 슬롯을 얻지 못한 요청은 503과 {@code Retry-After}로 즉시 거절합니다.
+ * </p>
+ *
+ * <p>
+ *     {@code spring.threads.virtual.enabled=true}일 때만 등록되며, Actuator 요청은 제한하지 않습니다.
+ *     남은 슬롯 수와 거절 횟수는 {@code event.concurrency.available}, {@code event.concurrency.rejected} 지표로 노출됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final long retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(properties.maxConcurrentRequests(), true);
+        this.acquireTimeoutNanos = properties.acquireTimeout().toNanos();
+        this.retryAfterSeconds = Math.max(1, properties.acquireTimeout().toSeconds());
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("event.concurrency.available", permits, Semaphore::availablePermits)
+                .description("남은 요청 처리 슬롯 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("event.concurrency.rejected")
+                .description("처리 슬롯을 얻지 못해 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!tryAcquire()) {
+            reject(request, response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        rejected.increment();
+        log.warn("동시 요청 한도 초과로 요청 거절: {} {}", request.getMethod(), request.getRequestURI());
+
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+}
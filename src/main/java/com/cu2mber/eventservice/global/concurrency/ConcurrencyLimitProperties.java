@@ -0,0 +1,19 @@
+package com.cu2mber.eventservice.global.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * {@code ConcurrencyLimitProperties}는 동시 요청 제한 필터({@link ConcurrencyLimitFilter})의 설정값입니다.
+ *
+ * @param maxConcurrentRequests 동시에 처리할 수 있는 최대 요청 수 (커넥션 풀 크기의 1~2배 권장)
+ * @param acquireTimeout        처리 슬롯을 기다리는 최대 시간, 초과하면 503 응답
+ */
+@ConfigurationProperties(prefix = "event.concurrency")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("40") int maxConcurrentRequests,
+        @DefaultValue("2s") Duration acquireTimeout
+) {
+}
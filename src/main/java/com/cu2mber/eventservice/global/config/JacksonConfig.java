@@ -0,0 +1,51 @@
+package com.cu2mber.eventservice.global.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * {@code JacksonConfig}는 애플리케이션 공용 {@code ObjectMapper}의 추가 설정입니다.
+ *
+ * <p>
+ *     {@code @JsonFilter}가 선언된 응답 DTO는 필터 제공자가 없으면 직렬화할 수 없으므로,
+ *     모든 필드를 직렬화하는 기본 필터를 등록합니다.
+ *     필드 선택이 필요한 요청에서는 응답 단위로 필터를 덮어씁니다.
+ * </p>
+ *
+ * <p>
+ *     내부 서비스 간 호출을 위해 {@code Accept: application/cbor} 요청에는 같은 응답 DTO를 CBOR(이진 JSON)로 응답합니다.
+ *     CBOR 변환기도 공용 {@code ObjectMapper}와 같은 빌더 설정(기본 필터, 날짜 형식 등)을 사용하도록 여기서 등록합니다.
+ * </p>
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * 모든 {@code @JsonFilter}에 대해 전체 필드를 직렬화하는 필터 제공자를 생성합니다.
+     *
+     * @return 기본 필터 제공자
+     */
+    public static SimpleFilterProvider defaultFilters() {
+        return new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer defaultFilterCustomizer() {
+        return builder -> builder.filters(defaultFilters());
+    }
+
+    /**
+     * Spring MVC가 기본으로 추가하는 CBOR 변환기는 Boot의 빌더 설정을 적용하지 않아 {@code @JsonFilter} DTO를 직렬화할 수 없으므로,
+     * 같은 타입의 빈으로 대체합니다.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
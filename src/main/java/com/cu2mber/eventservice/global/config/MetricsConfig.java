@@ -0,0 +1,46 @@
+package com.cu2mber.eventservice.global.config;
+
+import com.cu2mber.eventservice.global.metrics.QueryCountInspector;
+import com.cu2mber.eventservice.global.metrics.QueryCountInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * {@code MetricsConfig}는 요청별 SQL 실행 수 측정을 위한 구성입니다.
+ *
+ * <p>
+ *     {@link QueryCountInspector}를 Hibernate 세션 팩토리에 등록하고,
+ *     {@link QueryCountInterceptor}를 API 경로({@code /api/**})에 적용합니다.
+ *     서비스·리포지토리 지연 시간과 Hibernate 통계는 Actuator 자동 구성과 설정값으로 수집합니다.
+ * </p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public QueryCountInspector queryCountInspector() {
+        return new QueryCountInspector();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer(QueryCountInspector queryCountInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountInspector);
+    }
+
+    @Bean
+    public WebMvcConfigurer queryCountWebMvcConfigurer(QueryCountInspector queryCountInspector, MeterRegistry meterRegistry) {
+        QueryCountInterceptor interceptor = new QueryCountInterceptor(queryCountInspector, meterRegistry);
+
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
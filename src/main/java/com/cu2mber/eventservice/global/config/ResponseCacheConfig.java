@@ -0,0 +1,35 @@
+package com.cu2mber.eventservice.global.config;
+
+import com.cu2mber.eventservice.event.cache.EventChangeTracker;
+import com.cu2mber.eventservice.global.web.EncodedResponseCacheFilter;
+import com.cu2mber.eventservice.global.web.EncodedResponseCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code ResponseCacheConfig}는 {@code event.response-cache.enabled=true}일 때
+ * 직렬화된 응답 바이트 캐시({@link EncodedResponseCacheFilter})를 등록합니다.
+ *
+ * <p>
+ *     캐시 키의 버전은 HTTP 조건부 요청과 같은 {@link EventChangeTracker}를 사용합니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "event.response-cache.enabled", havingValue = "true")
+public class ResponseCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<EncodedResponseCacheFilter> encodedResponseCacheFilter(
+            EncodedResponseCacheProperties properties, EventChangeTracker eventChangeTracker,
+            MeterRegistry meterRegistry) {
+        EncodedResponseCacheFilter filter =
+                new EncodedResponseCacheFilter(properties, eventChangeTracker::version, meterRegistry);
+
+        FilterRegistrationBean<EncodedResponseCacheFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/events", "/api/events/*");
+        return registration;
+    }
+}
@@ -0,0 +1,12 @@
+package com.cu2mber.eventservice.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code SchedulingConfig}는 주기적으로 갱신되는 캐시(행사 개수 등)를 위해 스케줄링을 활성화합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,58 @@
+package com.cu2mber.eventservice.global.config;
+
+import com.cu2mber.eventservice.event.cache.EventChangeTracker;
+import com.cu2mber.eventservice.global.web.ConditionalGetInterceptor;
+import com.cu2mber.eventservice.global.web.HttpCacheProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.WebContentInterceptor;
+
+/**
+ * {@code WebCacheConfig}는 행사 API의 HTTP 캐시 헤더와 조건부 GET 처리를 구성합니다.
+ *
+ * <ul>
+ *   <li>목록·검색·카테고리별·기간·주변·패싯 조회 — 행사 테이블 버전 ETag, {@code listMaxAge}</li>
+ *   <li>행사 상세 조회 — 행사 테이블 버전 ETag, {@code detailMaxAge}</li>
+ *   <li>진행 중인 행사 조회 — 날짜에 따라 결과가 달라지므로 {@code listMaxAge}만 적용</li>
+ *   <li>카테고리 목록 — ETag는 컨트롤러가 사전 버전으로 설정하고, 여기서는 {@code categoryMaxAge}만 적용</li>
+ * </ul>
+ */
+@Configuration
+public class WebCacheConfig {
+
+    private static final String[] LIST_PATHS = {
+            "/api/events", "/api/events/search", "/api/events/categories/*", "/api/events/period",
+            "/api/events/nearby", "/api/events/facets"
+    };
+
+    private static final String[] NON_DETAIL_PATHS = {
+            "/api/events/search", "/api/events/period", "/api/events/ongoing", "/api/events/categories",
+            "/api/events/export", "/api/events/batch", "/api/events/nearby", "/api/events/facets",
+            "/api/events/import", "/api/events/changes"
+    };
+
+    @Bean
+    public WebMvcConfigurer httpCacheWebMvcConfigurer(EventChangeTracker eventChangeTracker,
+                                                      HttpCacheProperties properties) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new ConditionalGetInterceptor(
+                                eventChangeTracker::eTag, eventChangeTracker::lastModified, properties.list()))
+                        .addPathPatterns(LIST_PATHS);
+
+                registry.addInterceptor(new ConditionalGetInterceptor(
+                                eventChangeTracker::eTag, eventChangeTracker::lastModified, properties.detail()))
+                        .addPathPatterns("/api/events/*")
+                        .excludePathPatterns(NON_DETAIL_PATHS);
+
+                WebContentInterceptor cacheOnly = new WebContentInterceptor();
+                cacheOnly.addCacheMapping(properties.list(), "/api/events/ongoing");
+                cacheOnly.addCacheMapping(properties.category(), "/api/events/categories");
+                registry.addInterceptor(cacheOnly).addPathPatterns("/api/events/ongoing", "/api/events/categories");
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.cu2mber.eventservice.global.datasource;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code PrimaryReadWindow}는 데이터 변경 직후 일정 시간 동안 읽기 전용 트랜잭션도 주 데이터소스에서 읽도록 하는 창(read-your-writes)입니다.
+ *
+ * <p>
+ *     복제본은 허용 지연({@code max-lag}) 안에서 변경을 늦게 반영하므로, 변경 직후 캐시를 다시 채우는 조회가 복제본으로 가면
+ *     이전 데이터나 "존재하지 않음"이 새 버전의 캐시에 TTL 동안 남습니다.
+ *     변경을 알게 된 쪽이 {@link #open()}을 호출하면 {@code read-your-writes-window} 동안
+ *     {@link ReadReplicaRoutingDataSource}가 모든 트랜잭션을 주 데이터소스로 보냅니다.
+ * </p>
+ *
+ * <p>
+ *     복제본 라우팅이 꺼져 있으면 모든 조회가 이미 주 데이터소스로 가므로 창을 열어도 영향이 없습니다.
+ * </p>
+ */
+@Component
+public class PrimaryReadWindow {
+
+    private final long windowNanos;
+
+    private volatile long openUntil;
+
+    public PrimaryReadWindow(ReplicaDataSourceProperties properties) {
+        this.windowNanos = properties.readYourWritesWindow().toNanos();
+        this.openUntil = System.nanoTime();
+    }
+
+    /**
+     * 지금부터 {@code read-your-writes-window} 동안 주 데이터소스에서 읽도록 창을 엽니다. 이미 열려 있으면 연장합니다.
+     */
+    public void open() {
+        openUntil = System.nanoTime() + windowNanos;
+    }
+
+    /**
+     * @return 창이 열려 있어 주 데이터소스에서 읽어야 하면 {@code true}
+     */
+    public boolean isOpen() {
+        return System.nanoTime() - openUntil < 0;
+    }
+}
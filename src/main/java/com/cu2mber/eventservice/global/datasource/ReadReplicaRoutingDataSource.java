@@ -0,0 +1,51 @@
+package com.cu2mber.eventservice.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code ReadReplicaRoutingDataSource}는 현재 트랜잭션이 읽기 전용이면 복제본으로, 그 외에는 주 데이터소스로 커넥션을 요청합니다.
+ *
+ * <p>
+ *     트랜잭션 매니저는 읽기 전용 여부를 등록하기 전에 커넥션을 먼저 얻으므로,
+ *     이 데이터소스는 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸
+ *     첫 SQL 실행 시점에 라우팅되도록 사용해야 합니다.
+ *     정상 복제본이 없거나 변경 직후의 {@link PrimaryReadWindow}가 열려 있으면 읽기 전용 트랜잭션도 주 데이터소스를 사용합니다.
+ * </p>
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+    private final PrimaryReadWindow primaryReadWindow;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, ReplicaPool replicaPool, PrimaryReadWindow primaryReadWindow) {
+        this.replicaPool = replicaPool;
+        this.primaryReadWindow = primaryReadWindow;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (ReplicaNode node : replicaPool.getNodes()) {
+            targets.put(node.getName(), node.getDataSource());
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || primaryReadWindow.isOpen()) {
+            return PRIMARY;
+        }
+
+        return replicaPool.select().map(ReplicaNode::getName).orElse(PRIMARY);
+    }
+}
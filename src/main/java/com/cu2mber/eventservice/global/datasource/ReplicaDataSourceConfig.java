@@ -0,0 +1,93 @@
+package com.cu2mber.eventservice.global.datasource;
+
+import com.cu2mber.eventservice.global.datasource.ReplicaDataSourceProperties.Replica;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code ReplicaDataSourceConfig}는 {@code event.datasource.replica.enabled=true}일 때
+ * 주 데이터소스와 복제본 풀을 묶은 라우팅 데이터소스를 애플리케이션 기본 데이터소스로 등록합니다.
+ *
+ * <p>
+ *     주 데이터소스는 기존 {@code spring.datasource.*}, {@code spring.datasource.hikari.*} 설정을 그대로 사용하고,
+ *     복제본은 {@code event.datasource.replica.replicas[n].*}마다 읽기 전용 Hikari 풀을 하나씩 만듭니다.
+ *     JPA, Flyway 등은 {@link Primary} 데이터소스(지연 커넥션 프록시)를 사용하며,
+ *     쓰기와 트랜잭션 밖의 작업은 모두 주 데이터소스로 갑니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "event.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(ReplicaDataSourceProperties properties, DataSourceProperties dataSourceProperties) {
+        List<ReplicaNode> nodes = new ArrayList<>();
+
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            Replica replica = properties.replicas().get(i);
+            String name = StringUtils.hasText(replica.name()) ? replica.name() : "replica-" + (i + 1);
+
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setUsername(replica.username());
+            dataSource.setPassword(replica.password());
+            dataSource.setMaximumPoolSize(properties.maximumPoolSize());
+            dataSource.setReadOnly(true);
+            // 복제본이 내려가 있어도 기동은 계속하고, 상태 확인에서 제외되도록 합니다.
+            dataSource.setInitializationFailTimeout(-1);
+
+            nodes.add(new ReplicaNode(name, dataSource));
+        }
+
+        return new ReplicaPool(nodes, properties.strategy());
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicaPool replicaPool,
+                                                     ReplicaDataSourceProperties properties,
+                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        meterRegistry.ifAvailable(registry -> {
+            for (ReplicaNode node : replicaPool.getNodes()) {
+                Gauge.builder("event.datasource.replica.healthy", node, n -> n.isHealthy() ? 1 : 0)
+                        .tag("replica", node.getName())
+                        .register(registry);
+                Gauge.builder("event.datasource.replica.lag", node, n -> n.getLag().toMillis() / 1000.0)
+                        .tag("replica", node.getName())
+                        .baseUnit("seconds")
+                        .register(registry);
+            }
+        });
+
+        return new ReplicaHealthChecker(replicaPool, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool,
+                                 PrimaryReadWindow primaryReadWindow) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primaryDataSource, replicaPool, primaryReadWindow));
+    }
+}
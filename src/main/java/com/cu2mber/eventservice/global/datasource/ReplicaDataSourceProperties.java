@@ -0,0 +1,57 @@
+package com.cu2mber.eventservice.global.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@code ReplicaDataSourceProperties}는 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 데이터소스의 설정값입니다.
+ *
+ * @param enabled              {@code true}이면 {@link ReplicaDataSourceConfig}가 라우팅 데이터소스를 등록합니다.
+ * @param strategy             정상 복제본 중 하나를 고르는 방식
+ * @param maxLag               허용하는 최대 복제 지연, 초과한 복제본은 정상으로 보지 않습니다.
+ * @param readYourWritesWindow 행사 변경 직후 읽기 전용 트랜잭션도 주 데이터소스에서 읽는 시간({@link PrimaryReadWindow}).
+ *                             복제 지연이 상태 확인 사이에 늘어날 수 있으므로 {@code maxLag + healthCheckInterval} 이상으로 둡니다.
+ * @param healthCheckInterval  복제본 상태(연결, 응답 시간, 복제 지연) 확인 주기
+ * @param validationTimeout    상태 확인 시 {@link java.sql.Connection#isValid(int)} 제한 시간
+ * @param lagQuery             복제 지연(초)을 조회하는 쿼리, 비어 있으면 지연을 확인하지 않습니다.
+ *                             결과에 {@code Seconds_Behind_Master} 컬럼이 있으면 그 값을, 없으면 첫 번째 컬럼을 사용합니다.
+ * @param maximumPoolSize      복제본별 커넥션 풀 크기
+ * @param replicas             복제본 접속 정보 목록
+ */
+@ConfigurationProperties(prefix = "event.datasource.replica")
+public record ReplicaDataSourceProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("ROUND_ROBIN") Strategy strategy,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("15s") Duration readYourWritesWindow,
+        @DefaultValue("10s") Duration healthCheckInterval,
+        @DefaultValue("1s") Duration validationTimeout,
+        String lagQuery,
+        @DefaultValue("20") int maximumPoolSize,
+        @DefaultValue List<Replica> replicas
+) {
+
+    /**
+     * 복제본 선택 방식입니다.
+     */
+    public enum Strategy {
+        /** 정상 복제본을 차례대로 사용합니다. */
+        ROUND_ROBIN,
+        /** 최근 상태 확인 응답 시간(지수 이동 평균)이 가장 짧은 복제본을 사용합니다. */
+        LEAST_LATENCY
+    }
+
+    /**
+     * 복제본 접속 정보입니다. 드라이버는 주 데이터소스({@code spring.datasource.driver-class-name})와 같은 것을 사용합니다.
+     *
+     * @param name     풀 이름과 지표 태그에 쓰이는 복제본 이름
+     * @param url      JDBC URL
+     * @param username 접속 계정
+     * @param password 접속 비밀번호
+     */
+    public record Replica(String name, String url, String username, String password) {
+    }
+}
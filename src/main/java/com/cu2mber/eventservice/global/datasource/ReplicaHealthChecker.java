@@ -0,0 +1,95 @@
+package com.cu2mber.eventservice.global.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * {@code ReplicaHealthChecker}는 주기적으로 복제본의 연결, 응답 시간, 복제 지연을 확인해 {@link ReplicaNode}에 반영합니다.
+ *
+ * <p>
+ *     연결이 끊겼거나, 복제가 멈췄거나({@code Seconds_Behind_Master}가 {@code NULL}),
+ *     복제 지연이 {@code max-lag}를 넘으면 해당 복제본을 라우팅 후보에서 제외합니다.
+ *     다음 확인에서 조건을 만족하면 다시 후보에 포함됩니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaHealthChecker {
+
+    private static final String LAG_COLUMN = "Seconds_Behind_Master";
+
+    private final ReplicaPool replicaPool;
+    private final ReplicaDataSourceProperties properties;
+
+    /**
+     * 모든 복제본의 상태를 확인합니다.
+     */
+    @Scheduled(fixedDelayString = "${event.datasource.replica.health-check-interval:10s}")
+    public void checkAll() {
+        for (ReplicaNode node : replicaPool.getNodes()) {
+            check(node);
+        }
+    }
+
+    void check(ReplicaNode node) {
+        boolean wasHealthy = node.isHealthy();
+        long startedAt = System.nanoTime();
+
+        try (Connection connection = node.getDataSource().getConnection()) {
+            int timeoutSeconds = (int) Math.max(1, properties.validationTimeout().toSeconds());
+
+            if (!connection.isValid(timeoutSeconds)) {
+                node.markDown();
+            } else {
+                Duration lag = readLag(connection);
+                double latencyMillis = (System.nanoTime() - startedAt) / 1_000_000.0;
+                boolean healthy = lag != null && lag.compareTo(properties.maxLag()) <= 0;
+
+                node.record(healthy, latencyMillis, lag == null ? Duration.ZERO : lag);
+            }
+        } catch (SQLException e) {
+            node.markDown();
+            log.debug("[check] 복제본 연결 실패 - name: {}, message: {}", node.getName(), e.getMessage());
+        }
+
+        if (wasHealthy != node.isHealthy()) {
+            log.warn("[check] 복제본 상태 변경 - name: {}, healthy: {}, lag: {}, latency: {}ms",
+                    node.getName(), node.isHealthy(), node.getLag(), node.getLatencyMillis());
+        }
+    }
+
+    /**
+     * @return 복제 지연, 복제가 멈춰 지연을 알 수 없으면 {@code null}
+     */
+    private Duration readLag(Connection connection) throws SQLException {
+        if (!StringUtils.hasText(properties.lagQuery())) {
+            return Duration.ZERO;
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.lagQuery())) {
+            if (!resultSet.next()) {
+                return null;
+            }
+
+            long seconds = resultSet.getLong(lagColumn(resultSet));
+            return resultSet.wasNull() ? null : Duration.ofSeconds(seconds);
+        }
+    }
+
+    private int lagColumn(ResultSet resultSet) {
+        try {
+            return resultSet.findColumn(LAG_COLUMN);
+        } catch (SQLException e) {
+            return 1;
+        }
+    }
+}
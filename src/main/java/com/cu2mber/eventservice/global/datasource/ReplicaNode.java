@@ -0,0 +1,81 @@
+package com.cu2mber.eventservice.global.datasource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * {@code ReplicaNode}는 복제본 하나의 데이터소스와 최근 상태 확인 결과를 보관합니다.
+ *
+ * <p>
+ *     상태는 {@link ReplicaHealthChecker}만 갱신하고, 라우팅 시에는 락 없이 읽습니다.
+ *     처음 확인되기 전까지는 정상으로 보지 않으므로 기동 직후의 읽기는 주 데이터소스로 갑니다.
+ * </p>
+ */
+public class ReplicaNode {
+
+    /**
+     * 응답 시간 지수 이동 평균의 가중치
+     */
+    private static final double LATENCY_SMOOTHING = 0.3;
+
+    private final String name;
+    private final DataSource dataSource;
+
+    private volatile boolean healthy;
+    private volatile double latencyMillis = Double.NaN;
+    private volatile Duration lag = Duration.ZERO;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * @return 응답 시간 지수 이동 평균(ms), 아직 측정되지 않았다면 {@link Double#NaN}
+     */
+    public double getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    /**
+     * @return 마지막으로 확인한 복제 지연
+     */
+    public Duration getLag() {
+        return lag;
+    }
+
+    /**
+     * 상태 확인 결과를 반영합니다.
+     *
+     * @param healthy       연결과 복제 지연이 허용 범위 안인지 여부
+     * @param latencyMillis 이번 확인의 응답 시간(ms)
+     * @param lag           이번 확인의 복제 지연
+     */
+    void record(boolean healthy, double latencyMillis, Duration lag) {
+        double previous = this.latencyMillis;
+        this.latencyMillis = Double.isNaN(previous)
+                ? latencyMillis
+                : previous + LATENCY_SMOOTHING * (latencyMillis - previous);
+        this.lag = lag;
+        this.healthy = healthy;
+    }
+
+    /**
+     * 연결 실패를 반영합니다. 응답 시간은 유지하고 정상 여부만 내립니다.
+     */
+    void markDown() {
+        this.healthy = false;
+    }
+}
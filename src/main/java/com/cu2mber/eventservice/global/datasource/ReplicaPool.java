@@ -0,0 +1,64 @@
+package com.cu2mber.eventservice.global.datasource;
+
+import com.cu2mber.eventservice.global.datasource.ReplicaDataSourceProperties.Strategy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code ReplicaPool}은 복제본 목록에서 읽기 전용 트랜잭션이 사용할 복제본을 고릅니다.
+ *
+ * <p>
+ *     정상({@link ReplicaNode#isHealthy()}) 복제본만 후보로 삼으며,
+ *     후보가 없으면 빈 {@link Optional}을 반환해 호출자가 주 데이터소스를 사용하도록 합니다.
+ * </p>
+ */
+public class ReplicaPool implements Closeable {
+
+    private final List<ReplicaNode> nodes;
+    private final Strategy strategy;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaPool(List<ReplicaNode> nodes, Strategy strategy) {
+        this.nodes = List.copyOf(nodes);
+        this.strategy = strategy;
+    }
+
+    public List<ReplicaNode> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * 설정된 방식으로 정상 복제본 하나를 고릅니다.
+     *
+     * @return 선택된 복제본, 정상 복제본이 없으면 빈 {@link Optional}
+     */
+    public Optional<ReplicaNode> select() {
+        List<ReplicaNode> healthy = nodes.stream().filter(ReplicaNode::isHealthy).toList();
+
+        if (healthy.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return switch (strategy) {
+            case ROUND_ROBIN -> Optional.of(healthy.get(Math.floorMod(cursor.getAndIncrement(), healthy.size())));
+            case LEAST_LATENCY -> healthy.stream().min(Comparator.comparingDouble(ReplicaNode::getLatencyMillis));
+        };
+    }
+
+    /**
+     * 닫을 수 있는 복제본 데이터소스(커넥션 풀)를 모두 닫습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        for (ReplicaNode node : nodes) {
+            if (node.getDataSource() instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
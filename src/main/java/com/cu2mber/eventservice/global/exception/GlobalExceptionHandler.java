@@ -0,0 +1,32 @@
+package com.cu2mber.eventservice.global.exception;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * {@code GlobalExceptionHandler}는 컨트롤러에서 발생한 예외를 API 명세에 정의된 HTTP 상태 코드로 변환합니다.
+ *
+ * <ul>
+ *   <li>{@link EntityNotFoundException} — 404 Not Found</li>
+ *   <li>{@link IllegalArgumentException} — 400 Bad Request (잘못된 커서 등)</li>
+ * </ul>
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ProblemDetail handleEntityNotFound(EntityNotFoundException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleIllegalArgument(IllegalArgumentException e) {
+        log.warn("[handleIllegalArgument] 잘못된 요청 파라미터 - {}", e.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+}
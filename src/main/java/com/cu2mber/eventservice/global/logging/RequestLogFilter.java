@@ -0,0 +1,87 @@
+package com.cu2mber.eventservice.global.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@code RequestLogFilter}는 API 요청 로그를 표본 추출하여 구조화된 필드로 기록합니다.
+ *
+ * <p>
+ *     모든 요청을 기록하는 대신 {@code sampleRate} 비율의 요청만 INFO로 남기고,
+ *     {@code slowThreshold} 이상 걸린 요청과 5xx 응답은 항상 WARN으로 남깁니다.
+ *     기록하지 않는 요청에서는 로그 이벤트를 만들지 않으므로 문자열 포맷팅이나 할당이 발생하지 않습니다.
+ * </p>
+ *
+ * <p>
+ *     필드는 SLF4J key-value로 전달되어 운영 프로파일의 JSON 로그에 {@code method}, {@code uri},
+ *     {@code status}, {@code durationMs} 속성으로 출력됩니다.
+ * </p>
+ *
+ * <p>
+ *     설정값은 {@code @WebMvcTest}처럼 설정 클래스 스캔이 제외되는 환경에서도 필터가 생성되도록 직접 등록합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(RequestLogProperties.class)
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public RequestLogFilter(RequestLogProperties properties) {
+        this.sampleRate = properties.sampleRate();
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Level level = levelOf(response.getStatus(), elapsed);
+
+            if (level != null && log.isEnabledForLevel(level)) {
+                log.atLevel(level)
+                        .addKeyValue("method", request.getMethod())
+                        .addKeyValue("uri", request.getRequestURI())
+                        .addKeyValue("query", request.getQueryString())
+                        .addKeyValue("status", response.getStatus())
+                        .addKeyValue("durationMs", elapsed / 1_000_000)
+                        .log(level == Level.WARN ? "slow or failed request" : "request");
+            }
+        }
+    }
+
+    /**
+     * 기록할 로그 레벨을 결정합니다. 기록하지 않는 요청이면 {@code null}을 반환합니다.
+     */
+    private Level levelOf(int status, long elapsedNanos) {
+        if (elapsedNanos >= slowThresholdNanos || status >= 500) {
+            return Level.WARN;
+        }
+        if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return Level.INFO;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.cu2mber.eventservice.global.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * {@code RequestLogProperties}는 요청 로그 필터({@link RequestLogFilter})의 설정값입니다.
+ *
+ * @param sampleRate    일반 요청 중 로그를 남길 비율 (0.0 ~ 1.0)
+ * @param slowThreshold 이 시간 이상 걸린 요청은 표본 추출과 관계없이 WARN으로 기록합니다.
+ */
+@ConfigurationProperties(prefix = "event.request-log")
+public record RequestLogProperties(
+        @DefaultValue("0.01") double sampleRate,
+        @DefaultValue("500ms") Duration slowThreshold
+) {
+}
@@ -0,0 +1,42 @@
+package com.cu2mber.eventservice.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * {@code QueryCountInspector}는 현재 스레드에서 실행된 SQL 문 수를 세는 Hibernate {@link StatementInspector}입니다.
+ *
+ * <p>
+ *     Hibernate 통계({@code hibernate.*} 지표)는 애플리케이션 전체 누적값만 제공하므로,
+ *     요청 하나가 몇 개의 쿼리를 실행했는지는 알 수 없습니다.
+ *     이 검사기는 SQL을 변경하지 않고 스레드별 카운터만 증가시키며,
+ *     {@link QueryCountInterceptor}가 요청 시작 시 초기화하고 종료 시 지표로 기록합니다.
+ * </p>
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private final ThreadLocal<int[]> count = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        count.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * 현재 스레드의 카운터를 0으로 초기화합니다.
+     */
+    public void reset() {
+        count.get()[0] = 0;
+    }
+
+    /**
+     * 현재 스레드의 카운터 값을 반환하고 스레드 로컬을 정리합니다.
+     *
+     * @return 마지막 {@link #reset()} 이후 실행된 SQL 문 수
+     */
+    public int drain() {
+        int executed = count.get()[0];
+        count.remove();
+        return executed;
+    }
+}
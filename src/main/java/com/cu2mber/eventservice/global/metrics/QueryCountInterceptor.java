@@ -0,0 +1,47 @@
+package com.cu2mber.eventservice.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * {@code QueryCountInterceptor}는 API 요청마다 실행된 SQL 문 수를 {@code event.http.queries} 지표로 기록합니다.
+ *
+ * <p>
+ *     지표는 요청 경로 패턴({@code uri} 태그, 예: {@code /api/events/{event-no}})별 분포로 기록되어
+ *     특정 API에서 N+1 조회가 발생하거나 캐시가 적중하지 않는 상황을 확인할 수 있습니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    private static final String METRIC_NAME = "event.http.queries";
+
+    private final QueryCountInspector queryCountInspector;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        queryCountInspector.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int executed = queryCountInspector.drain();
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        DistributionSummary.builder(METRIC_NAME)
+                .description("요청 하나가 실행한 SQL 문 수")
+                .baseUnit("queries")
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(executed);
+    }
+}
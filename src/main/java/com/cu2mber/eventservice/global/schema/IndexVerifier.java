@@ -0,0 +1,110 @@
+package com.cu2mber.eventservice.global.schema;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@code IndexVerifier}는 애플리케이션 시작 시 조회 쿼리가 의존하는 인덱스가 실제로 존재하는지 확인합니다.
+ *
+ * <p>
+ *     {@code spring.jpa.hibernate.ddl-auto=validate}는 테이블과 컬럼만 검증하고 인덱스는 확인하지 않으므로,
+ *     마이그레이션이 누락된 DB에 배포되면 오류 없이 전체 테이블 스캔으로 동작하게 됩니다.
+ *     이를 막기 위해 {@link #EXPECTED_INDEXES}의 인덱스가 없거나 컬럼 구성이 다르면 예외를 던져 기동을 중단합니다.
+ * </p>
+ *
+ * <p>
+ *     Flyway 마이그레이션 이후에 실행되도록 {@link ApplicationRunner}로 구현하며,
+ *     {@code event.schema.verify-indexes=true}일 때만 활성화됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.schema.verify-indexes", havingValue = "true")
+public class IndexVerifier implements ApplicationRunner {
+
+    /**
+     * 테이블명 → (인덱스명 → 컬럼 목록). 마이그레이션으로 인덱스를 추가하면 여기에도 등록합니다.
+     */
+    static final Map<String, Map<String, List<String>>> EXPECTED_INDEXES = Map.of(
+            "events", Map.of(
+                    "idx_events_created_at", List.of("created_at", "event_no"),
+                    "idx_events_category_created_at", List.of("category_no", "created_at", "event_no"),
+                    "idx_events_local_created_at", List.of("local_no", "created_at", "event_no"),
+                    "uq_events_natural_key", List.of("local_no", "event_title", "event_start_date"),
+                    "idx_events_updated_at", List.of("updated_at", "event_no")
+            )
+    );
+
+    private final DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        List<String> problems = new ArrayList<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+
+            for (Map.Entry<String, Map<String, List<String>>> table : EXPECTED_INDEXES.entrySet()) {
+                Map<String, List<String>> actual = readIndexes(metaData, connection.getCatalog(), table.getKey());
+
+                table.getValue().forEach((indexName, columns) -> {
+                    List<String> actualColumns = actual.get(indexName);
+
+                    if (actualColumns == null) {
+                        problems.add(table.getKey() + "." + indexName + " 없음");
+                    } else if (!actualColumns.equals(columns)) {
+                        problems.add(table.getKey() + "." + indexName + " 컬럼 불일치 - 기대: " + columns + ", 실제: " + actualColumns);
+                    }
+                });
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("필수 인덱스 검증 실패: " + String.join(", ", problems));
+        }
+
+        log.info("[run] 필수 인덱스 검증 완료 - 테이블 수: {}", EXPECTED_INDEXES.size());
+    }
+
+    /**
+     * 테이블의 인덱스별 컬럼 목록을 컬럼 순서(ORDINAL_POSITION)대로 읽습니다. 이름은 소문자로 정규화합니다.
+     */
+    private Map<String, List<String>> readIndexes(DatabaseMetaData metaData, String catalog, String table) throws SQLException {
+        Map<String, TreeMap<Short, String>> ordered = new TreeMap<>();
+        String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+
+        try (ResultSet rs = metaData.getIndexInfo(catalog, null, tableName, false, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String columnName = rs.getString("COLUMN_NAME");
+
+                if (indexName == null || columnName == null) {
+                    continue;
+                }
+
+                ordered.computeIfAbsent(indexName.toLowerCase(Locale.ROOT), key -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), columnName.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        Map<String, List<String>> indexes = new TreeMap<>();
+        ordered.forEach((name, columns) -> indexes.put(name, List.copyOf(columns.values())));
+        return indexes;
+    }
+}
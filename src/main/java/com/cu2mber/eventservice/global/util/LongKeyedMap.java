@@ -0,0 +1,67 @@
+package com.cu2mber.eventservice.global.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@code LongKeyedMap}은 {@code long} 키로 값을 조회하는 불변 맵입니다.
+ *
+ * <p>
+ *     키를 정렬된 {@code long[]}에 보관하고 이진 탐색으로 조회하므로
+ *     {@code Map<Long, V>}와 달리 키 박싱과 엔트리 객체가 생기지 않습니다.
+ *     카테고리·지자체처럼 시작 시 한 번 적재하고 자주 조회하는 작은 사전에 사용합니다.
+ * </p>
+ *
+ * @param <V> 값 타입
+ */
+public final class LongKeyedMap<V> {
+
+    private final long[] keys;
+    private final Object[] values;
+
+    private LongKeyedMap(long[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * 값 목록과 키 추출 함수로 맵을 생성합니다. 키가 중복되면 예외가 발생합니다.
+     *
+     * @param source       맵에 담을 값 목록
+     * @param keyExtractor 값에서 키를 추출하는 함수
+     * @return 생성된 불변 맵
+     */
+    public static <V> LongKeyedMap<V> of(Collection<V> source, ToLongFunction<V> keyExtractor) {
+        Object[] sorted = source.stream()
+                .sorted((a, b) -> Long.compare(keyExtractor.applyAsLong(a), keyExtractor.applyAsLong(b)))
+                .toArray();
+
+        long[] keys = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            @SuppressWarnings("unchecked")
+            V value = (V) sorted[i];
+            keys[i] = keyExtractor.applyAsLong(value);
+
+            if (i > 0 && keys[i] == keys[i - 1]) {
+                throw new IllegalArgumentException("중복된 키가 있습니다: " + keys[i]);
+            }
+        }
+        return new LongKeyedMap<>(keys, sorted);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<V> get(long key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index < 0 ? Optional.empty() : Optional.of((V) values[index]);
+    }
+
+    public boolean containsKey(long key) {
+        return Arrays.binarySearch(keys, key) >= 0;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+}
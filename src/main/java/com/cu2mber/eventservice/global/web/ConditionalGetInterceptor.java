@@ -0,0 +1,41 @@
+package com.cu2mber.eventservice.global.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * {@code ConditionalGetInterceptor}는 컨트롤러 실행 전에 조건부 GET 요청을 검증합니다.
+ *
+ * <p>
+ *     요청의 {@code If-None-Match}/{@code If-Modified-Since}가 현재 검증값과 일치하면
+ *     컨트롤러와 서비스를 호출하지 않고 바로 {@code 304 Not Modified}로 응답합니다.
+ *     일치하지 않으면 {@code ETag}, {@code Last-Modified}, {@code Cache-Control} 헤더를 설정한 뒤 요청을 계속 처리합니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final Supplier<String> eTag;
+    private final LongSupplier lastModified;
+    private final CacheControl cacheControl;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+
+        return !new ServletWebRequest(request, response).checkNotModified(eTag.get(), lastModified.getAsLong());
+    }
+}
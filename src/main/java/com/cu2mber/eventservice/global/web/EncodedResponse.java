@@ -0,0 +1,23 @@
+package com.cu2mber.eventservice.global.web;
+
+import java.util.Map;
+
+/**
+ * {@code EncodedResponse}는 캐시된 응답 한 건의 직렬화 결과입니다.
+ *
+ * @param contentType 응답 {@code Content-Type}
+ * @param headers     함께 돌려줄 캐시 관련 헤더({@code ETag}, {@code Last-Modified}, {@code Cache-Control})
+ * @param identity    압축하지 않은 JSON 바이트
+ * @param gzip        gzip으로 압축한 JSON 바이트, 압축 기준 크기보다 작으면 {@code null}
+ */
+record EncodedResponse(
+        String contentType,
+        Map<String, String> headers,
+        byte[] identity,
+        byte[] gzip
+) {
+
+    int weight() {
+        return identity.length + (gzip == null ? 0 : gzip.length);
+    }
+}
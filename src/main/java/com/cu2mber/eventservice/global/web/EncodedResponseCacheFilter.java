@@ -0,0 +1,223 @@
+package com.cu2mber.eventservice.global.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@code EncodedResponseCacheFilter}는 자주 조회되는 행사 응답을 직렬화된 JSON 바이트(및 gzip 바이트)로 보관하고,
+ * 같은 요청이 다시 오면 컨트롤러·Jackson 직렬화·응답 압축을 모두 건너뛰고 바이트를 그대로 씁니다.
+ *
+ * <p>
+ *     대상은 전체 목록({@code /api/events}), 카테고리별 목록({@code /api/events/categories/{no}}),
+ *     상세({@code /api/events/{no}})의 GET 요청이며, 키는 (행사 변경 버전, 경로, 쿼리 문자열)입니다.
+ *     행사가 변경되면 버전이 바뀌어 이전 응답은 더 이상 조회되지 않습니다.
+ *     클라이언트가 {@code Accept-Encoding: gzip}을 보내면 미리 압축해 둔 바이트를 {@code Content-Encoding: gzip}으로 씁니다.
+ * </p>
+ *
+ * <p>
+ *     조건부 요청({@code If-None-Match}, {@code If-Modified-Since})은 {@link ConditionalGetInterceptor}가 304로 처리하도록 그대로 통과시키고,
+ *     CBOR 등 이진 형식을 요청({@code Accept})한 경우에도 캐시를 거치지 않습니다.
+ *     200이 아닌 응답이나 JSON이 아닌 응답은 보관하지 않습니다.
+ * </p>
+ */
+public class EncodedResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String CACHE_NAME = "encodedResponse";
+
+    private static final Pattern CACHEABLE_PATH = Pattern.compile("^/api/events(/categories/\\d+|/\\d+)?$");
+
+    private static final List<MediaType> BINARY_TYPES = List.of(MediaType.APPLICATION_CBOR);
+
+    private static final List<String> STORED_HEADERS =
+            List.of(HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL);
+
+    private final Cache<String, EncodedResponse> cache;
+    private final LongSupplier version;
+    private final long gzipMinSize;
+
+    public EncodedResponseCacheFilter(EncodedResponseCacheProperties properties, LongSupplier version,
+                                      MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maxSize().toBytes())
+                .weigher((String key, EncodedResponse value) -> value.weight())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        this.version = version;
+        this.gzipMinSize = properties.gzipMinSize().toBytes();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !CACHEABLE_PATH.matcher(request.getRequestURI()).matches()
+                || request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null
+                || acceptsBinary(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = key(request);
+
+        EncodedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            write(request, response, cached);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        if (!isCacheable(request, wrapper)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        EncodedResponse encoded = encode(wrapper);
+        cache.put(key, encoded);
+
+        wrapper.resetBuffer();
+        write(request, response, encoded);
+    }
+
+    private String key(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return version.getAsLong() + ":" + request.getRequestURI() + (query == null ? "" : "?" + query);
+    }
+
+    private boolean isCacheable(HttpServletRequest request, ContentCachingResponseWrapper wrapper) {
+        if (request.isAsyncStarted() || wrapper.getStatus() != HttpServletResponse.SC_OK
+                || wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+                || wrapper.getHeader(HttpHeaders.SET_COOKIE) != null) {
+            return false;
+        }
+
+        String contentType = wrapper.getContentType();
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private EncodedResponse encode(ContentCachingResponseWrapper wrapper) throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : STORED_HEADERS) {
+            String value = wrapper.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+
+        byte[] identity = wrapper.getContentAsByteArray();
+        byte[] gzip = identity.length >= gzipMinSize ? gzip(identity) : null;
+
+        return new EncodedResponse(wrapper.getContentType(), Map.copyOf(headers), identity, gzip);
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, EncodedResponse encoded)
+            throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(encoded.contentType());
+        encoded.headers().forEach(response::setHeader);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+
+        byte[] body = encoded.identity();
+        if (encoded.gzip() != null && acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = encoded.gzip();
+        }
+
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * {@code Accept}에 이진 형식이 명시되어 있으면 JSON 바이트로 응답할 수 없으므로 캐시를 거치지 않습니다.
+     */
+    private static boolean acceptsBinary(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (!StringUtils.hasText(accept)) {
+            return false;
+        }
+
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .filter(type -> !type.isWildcardType() && !type.isWildcardSubtype())
+                    .anyMatch(type -> BINARY_TYPES.stream().anyMatch(type::isCompatibleWith));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * {@code Accept-Encoding}이 gzip을 허용하는지 판단합니다.
+     * gzip이 명시되어 있으면 그 q 값을, 없으면 {@code *}의 q 값을 따르며 {@code q=0}은 거부로 취급합니다.
+     */
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return false;
+        }
+
+        Boolean wildcard = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = qValue(parts) > 0;
+
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return accepted;
+            }
+            if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] identity) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(identity);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,24 @@
+package com.cu2mber.eventservice.global.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * {@code EncodedResponseCacheProperties}는 직렬화된 응답 바이트 캐시({@link EncodedResponseCacheFilter})의 설정값입니다.
+ *
+ * @param enabled     {@code true}이면 필터를 등록합니다.
+ * @param maxSize     보관할 응답 바이트(JSON + gzip)의 최대 합계
+ * @param ttl         응답을 보관하는 최대 시간, 무효화는 행사 변경 버전으로 하며 이 값은 안전장치입니다.
+ * @param gzipMinSize 이 크기 이상인 응답만 gzip으로 미리 압축해 둡니다.
+ */
+@ConfigurationProperties(prefix = "event.response-cache")
+public record EncodedResponseCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("64MB") DataSize maxSize,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("1KB") DataSize gzipMinSize
+) {
+}
@@ -0,0 +1,33 @@
+package com.cu2mber.eventservice.global.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+
+/**
+ * {@code HttpCacheProperties}는 API 응답의 {@code Cache-Control} max-age 설정값입니다.
+ *
+ * @param listMaxAge     행사 목록·검색·기간 조회 응답
+ * @param detailMaxAge   행사 상세 응답
+ * @param categoryMaxAge 카테고리 목록 응답
+ */
+@ConfigurationProperties(prefix = "event.http-cache")
+public record HttpCacheProperties(
+        @DefaultValue("60s") Duration listMaxAge,
+        @DefaultValue("5m") Duration detailMaxAge,
+        @DefaultValue("1h") Duration categoryMaxAge
+) {
+    public CacheControl list() {
+        return CacheControl.maxAge(listMaxAge).cachePublic();
+    }
+
+    public CacheControl detail() {
+        return CacheControl.maxAge(detailMaxAge).cachePublic();
+    }
+
+    public CacheControl category() {
+        return CacheControl.maxAge(categoryMaxAge).cachePublic();
+    }
+}
@@ -0,0 +1,97 @@
+package com.cu2mber.eventservice.localgov.cache;
+
+import com.cu2mber.eventservice.global.util.LongKeyedMap;
+import com.cu2mber.eventservice.localgov.dto.LocalGovResponse;
+import com.cu2mber.eventservice.localgov.repository.LocalGovRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@code LocalGovDictionary}는 지자체 전체를 메모리에 보관하는 불변 사전입니다.
+ *
+ * <p>
+ *     {@code CategoryDictionary}와 같은 방식으로 시작 시 적재되고
+ *     {@code event.dictionary.refresh-interval} 주기 또는 {@link #refresh()} 호출 시 교체됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalGovDictionary {
+
+    private final LocalGovRepository localGovRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 지자체 테이블을 다시 읽어 사전을 교체합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${event.dictionary.refresh-interval:PT10M}",
+            fixedDelayString = "${event.dictionary.refresh-interval:PT10M}")
+    public void refresh() {
+        List<LocalGovResponse> localGovs = localGovRepository.findAll().stream()
+                .map(LocalGovResponse::from)
+                .toList();
+
+        Map<String, LocalGovResponse> byName = new HashMap<>();
+        for (LocalGovResponse localGov : localGovs) {
+            byName.put(nameKey(localGov.localDistrict(), localGov.localName()), localGov);
+        }
+
+        snapshot = new Snapshot(LongKeyedMap.of(localGovs, LocalGovResponse::localNo), Map.copyOf(byName));
+        log.debug("[refresh] 지자체 사전 갱신 - 지자체 수: {}", localGovs.size());
+    }
+
+    public Optional<LocalGovResponse> find(long localNo) {
+        return snapshot().byNo().get(localNo);
+    }
+
+    public boolean contains(long localNo) {
+        return snapshot().byNo().containsKey(localNo);
+    }
+
+    /**
+     * 행정구역과 지역 이름으로 지자체를 찾습니다. 광역 단위 지자체는 지역 이름이 없습니다.
+     *
+     * @param localDistrict 행정구역 (예: 경상남도)
+     * @param localName     지역 이름 (예: 진주시), 없으면 {@code null} 또는 빈 문자열
+     * @return 지자체, 없으면 빈 {@link Optional}
+     */
+    public Optional<LocalGovResponse> findByName(String localDistrict, String localName) {
+        return Optional.ofNullable(snapshot().byName().get(nameKey(localDistrict, localName)));
+    }
+
+    /**
+     * 아직 적재되지 않았다면(시작 직후 요청) 즉시 적재합니다.
+     */
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static String nameKey(String localDistrict, String localName) {
+        return localDistrict + "|" + (localName == null ? "" : localName);
+    }
+
+    private record Snapshot(LongKeyedMap<LocalGovResponse> byNo, Map<String, LocalGovResponse> byName) {
+    }
+}
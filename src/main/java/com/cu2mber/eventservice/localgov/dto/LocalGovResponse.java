@@ -0,0 +1,29 @@
+package com.cu2mber.eventservice.localgov.dto;
+
+import com.cu2mber.eventservice.localgov.domain.LocalGov;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * {@code LocalGovResponse}는 지자체 정보를 전달하기 위한 불변 DTO입니다.
+ *
+ * <p>
+ *     {@link LocalGov} 엔티티의 연관 컬렉션(행사 목록)을 제외한 식별 정보만 담으며,
+ *     지자체 사전({@code LocalGovDictionary})에 보관됩니다.
+ * </p>
+ */
+public record LocalGovResponse(
+        @Schema(name = "지자체번호")
+        Short localNo,
+        @Schema(name = "행정구역")
+        String localDistrict,
+        @Schema(name = "지역이름")
+        String localName
+) {
+    public static LocalGovResponse from(LocalGov localGov) {
+        return new LocalGovResponse(
+                localGov.getLocalNo(),
+                localGov.getLocalDistrict(),
+                localGov.getLocalName()
+        );
+    }
+}
@@ -0,0 +1,30 @@
+-- ===============================
+-- 기준 스키마 (MariaDB)
+-- 이미 테이블이 존재하는 DB는 spring.flyway.baseline-on-migrate로 이 버전을 기준선으로 등록하고 건너뜁니다.
+-- ===============================
+
+CREATE TABLE IF NOT EXISTS events_categories (
+    category_no BIGINT AUTO_INCREMENT NOT NULL PRIMARY KEY,
+    category_name VARCHAR(255) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+CREATE TABLE IF NOT EXISTS events (
+    event_no BIGINT AUTO_INCREMENT NOT NULL PRIMARY KEY,
+    local_no SMALLINT NOT NULL,
+    category_no BIGINT NOT NULL,
+    event_title VARCHAR(255) NOT NULL,
+    event_address VARCHAR(255) NOT NULL,
+    event_start_date DATE NOT NULL,
+    event_end_date DATE NOT NULL,
+    event_start_time TIME NOT NULL,
+    event_end_time TIME NOT NULL,
+    event_url TEXT NOT NULL,
+    event_spot VARCHAR(50) NOT NULL,
+    event_fee VARCHAR(50) NULL,
+    event_host VARCHAR(50) NOT NULL,
+    event_inquiry VARCHAR(50) NOT NULL,
+    event_description TEXT NULL,
+    event_image_url TEXT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uq_events_no_local_category (event_no, local_no, category_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -0,0 +1,14 @@
+-- ===============================
+-- 목록 조회 정렬/필터용 복합 인덱스
+-- 모든 목록 쿼리는 created_at DESC, event_no DESC 순으로 정렬하며
+-- 카테고리(category_no) 또는 지자체(local_no)로 필터링합니다.
+-- ===============================
+
+-- 전체 목록 (OFFSET/Slice/커서)
+CREATE INDEX idx_events_created_at ON events (created_at, event_no);
+
+-- 카테고리별 목록
+CREATE INDEX idx_events_category_created_at ON events (category_no, created_at, event_no);
+
+-- 지자체별 목록
+CREATE INDEX idx_events_local_created_at ON events (local_no, created_at, event_no);
@@ -0,0 +1,23 @@
+-- ===============================
+-- 행사 테이블 변경 버전 (EventChangeTracker)
+-- events에 행이 추가·수정·삭제될 때마다 트리거가 같은 트랜잭션에서 version을 1 올리고 changed_at을 DB 시계(UTC)로 기록합니다.
+-- 일괄 적재, 다른 인스턴스, SQL로 직접 수정·삭제한 변경도 모두 반영되며, 인스턴스는 이 행 하나만 주기적으로 읽습니다.
+-- 변경하는 트랜잭션은 커밋할 때까지 이 행을 잠그므로 events 쓰기는 직렬화됩니다. 행사 데이터는 쓰기가 드물어 허용합니다.
+-- ===============================
+
+CREATE TABLE event_table_version (
+    id INT NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL,
+    changed_at DATETIME(6) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+INSERT INTO event_table_version (id, version, changed_at) VALUES (1, 0, UTC_TIMESTAMP(6));
+
+CREATE TRIGGER trg_events_version_insert AFTER INSERT ON events FOR EACH ROW
+    UPDATE event_table_version SET version = version + 1, changed_at = UTC_TIMESTAMP(6) WHERE id = 1;
+
+CREATE TRIGGER trg_events_version_update AFTER UPDATE ON events FOR EACH ROW
+    UPDATE event_table_version SET version = version + 1, changed_at = UTC_TIMESTAMP(6) WHERE id = 1;
+
+CREATE TRIGGER trg_events_version_delete AFTER DELETE ON events FOR EACH ROW
+    UPDATE event_table_version SET version = version + 1, changed_at = UTC_TIMESTAMP(6) WHERE id = 1;
@@ -0,0 +1,15 @@
+-- ===============================
+-- 목록 응답용 설명 요약 컬럼
+-- 설명(TEXT)의 앞 100자를 저장 시점에 잘라 두어 목록 조회가 TEXT 컬럼을 읽지 않도록 합니다.
+-- 이후 저장/수정 시에는 애플리케이션(Event#refreshSummary)이 값을 채웁니다.
+-- ===============================
+
+ALTER TABLE events ADD COLUMN event_summary VARCHAR(101) NULL AFTER event_description;
+
+-- 기존 행 채우기 (Event#summarize와 같은 규칙: 앞뒤 공백 제거 후 100자 초과 시 말줄임표)
+UPDATE events
+SET event_summary = CASE
+        WHEN CHAR_LENGTH(TRIM(event_description)) > 100 THEN CONCAT(LEFT(TRIM(event_description), 100), '…')
+        ELSE TRIM(event_description)
+    END
+WHERE event_description IS NOT NULL;
@@ -0,0 +1,10 @@
+-- ===============================
+-- 주변 행사 조회용 좌표 컬럼
+-- 값은 애플리케이션 시작 시 EventLocationBackfill이 지자체 대표 좌표(geo/district-centroids.csv)로 채우고,
+-- 이후 저장되는 행사는 EventLocationListener가 채웁니다.
+-- 반경 조회는 메모리 색인(EventGeoIndex)이 처리하므로 공간 인덱스는 만들지 않습니다.
+-- ===============================
+
+ALTER TABLE events
+    ADD COLUMN event_latitude DOUBLE NULL AFTER event_image_url,
+    ADD COLUMN event_longitude DOUBLE NULL AFTER event_latitude;
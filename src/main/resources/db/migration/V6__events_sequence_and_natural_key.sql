@@ -0,0 +1,28 @@
+-- ===============================
+-- 일괄 적재(EventImportService)를 위한 행사 번호 시퀀스와 자연 키
+--
+-- AUTO_INCREMENT(IDENTITY)는 INSERT마다 생성된 키를 돌려받아야 해서 Hibernate가 INSERT를 배치로 묶지 못합니다.
+-- 행사 번호를 시퀀스(events_seq, 증가 폭 50)에서 발급하면 Hibernate가 50개 단위로 번호를 미리 받아 INSERT를 배치로 보냅니다.
+-- 애플리케이션은 pooled-lo 최적화를 사용하므로(시퀀스 값 = 할당 구간의 시작) 기존 최대 번호 다음 값에서 시작합니다.
+-- 수동 INSERT도 같은 시퀀스를 쓰도록 event_no의 기본값을 시퀀스로 바꿉니다.
+-- ===============================
+
+SET @events_seq_start = (SELECT COALESCE(MAX(event_no), 0) + 1 FROM events);
+SET @create_events_seq = CONCAT('CREATE SEQUENCE IF NOT EXISTS events_seq START WITH ', @events_seq_start, ' INCREMENT BY 50');
+PREPARE create_events_seq FROM @create_events_seq;
+EXECUTE create_events_seq;
+DEALLOCATE PREPARE create_events_seq;
+
+ALTER TABLE events
+    MODIFY COLUMN event_no BIGINT NOT NULL DEFAULT NEXT VALUE FOR events_seq;
+
+-- 지자체 피드의 같은 행사를 다시 적재하면 새 행 대신 기존 행을 갱신하기 위한 자연 키 (지자체, 행사명, 시작일)
+ALTER TABLE events
+    ADD CONSTRAINT uq_events_natural_key UNIQUE (local_no, event_title, event_start_date);
+
+-- event_fee를 NULL 허용으로 변경
+-- V1 이전에 sample-data.sql로 만들어진 DB는 V1이 기준선으로 건너뛰어져 event_fee가 기본값 없는 NOT NULL로 남아 있습니다.
+-- Event 엔티티는 이 컬럼을 매핑하지 않으므로, 그대로 두면 애플리케이션의 INSERT(일괄 적재 포함)가 모두 실패합니다.
+
+ALTER TABLE events
+    MODIFY COLUMN event_fee VARCHAR(50) NULL;
@@ -0,0 +1,18 @@
+-- ===============================
+-- 변경 피드(GET /api/events/changes)를 위한 최종 수정 일시
+--
+-- 등록·수정 시 애플리케이션(Event.updatedAt, @UpdateTimestamp)이 채우며, 같은 초에 여러 건이 바뀌어도
+-- 순서가 안정적이도록 마이크로초 단위로 저장합니다. 기존 행은 등록 일시로 채웁니다.
+-- 피드는 (updated_at, event_no) 순서로 커서 이후의 행만 읽으므로 같은 순서의 인덱스를 둡니다.
+-- ===============================
+
+ALTER TABLE events
+    ADD COLUMN updated_at DATETIME(6) NULL AFTER created_at;
+
+UPDATE events
+SET updated_at = created_at;
+
+ALTER TABLE events
+    MODIFY COLUMN updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+CREATE INDEX idx_events_updated_at ON events (updated_at, event_no);
@@ -0,0 +1,191 @@
+package com.cu2mber.eventservice.event.cache;
+
+import com.cu2mber.eventservice.event.domain.EventTableVersion;
+import com.cu2mber.eventservice.event.repository.EventTableVersionRepository;
+import com.cu2mber.eventservice.global.datasource.PrimaryReadWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@code EventChangeTrackerTest} 클래스는 {@link EventChangeTracker}의 테이블 버전 조회와 변경 감지를 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #sameVersionAcrossInstances()} — 같은 테이블 버전이라면 인스턴스와 관계없이 같은 ETag·Last-Modified를 내는지 검증</li>
+ *   <li>{@link #detectsRemoteChange()} — 주기 조회로 다른 인스턴스의 변경을 감지해 버전을 바꾸고 이벤트를 발행하는지 검증</li>
+ *   <li>{@link #refreshesOnceAfterLocalChanges()} — 이 인스턴스의 연속된 변경 뒤 다음 조회에서 한 번만 다시 읽는지 검증</li>
+ *   <li>{@link #readsPrimary()} — 읽기 전용이 아닌 새 트랜잭션에서 조회하는지 검증</li>
+ *   <li>{@link #opensPrimaryReadWindow()} — 이 인스턴스의 변경과 감지한 변경 모두 주 데이터소스 읽기 창을 여는지 검증</li>
+ *   <li>{@link #keepsVersionOnFailure()} — 조회에 실패하면 이전 버전을 유지하는지 검증</li>
+ *   <li>{@link #servesLastKnownVersionWhileRefreshing()} — 다른 스레드가 조회 중이면 기다리지 않고 마지막 버전을 쓰는지 검증</li>
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+class EventChangeTrackerTest {
+
+    private static final LocalDateTime CHANGED_AT = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+    private static final EventTableVersion FIRST = new EventTableVersion(3, CHANGED_AT);
+    private static final EventTableVersion UPDATED = new EventTableVersion(4, CHANGED_AT.plusMinutes(5));
+    private static final EventTableVersion DELETED = new EventTableVersion(5, CHANGED_AT.plusMinutes(5));
+
+    @Mock
+    private EventTableVersionRepository versionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PrimaryReadWindow primaryReadWindow;
+
+    private EventChangeTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new EventChangeTracker(versionRepository, transactionManager, eventPublisher, primaryReadWindow);
+    }
+
+    @Test
+    @DisplayName("같은 테이블 버전이라면 인스턴스와 관계없이 같은 ETag와 Last-Modified")
+    void sameVersionAcrossInstances() {
+        when(versionRepository.findById(EventTableVersion.EVENTS)).thenReturn(Optional.of(FIRST));
+        EventChangeTracker other = new EventChangeTracker(versionRepository, transactionManager, eventPublisher,
+                primaryReadWindow);
+
+        assertThat(tracker.eTag()).isEqualTo(other.eTag()).isEqualTo("W/\"3\"");
+        assertThat(tracker.lastModified()).isEqualTo(other.lastModified())
+                .isEqualTo(CHANGED_AT.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("주기 조회로 수정·삭제를 감지하면 버전이 바뀌고 테이블 변경 이벤트 발행")
+    void detectsRemoteChange() {
+        when(versionRepository.findById(EventTableVersion.EVENTS))
+                .thenReturn(Optional.of(FIRST), Optional.of(UPDATED), Optional.of(DELETED));
+
+        String first = tracker.eTag();
+        tracker.refresh();
+        String updated = tracker.eTag();
+        tracker.refresh();
+        String deleted = tracker.eTag();
+
+        assertThat(first).isNotEqualTo(updated);
+        assertThat(updated).isNotEqualTo(deleted);
+        verify(eventPublisher).publishEvent(new EventTableChangedEvent(3, 4));
+        verify(eventPublisher).publishEvent(new EventTableChangedEvent(4, 5));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("이 인스턴스의 연속된 변경 뒤 다음 조회에서 한 번만 다시 읽음")
+    void refreshesOnceAfterLocalChanges() {
+        when(versionRepository.findById(EventTableVersion.EVENTS)).thenReturn(Optional.of(FIRST), Optional.of(UPDATED));
+
+        long before = tracker.version();
+        tracker.onEventChanged(null);
+        tracker.onEventChanged(null);
+        long after = tracker.version();
+        tracker.version();
+
+        assertThat(after).isNotEqualTo(before);
+        verify(versionRepository, times(2)).findById(EventTableVersion.EVENTS);
+    }
+
+    @Test
+    @DisplayName("읽기 전용이 아닌 새 트랜잭션에서 조회하여 주 데이터소스를 사용")
+    void readsPrimary() {
+        when(versionRepository.findById(EventTableVersion.EVENTS)).thenReturn(Optional.of(FIRST));
+
+        tracker.refresh();
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isFalse();
+        assertThat(definition.getValue().getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Test
+    @DisplayName("이 인스턴스의 변경과 다른 인스턴스의 변경 모두 주 데이터소스 읽기 창을 열고, 처음 확인한 버전은 제외")
+    void opensPrimaryReadWindow() {
+        when(versionRepository.findById(EventTableVersion.EVENTS))
+                .thenReturn(Optional.of(FIRST), Optional.of(FIRST), Optional.of(UPDATED));
+
+        tracker.refresh();
+        verify(primaryReadWindow, never()).open();
+
+        tracker.onEventChanged(null);
+        verify(primaryReadWindow, times(1)).open();
+
+        tracker.refresh();
+        tracker.refresh();
+        verify(primaryReadWindow, times(2)).open();
+    }
+
+    @Test
+    @DisplayName("조회에 실패하면 이전 버전을 유지하고 다음 조회에서 다시 시도")
+    void keepsVersionOnFailure() {
+        when(versionRepository.findById(EventTableVersion.EVENTS))
+                .thenReturn(Optional.of(FIRST))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(Optional.of(FIRST));
+
+        String before = tracker.eTag();
+        tracker.refresh();
+        String failed = tracker.eTag();
+
+        assertThat(failed).isEqualTo(before);
+        verify(versionRepository, times(3)).findById(EventTableVersion.EVENTS);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 조회 중이면 기다리지 않고 마지막으로 확인한 버전을 사용")
+    void servesLastKnownVersionWhileRefreshing() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(versionRepository.findById(EventTableVersion.EVENTS))
+                .thenReturn(Optional.of(FIRST))
+                .thenAnswer(invocation -> {
+                    reading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Optional.of(UPDATED);
+                });
+
+        tracker.version();
+        tracker.onEventChanged(null);
+
+        Thread poller = Thread.ofVirtual().start(tracker::refresh);
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(tracker.version()).isEqualTo(FIRST.getVersion());
+
+        release.countDown();
+        poller.join();
+
+        assertThat(tracker.version()).isEqualTo(UPDATED.getVersion());
+        verify(versionRepository, times(2)).findById(EventTableVersion.EVENTS);
+    }
+}
@@ -0,0 +1,111 @@
+package com.cu2mber.eventservice.event.cache;
+
+import com.cu2mber.eventservice.event.dto.EventDetailResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code EventDetailCacheTest} 클래스는 {@link EventDetailCache}의 캐시 적중, negative caching,
+ * 무효화 및 지표 노출을 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #cachesExistingEvent()} — 같은 행사 번호는 한 번만 조회되는지 검증</li>
+ *   <li>{@link #cachesMissingEvent()} — 존재하지 않는 행사 번호도 캐시되는지 검증</li>
+ *   <li>{@link #invalidate()} — 무효화 후 다시 조회되는지 검증</li>
+ *   <li>{@link #getAllLoadsOnlyMissingKeys()} — 일괄 조회 시 캐시에 없는 번호만 한 번에 조회되는지 검증</li>
+ * </ul>
+ */
+class EventDetailCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventDetailCache cache;
+    private AtomicInteger loads;
+
+    private final EventDetailResponse response = new EventDetailResponse(
+            "경상남도", "진주시", "문화관광", "진주유등축제",
+            LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 13),
+            LocalTime.of(10, 0), LocalTime.of(23, 0),
+            "https://example.com", "남강둔치", "진주시청", "관리자", "진주의 대표 축제", null);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new EventDetailCache(
+                new EventDetailCacheProperties(100, Duration.ofMinutes(10), Duration.ofSeconds(30)), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("존재하는 행사는 한 번만 조회하고 적중 지표를 기록")
+    void cachesExistingEvent() {
+        cache.get(1L, this::load);
+        Optional<EventDetailResponse> result = cache.get(1L, this::load);
+
+        assertThat(result).contains(response);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "eventDetail").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 행사 번호도 캐시")
+    void cachesMissingEvent() {
+        cache.get(999L, this::load);
+        Optional<EventDetailResponse> result = cache.get(999L, this::load);
+
+        assertThat(result).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화 후 다시 조회")
+    void invalidate() {
+        cache.get(1L, this::load);
+        cache.invalidate(1L);
+        cache.get(1L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 시 캐시에 없는 번호만 한 번에 조회하고 없는 번호도 캐시")
+    void getAllLoadsOnlyMissingKeys() {
+        cache.get(1L, this::load);
+
+        Map<Long, Optional<EventDetailResponse>> first = cache.getAll(List.of(1L, 999L), this::loadAll);
+        Map<Long, Optional<EventDetailResponse>> second = cache.getAll(List.of(1L, 999L), this::loadAll);
+
+        assertThat(first).containsEntry(1L, Optional.of(response)).containsEntry(999L, Optional.empty());
+        assertThat(second).isEqualTo(first);
+        assertThat(loads).hasValue(2);
+    }
+
+    private Map<Long, Optional<EventDetailResponse>> loadAll(Set<? extends Long> eventNos) {
+        assertThat(Set.<Long>copyOf(eventNos)).containsExactly(999L);
+
+        Map<Long, Optional<EventDetailResponse>> loaded = new HashMap<>();
+        for (Long eventNo : eventNos) {
+            loaded.put(eventNo, load(eventNo));
+        }
+        return loaded;
+    }
+
+    private Optional<EventDetailResponse> load(Long eventNo) {
+        loads.incrementAndGet();
+        return eventNo == 1L ? Optional.of(response) : Optional.empty();
+    }
+}
@@ -0,0 +1,163 @@
+package com.cu2mber.eventservice.event.cache;
+
+import com.cu2mber.eventservice.event.dto.EventListResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code EventPageCacheTest} 클래스는 {@link EventPageCache}의 2단 캐시 조회, 버전 기반 무효화,
+ * 동시 요청 시 중복 조회 방지를 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #cachesPage()} — 같은 페이지는 한 번만 조회되고 전체 개수가 유지되는지 검증</li>
+ *   <li>{@link #sharesSecondLevel()} — 1차 캐시가 비어 있어도 2차 캐시의 페이지를 사용하는지 검증</li>
+ *   <li>{@link #invalidatesOnChange()} — 행사 변경 후 새 버전으로 다시 조회되는지 검증</li>
+ *   <li>{@link #invalidatesOnTableChange()} — 다른 인스턴스의 변경(테이블 버전 변경) 후 다시 조회되는지 검증</li>
+ *   <li>{@link #loadsOnceUnderConcurrency()} — 같은 키에 대한 동시 요청이 한 번만 조회되는지 검증</li>
+ *   <li>{@link #skipsDeepPages()} — 캐시 대상이 아닌 뒤쪽 페이지는 매번 조회되는지 검증</li>
+ * </ul>
+ */
+class EventPageCacheTest {
+
+    private final EventPageCacheProperties properties =
+            new EventPageCacheProperties(100, Duration.ofMinutes(10), 2, "local");
+
+    private LocalEventPageStore store;
+    private EventPageCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        store = new LocalEventPageStore(properties, new SimpleMeterRegistry());
+        cache = new EventPageCache(properties, store, new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 페이지는 한 번만 조회하고 전체 개수를 유지")
+    void cachesPage() {
+        Pageable pageable = PageRequest.of(0, 2);
+
+        cache.get(1L, pageable, () -> load(pageable));
+        Page<EventListResponse> result = cache.get(1L, pageable, () -> load(pageable));
+
+        assertThat(loads).hasValue(1);
+        assertThat(result.getContent()).extracting(EventListResponse::eventNo).containsExactly(1L, 2L);
+        assertThat(result.getTotalElements()).isEqualTo(10);
+        assertThat(result.getTotalPages()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("1차 캐시가 비어 있는 다른 인스턴스도 2차 캐시의 페이지를 사용")
+    void sharesSecondLevel() {
+        Pageable pageable = PageRequest.of(0, 2);
+        EventPageCache other = new EventPageCache(properties, store, new SimpleMeterRegistry());
+
+        cache.get(null, pageable, () -> load(pageable));
+        other.get(null, pageable, () -> load(pageable));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("행사가 변경되면 새 버전으로 다시 조회")
+    void invalidatesOnChange() {
+        Pageable pageable = PageRequest.of(0, 2);
+
+        cache.get(null, pageable, () -> load(pageable));
+        cache.onEventChanged(null);
+        cache.get(null, pageable, () -> load(pageable));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 변경이 감지되면 새 버전으로 다시 조회")
+    void invalidatesOnTableChange() {
+        Pageable pageable = PageRequest.of(0, 2);
+
+        cache.get(null, pageable, () -> load(pageable));
+        cache.onTableChanged(new EventTableChangedEvent(3, 4));
+        cache.get(null, pageable, () -> load(pageable));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 키에 대한 동시 요청은 한 번만 조회")
+    void loadsOnceUnderConcurrency() throws Exception {
+        Pageable pageable = PageRequest.of(1, 2);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<Page<EventListResponse>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(null, pageable, () -> {
+                        sleep();
+                        return load(pageable);
+                    });
+                }));
+            }
+            start.countDown();
+
+            for (Future<Page<EventListResponse>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getContent()).hasSize(2);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("캐시 대상이 아닌 뒤쪽 페이지는 매번 조회")
+    void skipsDeepPages() {
+        Pageable pageable = PageRequest.of(3, 2);
+
+        cache.get(null, pageable, () -> load(pageable));
+        cache.get(null, pageable, () -> load(pageable));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private Page<EventListResponse> load(Pageable pageable) {
+        loads.incrementAndGet();
+
+        List<EventListResponse> content = new ArrayList<>();
+        for (long eventNo = pageable.getOffset() + 1; eventNo <= pageable.getOffset() + pageable.getPageSize(); eventNo++) {
+            content.add(new EventListResponse(eventNo, "행사" + eventNo, null, null, null, null, null, null, null, null));
+        }
+        return new PageImpl<>(content, pageable, 10);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,19 +1,34 @@
 package com.cu2mber.eventservice.event.controller;
 
 import com.cu2mber.eventservice.category.domain.Category;
+import com.cu2mber.eventservice.event.dto.EventBatchItem;
+import com.cu2mber.eventservice.event.dto.EventBatchResponse;
+import com.cu2mber.eventservice.event.dto.EventChangesResponse;
+import com.cu2mber.eventservice.event.dto.EventCursorResponse;
 import com.cu2mber.eventservice.event.dto.EventDetailResponse;
+import com.cu2mber.eventservice.event.dto.EventImportError;
+import com.cu2mber.eventservice.event.dto.EventImportResult;
 import com.cu2mber.eventservice.event.dto.EventListResponse;
+import com.cu2mber.eventservice.event.export.EventExportFormat;
+import com.cu2mber.eventservice.event.service.EventChangeService;
+import com.cu2mber.eventservice.event.service.EventExportService;
+import com.cu2mber.eventservice.event.service.EventImportService;
 import com.cu2mber.eventservice.event.service.EventService;
+import com.cu2mber.eventservice.global.config.JacksonConfig;
 import com.cu2mber.eventservice.localgov.domain.LocalGov;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -21,11 +36,16 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -45,6 +65,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * <ul>
  *   <li>{@link #getAllEvents()} — 행사 목록 조회 요청 시 200 응답 코드와 JSON 구조를 검증합니다.</li>
  *   <li>{@link #getEventDetail()} — 특정 행사 조회 요청 시 응답 데이터의 필드 값과 상태 코드를 검증합니다.</li>
+ *   <li>{@link #getEventDetails()} — 일괄 상세 조회 요청 본문이 서비스로 전달되고 누락 번호가 응답되는지 검증합니다.</li>
+ *   <li>{@link #getAllEventsByCursor()} — cursor 파라미터가 있는 요청이 커서 조회로 분기되는지 검증합니다.</li>
+ *   <li>{@link #getAllEventsWithFields()} — fields 파라미터로 목록 응답의 필드만 선택되는지 검증합니다.</li>
+ *   <li>{@link #getAllEventsWithUnknownField()} — 알 수 없는 필드 선택 시 400 응답을 검증합니다.</li>
+ *   <li>{@link #getEventDetailAsCbor()} — Accept: application/cbor 요청에 CBOR로 응답하는지 검증합니다.</li>
+ *   <li>{@link #importEvents()} — CSV 본문이 Content-Type에 맞는 형식으로 적재 서비스에 전달되는지 검증합니다.</li>
+ *   <li>{@link #importEventsWithUnsupportedType()} — 지원하지 않는 Content-Type에 415 응답을 검증합니다.</li>
+ *   <li>{@link #getChanges()} — since 토큰과 size가 변경 피드 서비스로 전달되고 다음 토큰이 응답되는지 검증합니다.</li>
  * </ul>
  *
  * <p>이 테스트 클래스는 보안 필터를 비활성화하기 위해 {@code @AutoConfigureMockMvc(addFilters = false)}를 사용하며,
@@ -53,6 +81,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(EventController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(JacksonConfig.class)
 class EventControllerTest {
 
     @Autowired
@@ -61,8 +90,18 @@ class EventControllerTest {
     @MockitoBean
     private EventService eventService;
 
+    @MockitoBean
+    private EventExportService eventExportService;
+
+    @MockitoBean
+    private EventImportService eventImportService;
+
+    @MockitoBean
+    private EventChangeService eventChangeService;
+
     private EventDetailResponse mockDetailResponse;
     private Page<EventListResponse> mockPage;
+    private EventCursorResponse mockCursorResponse;
 
     @BeforeEach
     void setUp() {
@@ -97,6 +136,7 @@ class EventControllerTest {
         );
 
         mockPage = new PageImpl<>(List.of(mockResponse));
+        mockCursorResponse = new EventCursorResponse(List.of(mockResponse), "next-cursor", true);
     }
 
     @Test
@@ -117,6 +157,31 @@ class EventControllerTest {
 
     }
 
+    @Test
+    @DisplayName("fields 파라미터로 목록 응답의 필드를 선택")
+    void getAllEventsWithFields() throws Exception {
+        when(eventService.getAllEvents(any(Pageable.class)))
+                .thenReturn(mockPage);
+
+        mockMvc.perform(get("/api/events")
+                        .param("fields", "eventNo,eventTitle"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].eventTitle").value("테스트 행사"))
+                .andExpect(jsonPath("$.content[0].eventDescription").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 필드를 선택하면 400 응답")
+    void getAllEventsWithUnknownField() throws Exception {
+        when(eventService.getAllEvents(any(Pageable.class)))
+                .thenReturn(mockPage);
+
+        mockMvc.perform(get("/api/events")
+                        .param("fields", "eventNo,eventUrl"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("특정 키워드 포함된 행사 목록 조회")
     void getSearchEventsByTitle() throws Exception {
@@ -162,4 +227,97 @@ class EventControllerTest {
 
         verify(eventService, times(1)).getEventDetail(anyLong());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Accept: application/cbor 요청에는 같은 응답을 CBOR로 응답")
+    void getEventDetailAsCbor() throws Exception {
+        when(eventService.getEventDetail(anyLong()))
+                .thenReturn(mockDetailResponse);
+
+        byte[] body = mockMvc.perform(get("/api/events/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode decoded = new CBORMapper().readTree(body);
+        assertThat(decoded.get("eventTitle").asText()).isEqualTo("테스트 행사");
+        assertThat(decoded.get("categoryName").asText()).isEqualTo("테스트 카테고리");
+    }
+
+    @Test
+    @DisplayName("일괄 상세 조회 요청시 요청 순서의 상세 목록과 누락 번호 응답")
+    void getEventDetails() throws Exception {
+        when(eventService.getEventDetails(List.of(1L, 99L)))
+                .thenReturn(new EventBatchResponse(List.of(new EventBatchItem(1L, mockDetailResponse)), List.of(99L)));
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"eventNos\":[1,99]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].eventNo").value(1))
+                .andExpect(jsonPath("$.events[0].event.eventTitle").value("테스트 행사"))
+                .andExpect(jsonPath("$.missingEventNos[0]").value(99));
+    }
+
+    @Test
+    @DisplayName("cursor 파라미터가 있으면 커서 기반 목록 조회")
+    void getAllEventsByCursor() throws Exception {
+        when(eventService.getAllEventsByCursor(any(), anyInt()))
+                .thenReturn(mockCursorResponse);
+
+        mockMvc.perform(get("/api/events")
+                        .param("cursor", "")
+                        .param("size", "5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].eventTitle").value("테스트 행사"))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        verify(eventService, times(1)).getAllEventsByCursor(any(), eq(5));
+        verify(eventService, never()).getAllEvents(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("CSV 본문을 CSV 형식으로 적재하고 결과 요약을 반환")
+    void importEvents() throws Exception {
+        when(eventImportService.importEvents(eq(EventExportFormat.CSV), any()))
+                .thenReturn(new EventImportResult(3, 1, 1, 0, 0, 1, List.of(new EventImportError(4, "행사명이 없습니다."))));
+
+        mockMvc.perform(post("/api/events/import")
+                        .contentType("text/csv;charset=UTF-8")
+                        .content("localDistrict,localName\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(4));
+
+        verify(eventImportService).importEvents(eq(EventExportFormat.CSV), any());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 Content-Type으로 적재하면 415 응답")
+    void importEventsWithUnsupportedType() throws Exception {
+        mockMvc.perform(post("/api/events/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verifyNoInteractions(eventImportService);
+    }
+
+    @Test
+    @DisplayName("변경 피드 조회 시 토큰과 크기를 전달하고 다음 토큰을 반환")
+    void getChanges() throws Exception {
+        when(eventChangeService.getChanges("token", 50))
+                .thenReturn(new EventChangesResponse(List.of(), "token", false));
+
+        mockMvc.perform(get("/api/events/changes")
+                        .param("since", "token")
+                        .param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes").isEmpty())
+                .andExpect(jsonPath("$.nextToken").value("token"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+}
@@ -0,0 +1,66 @@
+package com.cu2mber.eventservice.event.export;
+
+import com.cu2mber.eventservice.event.dto.EventExportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code CsvEventExportWriterTest} 클래스는 {@link CsvEventExportWriter}의 CSV 출력 형식을 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #headerAndRow()} — BOM, 헤더, 날짜·시간 형식과 빈 값 처리 검증</li>
+ *   <li>{@link #escaping()} — 쉼표·큰따옴표·줄바꿈이 포함된 값의 인용 처리 검증</li>
+ * </ul>
+ */
+class CsvEventExportWriterTest {
+
+    private final CsvEventExportWriter writer = new CsvEventExportWriter();
+
+    @Test
+    @DisplayName("BOM과 헤더 뒤에 행사 한 건을 한 줄로 기록")
+    void headerAndRow() throws IOException {
+        EventExportRow row = row("진주유등축제", "남강 유등 행사");
+
+        String csv = write(List.of(row));
+
+        assertThat(csv).startsWith("\uFEFFeventNo,localDistrict,localName,categoryName,eventTitle,");
+        assertThat(csv.lines().toList()).hasSize(2);
+        assertThat(csv.lines().toList().get(1)).isEqualTo(
+                "1,경상남도,진주시,축제,진주유등축제,경상남도 진주시,2025-10-01,2025-10-13,10:00,,"
+                        + "https://example.com,남강둔치,진주시청,055-000-0000,남강 유등 행사,");
+    }
+
+    @Test
+    @DisplayName("쉼표·큰따옴표·줄바꿈이 포함된 값은 큰따옴표로 감싸고 내부 따옴표를 두 번 기록")
+    void escaping() throws IOException {
+        EventExportRow row = row("\"빛\" 축제, 2025", "첫째 줄\n둘째 줄");
+
+        String csv = write(List.of(row));
+
+        assertThat(csv).contains(",\"\"\"빛\"\" 축제, 2025\",");
+        assertThat(csv).contains(",\"첫째 줄\n둘째 줄\",");
+    }
+
+    private String write(List<EventExportRow> rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = writer.write(rows.iterator(), out);
+
+        assertThat(count).isEqualTo(rows.size());
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private EventExportRow row(String title, String description) {
+        return new EventExportRow(1L, "경상남도", "진주시", "축제", title, "경상남도 진주시",
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 13), LocalTime.of(10, 0), null,
+                "https://example.com", "남강둔치", "진주시청", "055-000-0000", description, null);
+    }
+}
@@ -0,0 +1,187 @@
+package com.cu2mber.eventservice.event.facet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * {@code FacetBitmapsTest} 클래스는 {@link FacetBitmaps}의 조건 교집합과 패싯별 개수 계산을 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #counts()} — 선택한 패싯을 제외한 조건으로 칩별 개수를 계산하는지 검증</li>
+ *   <li>{@link #incrementalUpdates()} — 행사 수정·삭제가 재구성 없이 반영되는지 검증</li>
+ *   <li>{@link #matchesLinearScan()} — 무작위 데이터에서 전체 탐색 결과와 일치하는지 검증</li>
+ *   <li>{@link #ordersByCreatedAt()} — 행사 번호가 아닌 등록 일시 역순으로 반환하고, 늦게 추가된 과거 행사는 정리 후 제자리에 오는지 검증</li>
+ *   <li>{@link #reclaimsOrdinals()} — 삭제가 반복되면 버려진 순번을 정리하고 결과는 그대로인지 검증</li>
+ * </ul>
+ */
+class FacetBitmapsTest {
+
+    private static final YearMonth OCTOBER = YearMonth.of(2025, 10);
+    private static final YearMonth NOVEMBER = YearMonth.of(2025, 11);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 9, 1, 9, 0);
+
+    @Test
+    @DisplayName("선택한 패싯을 제외한 나머지 조건으로 칩별 개수를 계산")
+    void counts() {
+        FacetBitmaps bitmaps = new FacetBitmaps();
+        bitmaps.put(1L, created(1), new FacetValues(1L, "서울특별시", OCTOBER));
+        bitmaps.put(2L, created(2), new FacetValues(2L, "서울특별시", OCTOBER));
+        bitmaps.put(3L, created(3), new FacetValues(1L, "경상남도", NOVEMBER));
+        bitmaps.put(4L, created(4), new FacetValues(1L, "서울특별시", NOVEMBER));
+
+        FacetResult result = bitmaps.query(new FacetFilter(1L, "서울특별시", null), 0, 10);
+
+        assertThat(result.eventNos()).containsExactly(4L, 1L);
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.categories()).containsExactly(entry(1L, 2L), entry(2L, 1L));
+        assertThat(result.districts()).containsExactly(entry("경상남도", 1L), entry("서울특별시", 2L));
+        assertThat(result.months()).containsExactly(entry(OCTOBER, 1L), entry(NOVEMBER, 1L));
+        assertThat(bitmaps.query(new FacetFilter(null, null, null), 1, 2).eventNos()).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("행사 수정과 삭제를 재구성 없이 반영")
+    void incrementalUpdates() {
+        FacetBitmaps bitmaps = new FacetBitmaps();
+        bitmaps.put(1L, created(1), new FacetValues(1L, "서울특별시", OCTOBER));
+        bitmaps.put(2L, created(2), new FacetValues(1L, "서울특별시", OCTOBER));
+
+        bitmaps.put(1L, created(1), new FacetValues(2L, "경상남도", NOVEMBER));
+        bitmaps.remove(2L);
+
+        FacetResult result = bitmaps.query(new FacetFilter(null, null, null), 0, 10);
+
+        assertThat(bitmaps.size()).isEqualTo(1);
+        assertThat(result.eventNos()).containsExactly(1L);
+        assertThat(result.categories()).containsExactly(entry(2L, 1L));
+        assertThat(result.districts()).containsOnlyKeys("경상남도");
+        assertThat(bitmaps.query(new FacetFilter(1L, null, null), 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("무작위 데이터에서 전체 탐색과 같은 결과를 반환")
+    void matchesLinearScan() {
+        Random random = new Random(7);
+        String[] districts = {"서울특별시", "부산광역시", "경상남도", "전라남도"};
+        Map<Long, FacetValues> events = new TreeMap<>();
+        FacetBitmaps bitmaps = new FacetBitmaps();
+
+        for (long eventNo = 1; eventNo <= 2000; eventNo++) {
+            FacetValues values = new FacetValues(1L + random.nextInt(5), districts[random.nextInt(districts.length)],
+                    YearMonth.of(2025, 1 + random.nextInt(12)));
+            events.put(eventNo, values);
+            bitmaps.put(eventNo, created(eventNo), values);
+        }
+        for (int i = 0; i < 300; i++) {
+            long eventNo = 1 + random.nextInt(2000);
+            events.remove(eventNo);
+            bitmaps.remove(eventNo);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            FacetFilter filter = new FacetFilter(
+                    random.nextBoolean() ? null : 1L + random.nextInt(5),
+                    random.nextBoolean() ? null : districts[random.nextInt(districts.length)],
+                    random.nextBoolean() ? null : YearMonth.of(2025, 1 + random.nextInt(12)));
+
+            FacetResult result = bitmaps.query(filter, 10, 20);
+
+            List<Long> expected = events.entrySet().stream()
+                    .filter(e -> matches(filter, e.getValue(), null))
+                    .map(Map.Entry::getKey)
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+            assertThat(result.total()).isEqualTo(expected.size());
+            assertThat(result.eventNos()).isEqualTo(expected.subList(Math.min(10, expected.size()),
+                    Math.min(30, expected.size())));
+            assertThat(result.categories()).isEqualTo(
+                    countBy(events, e -> matches(filter, e, "category"), FacetValues::categoryNo));
+            assertThat(result.districts()).isEqualTo(
+                    countBy(events, e -> matches(filter, e, "district"), FacetValues::localDistrict));
+            assertThat(result.months()).isEqualTo(
+                    countBy(events, e -> matches(filter, e, "month"), FacetValues::month));
+        }
+    }
+
+    @Test
+    @DisplayName("행사 번호가 아닌 등록 일시 역순으로 반환하고, 늦게 추가된 과거 행사는 정리 후 제자리에 배치")
+    void ordersByCreatedAt() {
+        FacetValues values = new FacetValues(1L, "서울특별시", OCTOBER);
+        FacetBitmaps bitmaps = new FacetBitmaps();
+        // 인스턴스마다 시퀀스 블록이 달라 번호가 큰 행사가 먼저 등록될 수 있습니다.
+        bitmaps.put(101L, BASE, values);
+        bitmaps.put(51L, BASE.plusMinutes(1), values);
+        bitmaps.put(102L, BASE.plusMinutes(2), values);
+
+        assertThat(bitmaps.needsCompaction()).isFalse();
+        assertThat(bitmaps.query(new FacetFilter(null, null, null), 0, 10).eventNos()).containsExactly(102L, 51L, 101L);
+
+        bitmaps.put(52L, BASE.plusSeconds(30), values);
+        assertThat(bitmaps.needsCompaction()).isTrue();
+
+        FacetBitmaps compacted = bitmaps.compact();
+        assertThat(compacted.needsCompaction()).isFalse();
+        assertThat(compacted.query(new FacetFilter(null, null, null), 0, 10).eventNos())
+                .containsExactly(102L, 51L, 52L, 101L);
+    }
+
+    @Test
+    @DisplayName("삭제가 반복되면 버려진 순번을 정리하고 조회 결과는 유지")
+    void reclaimsOrdinals() {
+        FacetBitmaps bitmaps = new FacetBitmaps();
+        for (long eventNo = 1; eventNo <= 3000; eventNo++) {
+            bitmaps.put(eventNo, created(eventNo), new FacetValues(eventNo % 2 + 1, "서울특별시", OCTOBER));
+        }
+        for (long eventNo = 1; eventNo <= 2000; eventNo++) {
+            bitmaps.remove(eventNo);
+        }
+
+        assertThat(bitmaps.needsCompaction()).isTrue();
+
+        FacetBitmaps compacted = bitmaps.compact();
+        FacetFilter filter = new FacetFilter(1L, null, null);
+
+        assertThat(compacted.allocated()).isEqualTo(1000);
+        assertThat(compacted.size()).isEqualTo(bitmaps.size());
+        assertThat(compacted.query(filter, 5, 10)).isEqualTo(bitmaps.query(filter, 5, 10));
+    }
+
+    private static LocalDateTime created(long eventNo) {
+        return BASE.plusMinutes(eventNo);
+    }
+
+    private boolean matches(FacetFilter filter, FacetValues values, String ignored) {
+        return (Objects.equals(ignored, "category") || filter.categoryNo() == null
+                || filter.categoryNo().equals(values.categoryNo()))
+                && (Objects.equals(ignored, "district") || filter.localDistrict() == null
+                || filter.localDistrict().equals(values.localDistrict()))
+                && (Objects.equals(ignored, "month") || filter.month() == null
+                || filter.month().equals(values.month()));
+    }
+
+    private <K> Map<K, Long> countBy(Map<Long, FacetValues> events, Predicate<FacetValues> filter,
+                                     Function<FacetValues, K> key) {
+        Map<K, Long> counts = new TreeMap<>();
+        for (FacetValues values : new ArrayList<>(events.values())) {
+            if (filter.test(values)) {
+                counts.merge(key.apply(values), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+}
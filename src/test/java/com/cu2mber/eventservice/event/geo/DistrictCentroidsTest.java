@@ -0,0 +1,35 @@
+package com.cu2mber.eventservice.event.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code DistrictCentroidsTest} 클래스는 번들된 지자체 좌표 표({@code geo/district-centroids.csv})의 조회 규칙을 검증합니다.
+ *
+ * <ul>
+ *   <li>{@link #locateDistrict()} — 시·군·구 좌표 조회와 시·도 좌표 대체 검증</li>
+ *   <li>{@link #locateLegacyName()} — 개편 전 행정구역 이름으로 조회되는지 검증</li>
+ * </ul>
+ */
+class DistrictCentroidsTest {
+
+    private final DistrictCentroids centroids = new DistrictCentroids();
+
+    @Test
+    @DisplayName("시·군·구 좌표를 찾고, 없으면 시·도 좌표를 사용")
+    void locateDistrict() {
+        assertThat(centroids.locate("경상남도", "진주시")).contains(new GeoPoint(35.1800, 128.1076));
+        assertThat(centroids.locate("서울특별시", null)).contains(new GeoPoint(37.5665, 126.9780));
+        assertThat(centroids.locate("서울특별시", "없는구")).contains(new GeoPoint(37.5665, 126.9780));
+        assertThat(centroids.locate("없는도", "없는시")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("개편 전 행정구역 이름도 현재 이름의 좌표로 조회")
+    void locateLegacyName() {
+        assertThat(centroids.locate("강원도", "강릉시")).isEqualTo(centroids.locate("강원특별자치도", "강릉시"));
+        assertThat(centroids.locate("전라북도", "전주시")).isPresent();
+    }
+}
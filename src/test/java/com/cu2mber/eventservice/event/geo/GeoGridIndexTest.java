@@ -0,0 +1,94 @@
+package com.cu2mber.eventservice.event.geo;
+
+import com.cu2mber.eventservice.event.dto.EventLocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * {@code GeoGridIndexTest} 클래스는 {@link GeoGridIndex}의 반경 조회를 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #nearby()} — 반경 안의 행사만 거리순으로 조회되는지 검증</li>
+ *   <li>{@link #filters()} — 카테고리·지자체 조건과 좌표 없는 행사 제외 검증</li>
+ *   <li>{@link #matchesLinearScan()} — 무작위 데이터에서 전체 탐색 결과와 일치하는지 검증</li>
+ * </ul>
+ */
+class GeoGridIndexTest {
+
+    private static final GeoPoint SEOUL_CITY_HALL = new GeoPoint(37.5665, 126.9780);
+
+    @Test
+    @DisplayName("반경 안의 행사를 가까운 순으로 조회")
+    void nearby() {
+        GeoGridIndex index = GeoGridIndex.of(List.of(
+                location(1L, 1L, 1, 37.2636, 127.0286),  // 수원시청, 약 34km
+                location(2L, 1L, 1, 37.5172, 127.0473),  // 강남구청, 약 8km
+                location(3L, 1L, 2, 35.1800, 128.1076),  // 진주시청, 약 285km
+                location(4L, 1L, 1, 37.5735, 126.9790)   // 종로구청, 약 1km
+        ));
+
+        List<EventDistance> result = index.nearby(SEOUL_CITY_HALL, 30, null, null);
+
+        assertThat(result).extracting(EventDistance::eventNo).containsExactly(4L, 2L);
+        assertThat(result.get(1).distanceKm()).isCloseTo(8.0, within(1.0));
+        assertThat(index.nearby(SEOUL_CITY_HALL, 40, null, null)).extracting(EventDistance::eventNo)
+                .containsExactly(4L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("카테고리·지자체 조건을 적용하고 좌표 없는 행사는 제외")
+    void filters() {
+        GeoGridIndex index = GeoGridIndex.of(List.of(
+                location(1L, 1L, 1, 37.5172, 127.0473),
+                location(2L, 2L, 1, 37.5172, 127.0473),
+                location(3L, 2L, 2, 37.5735, 126.9790),
+                new EventLocation(4L, 2L, (short) 2, null, null)
+        ));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.nearby(SEOUL_CITY_HALL, 30, 2L, null)).extracting(EventDistance::eventNo)
+                .containsExactly(3L, 2L);
+        assertThat(index.nearby(SEOUL_CITY_HALL, 30, 2L, (short) 1)).extracting(EventDistance::eventNo)
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("무작위 좌표에서 전체 탐색과 같은 결과를 반환")
+    void matchesLinearScan() {
+        Random random = new Random(42);
+        List<EventLocation> locations = new ArrayList<>();
+        for (long eventNo = 1; eventNo <= 3000; eventNo++) {
+            locations.add(location(eventNo, 1L + random.nextInt(3), 1 + random.nextInt(5),
+                    33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5));
+        }
+        GeoGridIndex index = GeoGridIndex.of(locations);
+
+        for (int i = 0; i < 200; i++) {
+            GeoPoint center = new GeoPoint(33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5);
+            double radius = 1 + random.nextDouble() * 99;
+            Long categoryNo = random.nextBoolean() ? null : 1L + random.nextInt(3);
+
+            List<EventDistance> expected = locations.stream()
+                    .filter(location -> categoryNo == null || location.categoryNo().equals(categoryNo))
+                    .map(location -> new EventDistance(location.eventNo(),
+                            center.distanceKm(new GeoPoint(location.latitude(), location.longitude()))))
+                    .filter(distance -> distance.distanceKm() <= radius)
+                    .sorted(Comparator.comparingDouble(EventDistance::distanceKm).thenComparing(EventDistance::eventNo))
+                    .toList();
+
+            assertThat(index.nearby(center, radius, categoryNo, null)).isEqualTo(expected);
+        }
+    }
+
+    private EventLocation location(long eventNo, long categoryNo, int localNo, double latitude, double longitude) {
+        return new EventLocation(eventNo, categoryNo, (short) localNo, latitude, longitude);
+    }
+}
@@ -0,0 +1,83 @@
+package com.cu2mber.eventservice.event.index;
+
+import com.cu2mber.eventservice.category.domain.Category;
+import com.cu2mber.eventservice.event.domain.Event;
+import com.cu2mber.eventservice.event.domain.EventChangedEvent;
+import com.cu2mber.eventservice.localgov.domain.LocalGov;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code EventIndexRebuilderTest} 클래스는 {@link EventIndexRebuilder}가 재구성 중에 받은 변경을 새 색인에 다시 적용하는지 검증합니다.
+ *
+ * <ul>
+ *   <li>{@link #replaysChangesDuringLoad()} — 전체 조회 중 커밋된 등록·삭제가 교체된 색인에 남는지 검증</li>
+ *   <li>{@link #dropsRowsMissingFromLoad()} — 데이터베이스에서 사라진 행이 재구성 후 색인에서 빠지는지 검증</li>
+ * </ul>
+ */
+class EventIndexRebuilderTest {
+
+    private final EventIndexRebuilder rebuilder = new EventIndexRebuilder(new ReentrantLock());
+
+    private Set<Long> index = new TreeSet<>(Set.of(1L, 2L));
+
+    @Test
+    @DisplayName("전체 조회 중 받은 변경을 교체 직전에 새 색인에 적용")
+    void replaysChangesDuringLoad() {
+        rebuilder.rebuild(
+                () -> {
+                    // 조회 결과에는 아직 반영되지 않은 변경
+                    rebuilder.apply(changed(3L, EventChangedEvent.Type.CREATED), this::applyToCurrent);
+                    rebuilder.apply(changed(2L, EventChangedEvent.Type.DELETED), this::applyToCurrent);
+                    return new TreeSet<>(Set.of(1L, 2L));
+                },
+                EventIndexRebuilderTest::apply,
+                rebuilt -> index = rebuilt);
+
+        assertThat(index).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("데이터베이스에서 삭제된 행은 재구성 후 색인에서 제거")
+    void dropsRowsMissingFromLoad() {
+        rebuilder.rebuild(() -> new TreeSet<>(Set.of(1L)), EventIndexRebuilderTest::apply, rebuilt -> index = rebuilt);
+
+        assertThat(index).containsExactly(1L);
+
+        rebuilder.apply(changed(4L, EventChangedEvent.Type.CREATED), this::applyToCurrent);
+
+        assertThat(index).containsExactly(1L, 4L);
+    }
+
+    private void applyToCurrent(EventChangedEvent changed) {
+        apply(index, changed);
+    }
+
+    private static void apply(Set<Long> target, EventChangedEvent changed) {
+        if (changed.type() == EventChangedEvent.Type.DELETED) {
+            target.remove(changed.event().getEventNo());
+        } else {
+            target.add(changed.event().getEventNo());
+        }
+    }
+
+    private static EventChangedEvent changed(long eventNo, EventChangedEvent.Type type) {
+        Event event = new Event(new LocalGov("경상남도"), new Category("문화관광"), "진주유등축제 " + eventNo, "경상남도 진주시",
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 13),
+                LocalTime.of(10, 0), LocalTime.of(23, 0),
+                "https://example.com", "남강둔치", "진주시청", "055-749-2114", "진주의 대표 축제",
+                "https://www.mcst.go.kr/attachFiles/cultureInfoCourt/localFestival/notifyFestival/1764288589620.jpg");
+        ReflectionTestUtils.setField(event, "eventNo", eventNo);
+
+        return new EventChangedEvent(event, type);
+    }
+}
@@ -0,0 +1,114 @@
+package com.cu2mber.eventservice.event.ingest;
+
+import com.cu2mber.eventservice.event.dto.EventExportRow;
+import com.cu2mber.eventservice.event.dto.EventImportRow;
+import com.cu2mber.eventservice.event.export.CsvEventExportWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@code CsvEventImportReaderTest} 클래스는 {@link CsvEventImportReader}의 CSV 해석을 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #readsExportedCsv()} — 내보내기 CSV(BOM, 행사 번호 컬럼, 인용 값)를 그대로 읽는지 검증</li>
+ *   <li>{@link #rejectsMalformedRow()} — 날짜 형식 오류와 컬럼 수 불일치 행을 줄 번호와 함께 거절하는지 검증</li>
+ *   <li>{@link #missingColumn()} — 필수 컬럼이 없는 헤더를 거부하는지 검증</li>
+ * </ul>
+ */
+class CsvEventImportReaderTest {
+
+    private final CsvEventImportReader reader = new CsvEventImportReader();
+
+    @Test
+    @DisplayName("내보내기 CSV를 BOM·행사 번호 컬럼·인용 값과 함께 그대로 읽음")
+    void readsExportedCsv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new CsvEventExportWriter().write(List.of(
+                exportRow(1L, "\"빛\" 축제, 2025", "첫째 줄\r\n둘째 줄"),
+                exportRow(2L, "진주유등축제", null)).iterator(), out);
+
+        Collected collected = read(out.toString(StandardCharsets.UTF_8));
+
+        assertThat(collected.rejected).isEmpty();
+        assertThat(collected.lines).containsExactly(2L, 4L);
+        EventImportRow first = collected.rows.getFirst();
+        assertThat(first.localDistrict()).isEqualTo("경상남도");
+        assertThat(first.eventTitle()).isEqualTo("\"빛\" 축제, 2025");
+        assertThat(first.eventDescription()).isEqualTo("첫째 줄\r\n둘째 줄");
+        assertThat(first.eventStartDate()).isEqualTo(LocalDate.of(2025, 10, 1));
+        assertThat(first.eventStartTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(first.eventEndTime()).isNull();
+        assertThat(collected.rows.get(1).eventDescription()).isNull();
+    }
+
+    @Test
+    @DisplayName("날짜 형식 오류와 컬럼 수가 다른 행은 거절하고 나머지 행은 계속 읽음")
+    void rejectsMalformedRow() throws IOException {
+        String header = String.join(",", columns());
+        String valid = "경상남도,진주시,축제,유등축제,주소,2025-10-01,2025-10-13,10:00,22:00,u,s,h,i,d,";
+        String badDate = "경상남도,진주시,축제,유등축제,주소,2025/10/01,2025-10-13,10:00,22:00,u,s,h,i,d,";
+
+        Collected collected = read(header + "\n" + badDate + "\n" + "경상남도,진주시\n" + valid + "\n");
+
+        assertThat(collected.lines).containsExactly(4L);
+        assertThat(collected.rejected).hasSize(2);
+        assertThat(collected.rejected.get(0)).startsWith("2:");
+        assertThat(collected.rejected.get(1)).startsWith("3:");
+    }
+
+    @Test
+    @DisplayName("필수 컬럼이 없는 헤더는 IllegalArgumentException")
+    void missingColumn() {
+        assertThatThrownBy(() -> read("localDistrict,localName\n경상남도,진주시\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("eventTitle");
+    }
+
+    private Collected read(String csv) throws IOException {
+        Collected collected = new Collected();
+        reader.read(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), collected);
+        return collected;
+    }
+
+    private List<String> columns() {
+        return List.of("localDistrict", "localName", "categoryName", "eventTitle", "eventAddress",
+                "eventStartDate", "eventEndDate", "eventStartTime", "eventEndTime", "eventUrl", "eventSpot",
+                "eventHost", "eventInquiry", "eventDescription", "eventImageUrl");
+    }
+
+    private EventExportRow exportRow(Long eventNo, String title, String description) {
+        return new EventExportRow(eventNo, "경상남도", "진주시", "축제", title, "경상남도 진주시",
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 13), LocalTime.of(10, 0), null,
+                "https://example.com", "남강둔치", "진주시청", "055-000-0000", description, null);
+    }
+
+    private static final class Collected implements EventImportHandler {
+
+        private final List<Long> lines = new ArrayList<>();
+        private final List<EventImportRow> rows = new ArrayList<>();
+        private final List<String> rejected = new ArrayList<>();
+
+        @Override
+        public void accept(long line, EventImportRow row) {
+            lines.add(line);
+            rows.add(row);
+        }
+
+        @Override
+        public void reject(long line, String reason) {
+            rejected.add(line + ": " + reason);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.cu2mber.eventservice.event.period;
+
+import com.cu2mber.eventservice.event.dto.EventPeriod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code IntervalIndexTest} 클래스는 {@link IntervalIndex}의 기간 겹침 조회를 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #overlapping()} — 경계일을 포함한 겹침 판정과 시작일 정렬 검증</li>
+ *   <li>{@link #filters()} — 카테고리·지자체 조건 검증</li>
+ *   <li>{@link #matchesLinearScan()} — 무작위 데이터에서 전체 탐색 결과와 일치하는지 검증</li>
+ * </ul>
+ */
+class IntervalIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 10, 1);
+
+    @Test
+    @DisplayName("조회 기간과 하루라도 겹치는 행사를 시작일 순으로 조회")
+    void overlapping() {
+        IntervalIndex index = IntervalIndex.of(List.of(
+                period(1L, 1L, 1, 0, 12),   // 10/01 ~ 10/13
+                period(2L, 1L, 1, 13, 13),  // 10/14 하루
+                period(3L, 2L, 2, 20, 30),  // 10/21 ~ 10/31
+                period(4L, 2L, 2, 5, null)  // 10/06 하루 (종료일 없음)
+        ));
+
+        assertThat(index.overlapping(day(12), day(13), null, null)).containsExactly(1L, 2L);
+        assertThat(index.overlapping(day(5), day(5), null, null)).containsExactly(1L, 4L);
+        assertThat(index.overlapping(day(14), day(19), null, null)).isEmpty();
+        assertThat(index.overlapping(day(0), day(40), null, null)).containsExactly(1L, 4L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("카테고리와 지자체 조건을 함께 적용")
+    void filters() {
+        IntervalIndex index = IntervalIndex.of(List.of(
+                period(1L, 1L, 1, 0, 10),
+                period(2L, 1L, 2, 0, 10),
+                period(3L, 2L, 1, 0, 10)
+        ));
+
+        assertThat(index.overlapping(day(3), day(3), 1L, null)).containsExactly(1L, 2L);
+        assertThat(index.overlapping(day(3), day(3), null, (short) 1)).containsExactly(1L, 3L);
+        assertThat(index.overlapping(day(3), day(3), 1L, (short) 2)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("무작위 기간에서 전체 탐색과 같은 결과를 반환")
+    void matchesLinearScan() {
+        Random random = new Random(42);
+        List<EventPeriod> periods = new ArrayList<>();
+
+        for (long eventNo = 1; eventNo <= 2_000; eventNo++) {
+            int start = random.nextInt(365);
+            periods.add(period(eventNo, 1L, 1, start, start + random.nextInt(30)));
+        }
+
+        IntervalIndex index = IntervalIndex.of(periods);
+
+        for (int i = 0; i < 200; i++) {
+            LocalDate from = day(random.nextInt(400));
+            LocalDate to = from.plusDays(random.nextInt(10));
+
+            List<Long> expected = periods.stream()
+                    .filter(p -> !p.startDate().isAfter(to) && !p.endDate().isBefore(from))
+                    .sorted(Comparator.comparing(EventPeriod::startDate).thenComparing(EventPeriod::eventNo))
+                    .map(EventPeriod::eventNo)
+                    .toList();
+
+            assertThat(index.overlapping(from, to, null, null)).isEqualTo(expected);
+        }
+    }
+
+    private EventPeriod period(Long eventNo, Long categoryNo, int localNo, int startOffset, Integer endOffset) {
+        return new EventPeriod(eventNo, categoryNo, (short) localNo, day(startOffset),
+                endOffset == null ? null : day(endOffset));
+    }
+
+    private LocalDate day(int offset) {
+        return BASE.plusDays(offset);
+    }
+}
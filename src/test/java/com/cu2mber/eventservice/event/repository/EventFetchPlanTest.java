@@ -0,0 +1,146 @@
+package com.cu2mber.eventservice.event.repository;
+
+import com.cu2mber.eventservice.category.domain.Category;
+import com.cu2mber.eventservice.event.domain.Event;
+import com.cu2mber.eventservice.event.dto.EventCursor;
+import com.cu2mber.eventservice.event.dto.EventDetailResponse;
+import com.cu2mber.eventservice.localgov.domain.LocalGov;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code EventFetchPlanTest} 클래스는 행사 조회 경로별로 실행되는 SQL 문 수를 Hibernate 통계로 검증하여
+ * 지연 로딩으로 인한 N+1 조회가 다시 생기지 않도록 합니다.
+ *
+ * <p>
+ *     각 테스트는 영속성 컨텍스트를 비운 뒤 API가 수행하는 조회와 DTO 변환을 그대로 실행하고,
+ *     {@link Statistics#getPrepareStatementCount()}로 실행된 SQL 문 수를 확인합니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@link #detail()} — 상세 조회({@code GET /api/events/{event-no}})는 조인 쿼리 1회</li>
+ *   <li>{@link #batch()} — 일괄 상세 조회({@code POST /api/events/batch})는 IN 쿼리 1회</li>
+ *   <li>{@link #pagedLists()} — 페이지 목록 조회(전체·카테고리·제목 검색)는 목록과 COUNT 쿼리 2회</li>
+ *   <li>{@link #cursorAndSlice()} — 커서·Slice 목록 조회는 COUNT 없이 1회</li>
+ *   <li>{@link #batchFetchesLazyAssociations()} — 그래프 없이 읽은 연관도 한 번의 IN 쿼리로 초기화</li>
+ * </ul>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class EventFetchPlanTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Category category;
+    private List<Event> events;
+
+    @BeforeEach
+    void setUp() {
+        category = new Category("문화생활");
+        LocalGov seoul = new LocalGov("서울특별시");
+        LocalGov jinju = new LocalGov("경상남도", "진주시");
+        entityManager.persist(category);
+        entityManager.persist(seoul);
+        entityManager.persist(jinju);
+
+        events = List.of(
+                event(seoul, "서울 불꽃축제"),
+                event(jinju, "진주유등축제"),
+                event(seoul, "서울 야장"));
+        events.forEach(entityManager::persist);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("상세 조회는 지자체·카테고리를 포함해 쿼리 1회")
+    void detail() {
+        EventDetailResponse response = eventRepository.findByEventNo(events.get(1).getEventNo())
+                .map(EventDetailResponse::from)
+                .orElseThrow();
+
+        assertThat(response.localName()).isEqualTo("진주시");
+        assertThat(response.categoryName()).isEqualTo("문화생활");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 상세 조회는 행사 수와 관계없이 쿼리 1회")
+    void batch() {
+        List<EventDetailResponse> responses = eventRepository.findAllWithDetailsByEventNoIn(
+                        events.stream().map(Event::getEventNo).toList()).stream()
+                .map(EventDetailResponse::from)
+                .toList();
+
+        assertThat(responses).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("페이지 목록 조회는 목록과 COUNT 쿼리 2회")
+    void pagedLists() {
+        PageRequest pageable = PageRequest.of(0, 2);
+
+        eventRepository.findAllListBy(pageable);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        eventRepository.findByCategory_CategoryNo(category.getCategoryNo(), pageable);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+
+        eventRepository.findByEventTitleContaining("축제", PageRequest.of(0, 1));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("커서·Slice 목록 조회는 COUNT 없이 쿼리 1회")
+    void cursorAndSlice() {
+        EventCursor first = EventCursor.FIRST;
+
+        eventRepository.findAllAfterCursor(first.createdAt(), first.eventNo(), PageRequest.of(0, 3));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        eventRepository.findSliceByCategory_CategoryNo(category.getCategoryNo(), PageRequest.of(0, 2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("그래프 없이 읽은 행사의 지자체는 default_batch_fetch_size로 한 번에 초기화")
+    void batchFetchesLazyAssociations() {
+        List<Event> loaded = eventRepository.findAll();
+
+        loaded.forEach(event -> event.getLocalGov().getLocalDistrict());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Event event(LocalGov localGov, String title) {
+        return new Event(localGov, category, title, localGov.getLocalDistrict(),
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 13),
+                LocalTime.of(10, 0), LocalTime.of(22, 0),
+                "https://example.com", "행사장", "주최기관", "관리자", title + " 설명", null);
+    }
+}
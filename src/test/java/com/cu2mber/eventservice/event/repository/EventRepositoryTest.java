@@ -3,6 +3,13 @@ package com.cu2mber.eventservice.event.repository;
 import com.cu2mber.eventservice.category.domain.Category;
 import com.cu2mber.eventservice.category.repository.CategoryRepository;
 import com.cu2mber.eventservice.event.domain.Event;
+import com.cu2mber.eventservice.event.dto.EventChange;
+import com.cu2mber.eventservice.event.dto.EventChangeToken;
+import com.cu2mber.eventservice.event.dto.EventCursor;
+import com.cu2mber.eventservice.event.dto.EventExportRow;
+import com.cu2mber.eventservice.event.dto.EventFacetRow;
+import com.cu2mber.eventservice.event.dto.EventListResponse;
+import com.cu2mber.eventservice.event.dto.EventListRow;
 import com.cu2mber.eventservice.localgov.domain.LocalGov;
 import com.cu2mber.eventservice.localgov.repository.LocalGovRepository;
 import org.junit.jupiter.api.BeforeAll;
@@ -12,16 +19,22 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.test.context.ActiveProfiles; // @ActiveProfiles
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
 
 /**
  * {@code EventRepositoryTest} 클래스는 {@link EventRepository}의 JPA 쿼리 메서드 동작을 검증하기 위한 테스트 클래스입니다.
@@ -38,11 +51,16 @@ import static org.assertj.core.api.Assertions.assertThat;
  * </p>
  *
  * <ul>
- *   <li>{@link #findAll()} — 모든 행사를 페이지 단위로 조회하는 기능 검증</li>
+ *   <li>{@link #findAll()} — 모든 행사를 목록용 DTO로 페이지 단위 조회하는 기능 검증</li>
  *   <li>{@link #findByEventTitleContaining()} — 행사명에 특정 키워드가 포함된 이벤트 조회 기능 검증</li>
  *   <li>{@link #findByCategoryNo()} — 카테고리별 행사 조회 기능 검증</li>
  *   <li>{@link #findByEventNo()} — 존재하는 고유 번호로 단일 행사 조회 기능 검증</li>
  *   <li>{@link #existFindByEventNo()} — 존재하지 않는 고유 번호로 조회 시 빈 결과 검증</li>
+ *   <li>{@link #findAllAfterCursor()} — 커서 이후의 행사를 중복 없이 이어서 조회하는 기능 검증</li>
+ *   <li>{@link #findSliceBy()} — COUNT 없이 다음 페이지 존재 여부를 판단하는 기능 검증</li>
+ *   <li>{@link #countGroupByCategory()} — 카테고리별 행사 개수 집계 기능 검증</li>
+ *   <li>{@link #findAllFacetRows()} — 패싯 색인 필드를 등록 일시와 함께 조회하는 기능 검증</li>
+ *   <li>{@link #findChangesAfter()} — 변경 토큰 이후의 행사를 수정 순서대로 이어서 조회하고 상한 이후는 제외하는 기능 검증</li>
  * </ul>
  *
  * <p>
@@ -100,7 +118,7 @@ class EventRepositoryTest {
     @Test
     @DisplayName("모든 행사 페이징 조회 테스트")
     void findAll() {
-        Page<Event> events = eventRepository.findAll(Pageable.ofSize(3));
+        Page<EventListResponse> events = eventRepository.findAllListBy(Pageable.ofSize(3));
 
         assertThat(events.getTotalElements()).isEqualTo(3);
         assertThat(events.getContent()).hasSize(3);
@@ -113,7 +131,7 @@ class EventRepositoryTest {
         var results = eventRepository.findByEventTitleContaining("서울", Pageable.ofSize(2));
 
         assertThat(results).hasSize(2);
-        assertThat(results.getContent().getFirst().getEventTitle()).contains("서울");
+        assertThat(results.getContent().getFirst().eventTitle()).contains("서울");
     }
 
     @Test
@@ -161,4 +179,88 @@ class EventRepositoryTest {
 
         assertThat(result).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("커서 기반 다음 페이지 조회 테스트")
+    void findAllAfterCursor() {
+        EventCursor first = EventCursor.FIRST;
+
+        List<EventListRow> firstPage = eventRepository.findAllAfterCursor(first.createdAt(), first.eventNo(), PageRequest.of(0, 2));
+
+        EventCursor next = firstPage.getLast().toCursor();
+        List<EventListRow> secondPage = eventRepository.findAllAfterCursor(next.createdAt(), next.eventNo(), PageRequest.of(0, 2));
+
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage).doesNotContainAnyElementsOf(firstPage);
+    }
+
+    @Test
+    @DisplayName("Slice 조회 시 다음 페이지 존재 여부 판단 테스트")
+    void findSliceBy() {
+        Slice<EventListResponse> first = eventRepository.findSliceBy(PageRequest.of(0, 2));
+        Slice<EventListResponse> last = eventRepository.findSliceBy(PageRequest.of(1, 2));
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("카테고리별 행사 개수 집계 테스트")
+    void countGroupByCategory() {
+        var counts = eventRepository.countGroupByCategory();
+
+        assertThat(counts)
+                .extracting("categoryNo", "eventCount")
+                .containsExactlyInAnyOrder(
+                        tuple(category1.getCategoryNo(), 2L),
+                        tuple(category2.getCategoryNo(), 1L));
+    }
+
+    @Test
+    @DisplayName("내보내기 스트림 조회 시 행사 번호 순서와 연관 정보 포함 테스트")
+    void streamAllForExport() {
+        List<EventExportRow> rows;
+        try (Stream<EventExportRow> stream = eventRepository.streamAllForExport()) {
+            rows = stream.toList();
+        }
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows).extracting(EventExportRow::eventNo).isSorted();
+        assertThat(rows.get(1))
+                .extracting(EventExportRow::localDistrict, EventExportRow::localName, EventExportRow::categoryName)
+                .containsExactly("경상남도", "진주시", "체험");
+    }
+
+    @Test
+    @DisplayName("패싯 색인 필드를 등록 일시와 함께 조회 테스트")
+    void findAllFacetRows() {
+        List<EventFacetRow> rows = eventRepository.findAllFacetRows();
+
+        assertThat(rows).hasSize(3)
+                .allSatisfy(row -> assertThat(row.createdAt()).isNotNull());
+        assertThat(rows).extracting(EventFacetRow::categoryNo)
+                .containsOnly(category1.getCategoryNo(), category2.getCategoryNo());
+    }
+
+    @Test
+    @DisplayName("변경 토큰 이후 조회 시 수정 순서대로 이어서 읽고 상한 이후의 변경은 제외 테스트")
+    void findChangesAfter() {
+        EventChangeToken first = EventChangeToken.FIRST;
+        LocalDateTime until = eventRepository.currentDateTime().plusMinutes(1);
+
+        List<EventChange> firstPage = eventRepository.findChangesAfter(first.updatedAt(), first.eventNo(), until, PageRequest.of(0, 2));
+
+        EventChangeToken next = firstPage.getLast().toToken();
+        List<EventChange> secondPage = eventRepository.findChangesAfter(next.updatedAt(), next.eventNo(), until, PageRequest.of(0, 2));
+
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage).doesNotContainAnyElementsOf(firstPage);
+        assertThat(firstPage.getFirst().updatedAt()).isNotNull();
+        assertThat(eventRepository.findChangesAfter(first.updatedAt(), first.eventNo(),
+                firstPage.getFirst().updatedAt(), PageRequest.of(0, 2))).isEmpty();
+    }
+}
@@ -0,0 +1,55 @@
+package com.cu2mber.eventservice.event.search;
+
+import com.cu2mber.eventservice.event.dto.EventSearchDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code InvertedIndexTest} 클래스는 {@link InvertedIndex}의 n-gram 색인과 연관도 정렬을 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #searchPartialKorean()} — 띄어쓰기 없는 한국어 축제명의 부분 일치 검색 검증</li>
+ *   <li>{@link #titleMatchRanksFirst()} — 제목 일치가 설명 일치보다 높은 순위를 갖는지 검증</li>
+ *   <li>{@link #updateAndRemove()} — 증분 색인(재색인, 삭제) 동작 검증</li>
+ * </ul>
+ */
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.put(new EventSearchDocument(1L, "진주유등축제", "남강 위를 수놓는 유등", "경상남도 진주시"));
+        index.put(new EventSearchDocument(2L, "서울 불꽃축제", "진주 출신 작가의 불꽃 연출", "서울특별시 여의도"));
+        index.put(new EventSearchDocument(3L, "고메 잇 강남 서울야장", "레트로 감성 행사", "서울특별시"));
+    }
+
+    @Test
+    @DisplayName("축제명 중간 단어로 검색")
+    void searchPartialKorean() {
+        assertThat(index.search("유등")).containsExactly(1L);
+        assertThat(index.search("야장")).containsExactly(3L);
+        assertThat(index.search("없는축제")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목 일치가 설명 일치보다 먼저 정렬")
+    void titleMatchRanksFirst() {
+        assertThat(index.search("진주")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("재색인 및 삭제 반영")
+    void updateAndRemove() {
+        index.put(new EventSearchDocument(1L, "진주 남강 축제", null, "경상남도 진주시"));
+        index.remove(3L);
+
+        assertThat(index.search("유등")).isEmpty();
+        assertThat(index.search("서울")).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
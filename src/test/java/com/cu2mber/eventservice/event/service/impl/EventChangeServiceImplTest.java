@@ -0,0 +1,102 @@
+package com.cu2mber.eventservice.event.service.impl;
+
+import com.cu2mber.eventservice.event.dto.EventChange;
+import com.cu2mber.eventservice.event.dto.EventChangeToken;
+import com.cu2mber.eventservice.event.dto.EventChangesResponse;
+import com.cu2mber.eventservice.event.feed.EventChangeFeedProperties;
+import com.cu2mber.eventservice.event.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@code EventChangeServiceImplTest} 클래스는 {@link EventChangeServiceImpl}의 변경 피드 토큰 처리를 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #getChanges()} — size + 1건 조회로 추가 변경 여부를 판단하고, 마지막 변경으로 다음 토큰을 만드는지 검증</li>
+ *   <li>{@link #getChangesWithoutChanges()} — 변경이 없으면 받은 토큰을 그대로 돌려주고, 최근 구간을 제외하는지 검증</li>
+ *   <li>{@link #getChangesOverMaxSize()} — 최대 크기를 넘으면 예외 발생 검증</li>
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+class EventChangeServiceImplTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventChangeServiceImpl eventChangeService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(eventRepository.currentDateTime()).thenReturn(BASE.plusMinutes(10));
+        eventChangeService = new EventChangeServiceImpl(eventRepository,
+                new EventChangeFeedProperties(Duration.ofSeconds(5), 500));
+    }
+
+    @Test
+    @DisplayName("size + 1건이 조회되면 size건만 반환하고 마지막 변경으로 다음 토큰 생성")
+    void getChanges() {
+        when(eventRepository.findChangesAfter(any(), anyLong(), any(), any(Pageable.class)))
+                .thenReturn(List.of(change(1L, BASE), change(2L, BASE), change(3L, BASE.plusSeconds(1))));
+
+        EventChangesResponse response = eventChangeService.getChanges(null, 2);
+
+        assertThat(response.changes()).extracting(EventChange::eventNo).containsExactly(1L, 2L);
+        assertThat(response.hasMore()).isTrue();
+        assertThat(EventChangeToken.decode(response.nextToken())).isEqualTo(new EventChangeToken(BASE, 2L));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(eventRepository).findChangesAfter(eq(EventChangeToken.FIRST.updatedAt()), eq(0L), any(), pageable.capture());
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 받은 토큰을 그대로 반환하고 DB 현재 시각에서 safety-lag 이내의 변경은 조회하지 않음")
+    void getChangesWithoutChanges() {
+        String since = new EventChangeToken(BASE, 7L).encode();
+        when(eventRepository.findChangesAfter(eq(BASE), eq(7L), any(), any(Pageable.class))).thenReturn(List.of());
+
+        EventChangesResponse response = eventChangeService.getChanges(since, 100);
+
+        assertThat(response.changes()).isEmpty();
+        assertThat(response.hasMore()).isFalse();
+        assertThat(response.nextToken()).isEqualTo(since);
+
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(eventRepository).findChangesAfter(eq(BASE), eq(7L), until.capture(), any(Pageable.class));
+        assertThat(until.getValue()).isEqualTo(BASE.plusMinutes(10).minusSeconds(5));
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 IllegalArgumentException")
+    void getChangesOverMaxSize() {
+        assertThatThrownBy(() -> eventChangeService.getChanges(null, 501))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    private EventChange change(Long eventNo, LocalDateTime updatedAt) {
+        return new EventChange(eventNo, "경상남도", "진주시", "축제", "행사 " + eventNo, "경상남도 진주시",
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 13), LocalTime.of(10, 0), LocalTime.of(22, 0),
+                "https://example.com", "남강둔치", "진주시청", "055-000-0000", null, null, updatedAt, updatedAt);
+    }
+}
@@ -0,0 +1,173 @@
+package com.cu2mber.eventservice.event.service.impl;
+
+import com.cu2mber.eventservice.category.cache.CategoryDictionary;
+import com.cu2mber.eventservice.category.domain.Category;
+import com.cu2mber.eventservice.category.dto.CategoryResponse;
+import com.cu2mber.eventservice.event.domain.Event;
+import com.cu2mber.eventservice.event.dto.EventImportResult;
+import com.cu2mber.eventservice.event.export.EventExportFormat;
+import com.cu2mber.eventservice.event.geo.DistrictCentroids;
+import com.cu2mber.eventservice.event.ingest.NdjsonEventImportReader;
+import com.cu2mber.eventservice.event.repository.EventRepository;
+import com.cu2mber.eventservice.localgov.cache.LocalGovDictionary;
+import com.cu2mber.eventservice.localgov.domain.LocalGov;
+import com.cu2mber.eventservice.localgov.dto.LocalGovResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@code EventImportServiceImplTest} 클래스는 {@link EventImportServiceImpl}의 적재 집계와 실패 처리를 검증하기 위한 단위 테스트입니다.
+ *
+ * <p>
+ *     저장소, 사전, 트랜잭션 관리자는 Mock 객체로 대체하고 입력은 실제 {@link NdjsonEventImportReader}로 읽습니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@link #importEvents()} — 파일 내 중복은 뒤의 행으로 대체되고, 검증·형식 오류 행은 줄 번호와 함께 제외되는지 검증</li>
+ *   <li>{@link #importEventsWithSaveFailure()} — 단위 저장이 실패하면 행마다 다시 저장해 실패한 행만 제외하는지 검증</li>
+ *   <li>{@link #importEventsMatchesTitleLikeCollation()} — DB 콜레이션처럼 대소문자·끝 공백을 무시하고 기존 행사를 찾는지 검증</li>
+ * </ul>
+ */
+@ExtendWith(MockitoExtension.class)
+class EventImportServiceImplTest {
+
+    private static final String VALID = """
+            {"localDistrict":"경상남도","localName":"진주시","categoryName":"축제","eventTitle":"진주유등축제",\
+            "eventAddress":"경상남도 진주시","eventStartDate":"2025-10-01","eventEndDate":"2025-10-13",\
+            "eventStartTime":"10:00","eventEndTime":"22:00","eventUrl":"https://example.com","eventSpot":"남강둔치",\
+            "eventHost":"진주시청","eventInquiry":"055-000-0000","eventDescription":"%s"}""";
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private CategoryDictionary categoryDictionary;
+
+    @Mock
+    private LocalGovDictionary localGovDictionary;
+
+    @Mock
+    private DistrictCentroids districtCentroids;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EventImportServiceImpl eventImportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        eventImportService = new EventImportServiceImpl(eventRepository, categoryDictionary, localGovDictionary,
+                districtCentroids, entityManager, transactionManager, List.of(new NdjsonEventImportReader(objectMapper)));
+
+        when(localGovDictionary.findByName("경상남도", "진주시"))
+                .thenReturn(Optional.of(new LocalGovResponse((short) 1, "경상남도", "진주시")));
+        when(categoryDictionary.findByName("축제")).thenReturn(Optional.of(new CategoryResponse(1L, "축제")));
+    }
+
+    @Test
+    @DisplayName("같은 자연 키는 뒤의 행으로 대체하고, 검증·형식 오류 행은 줄 번호와 함께 제외")
+    @SuppressWarnings("unchecked")
+    void importEvents() throws IOException {
+        when(categoryDictionary.findByName("공연")).thenReturn(Optional.empty());
+        String ndjson = String.join("\n",
+                VALID.formatted("첫 번째"),
+                VALID.formatted("두 번째"),
+                VALID.formatted("제목 없음").replace("\"eventTitle\":\"진주유등축제\",", ""),
+                "",
+                VALID.formatted("공연").replace("\"categoryName\":\"축제\"", "\"categoryName\":\"공연\""),
+                "{not json");
+
+        EventImportResult result = eventImportService.importEvents(EventExportFormat.NDJSON, input(ndjson));
+
+        assertThat(result.received()).isEqualTo(5);
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.duplicated()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.errors()).extracting("line").containsExactly(3L, 5L, 6L);
+
+        ArgumentCaptor<List<Event>> saved = ArgumentCaptor.forClass(List.class);
+        verify(eventRepository).saveAllAndFlush(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(Event::getEventTitle, Event::getEventDescription)
+                .containsExactly(tuple("진주유등축제", "두 번째"));
+        verify(entityManager).clear();
+    }
+
+    @Test
+    @DisplayName("단위 저장이 실패하면 행마다 다시 저장해 실패한 행만 제외")
+    @SuppressWarnings("unchecked")
+    void importEventsWithSaveFailure() throws IOException {
+        when(eventRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(0);
+            if (events.stream().anyMatch(event -> event.getEventTitle().equals("중복 행사"))) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            return events;
+        });
+        String ndjson = String.join("\n",
+                VALID.formatted("설명"),
+                VALID.formatted("설명").replace("진주유등축제", "중복 행사"));
+
+        EventImportResult result = eventImportService.importEvents(EventExportFormat.NDJSON, input(ndjson));
+
+        assertThat(result.received()).isEqualTo(2);
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(1);
+        assertThat(result.errors().getFirst().line()).isEqualTo(2);
+        verify(eventRepository, times(3)).saveAllAndFlush(anyList());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("행사명이 대소문자·끝 공백만 다른 기존 행사는 새로 등록하지 않고 갱신")
+    void importEventsMatchesTitleLikeCollation() throws IOException {
+        LocalGov localGov = new LocalGov("경상남도", "진주시");
+        ReflectionTestUtils.setField(localGov, "localNo", (short) 1);
+        Category category = new Category("축제");
+        ReflectionTestUtils.setField(category, "categoryNo", 1L);
+        Event existing = new Event(localGov, category, "Jinju Lantern Festival", "경상남도 진주시",
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 13), LocalTime.of(10, 0), LocalTime.of(22, 0),
+                "https://example.com", "남강둔치", "진주시청", "055-000-0000", "이전 설명", null);
+        when(eventRepository.findAllByNaturalKeyIn(anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(List.of(existing));
+        when(entityManager.getReference(Category.class, 1L)).thenReturn(category);
+
+        String row = VALID.formatted("새 설명").replace("진주유등축제", "JINJU LANTERN FESTIVAL  ");
+        EventImportResult result = eventImportService.importEvents(EventExportFormat.NDJSON, input(row));
+
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.inserted()).isZero();
+        assertThat(existing.getEventDescription()).isEqualTo("새 설명");
+    }
+
+    private ByteArrayInputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
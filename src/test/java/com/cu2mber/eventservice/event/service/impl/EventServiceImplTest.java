@@ -1,12 +1,33 @@
 package com.cu2mber.eventservice.event.service.impl;
 
 import com.cu2mber.eventservice.category.domain.Category;
-import com.cu2mber.eventservice.category.repository.CategoryRepository;
+import com.cu2mber.eventservice.category.cache.CategoryDictionary;
+import com.cu2mber.eventservice.category.dto.CategoryResponse;
+import com.cu2mber.eventservice.event.cache.EventCountCache;
+import com.cu2mber.eventservice.event.cache.EventDetailCache;
+import com.cu2mber.eventservice.event.cache.EventPageCache;
 import com.cu2mber.eventservice.event.domain.Event;
+import com.cu2mber.eventservice.event.dto.EventBatchResponse;
+import com.cu2mber.eventservice.event.dto.EventCursor;
+import com.cu2mber.eventservice.event.dto.EventCursorResponse;
 import com.cu2mber.eventservice.event.dto.EventDetailResponse;
+import com.cu2mber.eventservice.event.dto.EventFacetResponse;
 import com.cu2mber.eventservice.event.dto.EventListResponse;
+import com.cu2mber.eventservice.event.dto.EventListRow;
+import com.cu2mber.eventservice.event.dto.EventNearbyResponse;
+import com.cu2mber.eventservice.event.dto.EventSliceResponse;
+import com.cu2mber.eventservice.event.facet.EventFacetIndex;
+import com.cu2mber.eventservice.event.facet.FacetFilter;
+import com.cu2mber.eventservice.event.facet.FacetResult;
+import com.cu2mber.eventservice.event.geo.EventDistance;
+import com.cu2mber.eventservice.event.geo.EventGeoIndex;
+import com.cu2mber.eventservice.event.geo.GeoPoint;
+import com.cu2mber.eventservice.event.period.EventPeriodIndex;
 import com.cu2mber.eventservice.event.repository.EventRepository;
+import com.cu2mber.eventservice.event.search.EventSearchEngine;
+import com.cu2mber.eventservice.localgov.cache.LocalGovDictionary;
 import com.cu2mber.eventservice.localgov.domain.LocalGov;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,15 +39,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -37,16 +69,28 @@ import static org.mockito.Mockito.*;
  * <p>
  *     이 테스트는 JUnit 5와 Mockito를 기반으로 작성되었으며,
  *     {@link org.mockito.junit.jupiter.MockitoExtension}을 통해 Mockito 환경을 확장합니다.
- *     데이터베이스 접근 없이 {@link com.cu2mber.eventservice.event.repository.EventRepository}와
- *     {@link com.cu2mber.eventservice.category.repository.CategoryRepository}를 Mock 객체로 대체하여
+ *     데이터베이스 접근 없이 {@link com.cu2mber.eventservice.event.repository.EventRepository},
+ *     {@link com.cu2mber.eventservice.category.cache.CategoryDictionary},
+ *     {@link com.cu2mber.eventservice.event.search.EventSearchEngine} 등을 Mock 객체로 대체하여
  *     서비스 계층의 동작을 독립적으로 검증합니다.
  * </p>
  *
  * <ul>
  *   <li>{@link #getAllEvents()} — 전체 행사 목록을 페이지 단위로 조회하는 기능 검증</li>
  *   <li>{@link #searchEventsByTitle()} — 특정 키워드를 포함하는 행사 제목 검색 기능 검증</li>
+ *   <li>{@link #searchEventsByTitleByCursor()} — 검색 엔진 결과를 커서 위치부터 이어서 조회하는 기능 검증</li>
  *   <li>{@link #getEventsByCategory()} — 카테고리명 기반의 행사 목록 조회 기능 검증</li>
+ *   <li>{@link #getEventsByUnknownCategory()} — 존재하지 않는 카테고리 조회 시 DB 조회 없이 예외 발생 검증</li>
  *   <li>{@link #getEventDetail()} — 단일 행사 상세 조회 기능 검증</li>
+ *   <li>{@link #getEventDetails()} — 일괄 상세 조회 시 요청 순서 유지와 존재하지 않는 번호 반환 검증</li>
+ *   <li>{@link #getEventDetailsOverLimit()} — 일괄 조회 최대 개수 초과 시 예외 발생 검증</li>
+ *   <li>{@link #getAllEventsByCursor()} — 커서 기반 목록 조회 시 다음 커서 생성 검증</li>
+ *   <li>{@link #getEventsByCategorySlice()} — COUNT 없이 조회한 목록에 캐시된 개수를 채우는 기능 검증</li>
+ *   <li>{@link #getEventsByPeriod()} — 기간 색인 결과 중 요청한 페이지만 조회하는 기능 검증</li>
+ *   <li>{@link #getEventsByInvertedPeriod()} — 시작일이 종료일보다 늦으면 예외 발생 검증</li>
+ *   <li>{@link #getNearbyEvents()} — 위치 색인의 거리순 결과 중 요청한 페이지만 거리와 함께 조회하는 기능 검증</li>
+ *   <li>{@link #getNearbyEventsOverRadius()} — 최대 반경을 넘으면 예외 발생 검증</li>
+ *   <li>{@link #getFacetedEvents()} — 패싯 색인의 결과 페이지와 칩별 개수를 응답으로 변환하는 기능 검증</li>
  * </ul>
  *
  * <p>테스트 데이터는 {@link org.springframework.test.util.ReflectionTestUtils}를 사용하여
@@ -60,7 +104,31 @@ class EventServiceImplTest {
     private EventRepository eventRepository;
 
     @Mock
-    private CategoryRepository categoryRepository;
+    private CategoryDictionary categoryDictionary;
+
+    @Mock
+    private EventCountCache eventCountCache;
+
+    @Mock
+    private EventSearchEngine eventSearchEngine;
+
+    @Mock
+    private EventDetailCache eventDetailCache;
+
+    @Mock
+    private EventPeriodIndex eventPeriodIndex;
+
+    @Mock
+    private LocalGovDictionary localGovDictionary;
+
+    @Mock
+    private EventGeoIndex eventGeoIndex;
+
+    @Mock
+    private EventFacetIndex eventFacetIndex;
+
+    @Mock
+    private EventPageCache eventPageCache;
 
     @InjectMocks
     private EventServiceImpl eventService;
@@ -89,12 +157,13 @@ class EventServiceImplTest {
     @DisplayName("전체 행사 목록을 페이지 단위로 조회")
     void getAllEvents() {
         Pageable pageable = PageRequest.of(0, 5);
-        Page<Event> eventPage = new PageImpl<>(List.of(event));
-        when(eventRepository.findAll(any(Pageable.class))).thenReturn(eventPage);
+        Page<EventListResponse> eventPage = new PageImpl<>(List.of(EventListResponse.from(event)));
+        when(eventRepository.findAllListBy(any(Pageable.class))).thenReturn(eventPage);
+        passThroughPageCache();
 
         Page<EventListResponse> result = eventService.getAllEvents(pageable);
 
-        verify(eventRepository, times(1)).findAll(any(Pageable.class));
+        verify(eventRepository, times(1)).findAllListBy(any(Pageable.class));
 
         assertThat(result).isNotNull();
         assertThat(result.getTotalElements()).isEqualTo(1);
@@ -106,37 +175,58 @@ class EventServiceImplTest {
     @DisplayName("특정 키워드가 들어간 행사 페이지 단위로 조회")
     void searchEventsByTitle() {
         Pageable pageable = PageRequest.of(0, 5);
-        Page<Event> eventPage = new PageImpl<>(Collections.singletonList(event));
 
-        when(eventRepository.findByEventTitleContaining(anyString(), any(Pageable.class)))
-                .thenReturn(eventPage);
+        when(eventSearchEngine.search("유등")).thenReturn(List.of(1L));
+        when(eventRepository.findListByEventNoIn(List.of(1L))).thenReturn(List.of(EventListResponse.from(event)));
 
         Page<EventListResponse> result = eventService.searchEventsByTitle("유등", pageable);
 
-        verify(eventRepository, times(1)).findByEventTitleContaining(anyString(), any(Pageable.class));
+        verify(eventSearchEngine, times(1)).search("유등");
 
         assertThat(result).isNotNull();
+        assertThat(result.getTotalElements()).isEqualTo(1);
         assertThat(result.getContent().getFirst().eventTitle()).contains("유등");
 
     }
 
+    @Test
+    @DisplayName("커서 기반 키워드 검색 시 검색 엔진 결과에서 커서 행사의 다음 위치부터 조회")
+    void searchEventsByTitleByCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 10, 1, 12, 0);
+        EventListRow next = new EventListRow(3L, "진주유등 야시장", "야시장", "경상남도 진주시",
+                LocalDate.of(2025, 10, 5), LocalDate.of(2025, 10, 5),
+                LocalTime.of(19, 0), LocalTime.of(21, 0), "055-749-2114", null, createdAt.minusDays(1));
+
+        when(eventSearchEngine.search("유등")).thenReturn(List.of(1L, 3L, 2L));
+        when(eventRepository.findRowsByEventNoIn(List.of(3L, 2L))).thenReturn(List.of(next));
+
+        String cursor = new EventCursor(createdAt, 1L).encode();
+        EventCursorResponse result = eventService.searchEventsByTitleByCursor("유등", cursor, 1);
+
+        assertThat(result.content()).extracting(EventListResponse::eventTitle).containsExactly("진주유등 야시장");
+        assertThat(result.hasNext()).isFalse();
+        assertThatThrownBy(() -> eventService.searchEventsByTitleByCursor("축제", cursor, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("특정 카테고리에 속한 행사 목록을 페이지 단위로 조회")
     void getEventsByCategory() {
         Pageable pageable = PageRequest.of(0, 5);
 
-        Page<Event> eventPage = new PageImpl<>(Collections.singletonList(event));
+        Page<EventListResponse> eventPage = new PageImpl<>(Collections.singletonList(EventListResponse.from(event)));
 
-        when(categoryRepository.findById(anyLong()))
-                .thenReturn(Optional.ofNullable(category));
+        when(categoryDictionary.contains(anyLong()))
+                .thenReturn(true);
 
         when(eventRepository.findByCategory_CategoryNo(anyLong(), any(Pageable.class)))
                 .thenReturn(eventPage);
+        passThroughPageCache();
 
 
         Page<EventListResponse> result = eventService.getEventsByCategory(1L, pageable);
 
-        verify(categoryRepository, times(1)).findById(anyLong());
+        verify(categoryDictionary, times(1)).contains(anyLong());
         verify(eventRepository, times(1)).findByCategory_CategoryNo(anyLong(),any(Pageable.class));
 
         assertThat(result).isNotNull();
@@ -144,10 +234,24 @@ class EventServiceImplTest {
 
     }
 
+    @Test
+    @DisplayName("존재하지 않는 카테고리는 행사 조회 없이 예외 발생")
+    void getEventsByUnknownCategory() {
+        when(categoryDictionary.contains(anyLong())).thenReturn(false);
+
+        assertThatThrownBy(() -> eventService.getEventsByCategory(99L, PageRequest.of(0, 5)))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        verifyNoInteractions(eventRepository);
+    }
+
     @Test
     @DisplayName("단일 행사 상세 정보 조회")
     void getEventDetail() {
         when(eventRepository.findByEventNo(anyLong())).thenReturn(Optional.of(event));
+        when(eventDetailCache.get(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Function<Long, Optional<EventDetailResponse>>>getArgument(1)
+                        .apply(invocation.getArgument(0)));
 
         EventDetailResponse result = eventService.getEventDetail(1L);
 
@@ -155,4 +259,163 @@ class EventServiceImplTest {
         assertThat(result.eventTitle()).contains("유등");
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("일괄 상세 조회 시 중복을 제거하고 요청 순서와 존재하지 않는 번호를 반환")
+    void getEventDetails() {
+        Event other = new Event(localGov, category, "서울 불꽃축제", "서울특별시",
+                LocalDate.of(2025, 10, 5), LocalDate.of(2025, 10, 5),
+                LocalTime.of(19, 0), LocalTime.of(21, 0),
+                "https://example.com", "여의도 한강공원", "한화", "관리자", "불꽃쇼", null);
+        ReflectionTestUtils.setField(other, "eventNo", 2L);
+
+        when(eventRepository.findAllWithDetailsByEventNoIn(anyList())).thenReturn(List.of(event, other));
+        when(eventDetailCache.getAll(any(), any()))
+                .thenAnswer(invocation -> invocation
+                        .<Function<Set<? extends Long>, Map<Long, Optional<EventDetailResponse>>>>getArgument(1)
+                        .apply(invocation.getArgument(0)));
+
+        EventBatchResponse result = eventService.getEventDetails(List.of(2L, 99L, 1L, 2L));
+
+        assertThat(result.events()).extracting("eventNo").containsExactly(2L, 1L);
+        assertThat(result.events().getFirst().event().eventTitle()).isEqualTo("서울 불꽃축제");
+        assertThat(result.missingEventNos()).containsExactly(99L);
+        verify(eventRepository, times(1)).findAllWithDetailsByEventNoIn(anyList());
+    }
+
+    @Test
+    @DisplayName("일괄 상세 조회 번호가 최대 개수를 넘으면 예외 발생")
+    void getEventDetailsOverLimit() {
+        List<Long> eventNos = LongStream.rangeClosed(1, 201).boxed().toList();
+
+        assertThatThrownBy(() -> eventService.getEventDetails(eventNos))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(eventDetailCache, eventRepository);
+    }
+
+    @Test
+    @DisplayName("커서 기반 전체 행사 목록 조회 시 초과 조회된 행으로 다음 페이지 여부 판단")
+    void getAllEventsByCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+        EventListRow newer = new EventListRow(1L, "진주유등축제", "진주의 대표 축제", "경상남도 진주시",
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 13),
+                LocalTime.of(10, 0), LocalTime.of(23, 0), "관리자", null, createdAt);
+        EventListRow older = new EventListRow(2L, "서울 불꽃축제", "불꽃쇼", "서울특별시",
+                LocalDate.of(2025, 10, 5), LocalDate.of(2025, 10, 5),
+                LocalTime.of(19, 0), LocalTime.of(21, 0), "02-789-1234", null, createdAt.minusDays(1));
+
+        when(eventRepository.findAllAfterCursor(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(newer, older));
+
+        EventCursorResponse result = eventService.getAllEventsByCursor(null, 1);
+
+        verify(eventRepository, times(1))
+                .findAllAfterCursor(EventCursor.FIRST.createdAt(), EventCursor.FIRST.eventNo(), PageRequest.of(0, 2));
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(EventCursor.decode(result.nextCursor())).isEqualTo(new EventCursor(createdAt, 1L));
+    }
+
+    @Test
+    @DisplayName("카테고리별 Slice 조회 시 COUNT 쿼리 대신 캐시된 개수를 사용")
+    void getEventsByCategorySlice() {
+        Pageable pageable = PageRequest.of(0, 5);
+
+        when(eventRepository.findSliceByCategory_CategoryNo(anyLong(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(EventListResponse.from(event)), pageable, true));
+        when(categoryDictionary.contains(1L)).thenReturn(true);
+        when(eventCountCache.getCategoryCount(1L)).thenReturn(Optional.of(42L));
+
+        EventSliceResponse result = eventService.getEventsByCategorySlice(1L, pageable, true);
+
+        verify(eventRepository, never()).findByCategory_CategoryNo(anyLong(), any(Pageable.class));
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.totalElements()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("기간 색인 결과 중 요청한 페이지의 행사만 조회")
+    void getEventsByPeriod() {
+        LocalDate from = LocalDate.of(2025, 10, 4);
+        LocalDate to = LocalDate.of(2025, 10, 5);
+
+        when(eventPeriodIndex.findOverlapping(from, to, null, null)).thenReturn(List.of(3L, 2L, 1L));
+        when(eventRepository.findListByEventNoIn(List.of(1L))).thenReturn(List.of(EventListResponse.from(event)));
+
+        Page<EventListResponse> result = eventService.getEventsByPeriod(from, to, null, null, PageRequest.of(1, 2));
+
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).hasSize(1);
+        verifyNoInteractions(categoryDictionary, localGovDictionary);
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 예외 발생")
+    void getEventsByInvertedPeriod() {
+        assertThatThrownBy(() -> eventService.getEventsByPeriod(
+                LocalDate.of(2025, 10, 5), LocalDate.of(2025, 10, 4), null, null, PageRequest.of(0, 5)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(eventPeriodIndex, eventRepository);
+    }
+
+    @Test
+    @DisplayName("위치 색인 결과 중 요청한 페이지의 행사를 거리와 함께 조회")
+    void getNearbyEvents() {
+        GeoPoint center = new GeoPoint(35.18, 128.10);
+        when(eventGeoIndex.findNearby(center, 30, null, null)).thenReturn(List.of(
+                new EventDistance(3L, 0.5), new EventDistance(1L, 0.7), new EventDistance(2L, 12.0)));
+        when(eventRepository.findListByEventNoIn(List.of(1L))).thenReturn(List.of(EventListResponse.from(event)));
+
+        Page<EventNearbyResponse> result = eventService.getNearbyEvents(35.18, 128.10, 30, null, null, PageRequest.of(1, 1));
+
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).singleElement()
+                .satisfies(nearby -> {
+                    assertThat(nearby.event().eventNo()).isEqualTo(1L);
+                    assertThat(nearby.distanceKm()).isEqualTo(0.7);
+                });
+    }
+
+    @Test
+    @DisplayName("반경이 최대값을 넘으면 예외 발생")
+    void getNearbyEventsOverRadius() {
+        assertThatThrownBy(() -> eventService.getNearbyEvents(35.18, 128.10, 101, null, null, PageRequest.of(0, 5)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(eventGeoIndex, eventRepository);
+    }
+
+    @Test
+    @DisplayName("패싯 색인 결과의 행사 페이지를 조회하고 칩별 개수에 카테고리 이름을 채움")
+    void getFacetedEvents() {
+        YearMonth october = YearMonth.of(2025, 10);
+        FacetFilter filter = new FacetFilter(null, "경상남도", october);
+        when(eventFacetIndex.search(filter, 0, 20)).thenReturn(new FacetResult(List.of(1L), 1,
+                new TreeMap<>(Map.of(1L, 1L)), new TreeMap<>(Map.of("경상남도", 1L, "서울특별시", 4L)),
+                new TreeMap<>(Map.of(october, 1L))));
+        when(eventRepository.findListByEventNoIn(List.of(1L))).thenReturn(List.of(EventListResponse.from(event)));
+        when(categoryDictionary.find(1L)).thenReturn(Optional.of(new CategoryResponse(1L, "문화행사")));
+
+        EventFacetResponse result = eventService.getFacetedEvents(null, "경상남도", october, PageRequest.of(0, 20));
+
+        assertThat(result.totalElements()).isEqualTo(1);
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.categories()).extracting("label", "count").containsExactly(tuple("문화행사", 1L));
+        assertThat(result.districts()).extracting("value").containsExactly("경상남도", "서울특별시");
+        assertThat(result.months()).extracting("value").containsExactly("2025-10");
+    }
+
+    /**
+     * 목록 페이지 캐시를 거치지 않고 조회 함수를 그대로 실행하도록 설정합니다.
+     */
+    private void passThroughPageCache() {
+        when(eventPageCache.get(any(), any(Pageable.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<Page<EventListResponse>>>getArgument(2).get());
+    }
+}
@@ -0,0 +1,68 @@
+package com.cu2mber.eventservice.global.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code ConcurrencyLimitFilterTest} 클래스는 {@link ConcurrencyLimitFilter}의 슬롯 제한과 반환을 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #rejectsWhenSaturated()} — 슬롯이 모두 사용 중이면 503으로 거절하는지 검증</li>
+ *   <li>{@link #releasesPermit()} — 요청이 끝나면 슬롯을 반환하는지 검증</li>
+ * </ul>
+ */
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(
+                new ConcurrencyLimitProperties(1, Duration.ofMillis(10)), new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("처리 슬롯이 모두 사용 중이면 503과 Retry-After로 거절")
+    void rejectsWhenSaturated() throws Exception {
+        MockHttpServletResponse inner = new MockHttpServletResponse();
+
+        // 첫 요청이 슬롯을 점유한 상태에서 두 번째 요청을 보냅니다.
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) ->
+                filter.doFilter(request(), inner, new MockFilterChain()));
+
+        assertThat(inner.getStatus()).isEqualTo(503);
+        assertThat(inner.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(meterRegistry.get("event.concurrency.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("요청이 끝나면 슬롯을 반환")
+    void releasesPermit() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        filter.doFilter(request(), first, new MockFilterChain());
+        filter.doFilter(request(), second, new MockFilterChain());
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("event.concurrency.available").gauge().value()).isEqualTo(1.0);
+    }
+
+    private MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/events");
+    }
+}
@@ -0,0 +1,151 @@
+package com.cu2mber.eventservice.global.datasource;
+
+import com.cu2mber.eventservice.global.datasource.ReplicaDataSourceProperties.Strategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code ReadReplicaRoutingDataSourceTest} 클래스는 {@link ReadReplicaRoutingDataSource}의 읽기/쓰기 라우팅과
+ * {@link ReplicaHealthChecker}에 의한 주 데이터소스 대체를 검증하기 위한 테스트입니다.
+ *
+ * <p>
+ *     주 데이터소스와 복제본 두 개를 각각 별도의 H2 메모리 DB로 두고,
+ *     각 DB의 {@code node} 테이블에 저장된 이름으로 어느 DB에서 조회했는지 확인합니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@link #routesByReadOnly()} — 읽기 전용 트랜잭션은 복제본, 읽기-쓰기 트랜잭션은 주 데이터소스로 가는지 검증</li>
+ *   <li>{@link #roundRobin()} — 정상 복제본을 차례대로 사용하는지 검증</li>
+ *   <li>{@link #fallsBackWhenLagging()} — 복제 지연이 허용치를 넘거나 복제가 멈춘 복제본을 제외하는지 검증</li>
+ *   <li>{@link #fallsBackWhenUnreachable()} — 연결할 수 없는 복제본만 남으면 주 데이터소스로 읽는지 검증</li>
+ *   <li>{@link #readsPrimaryWhileWindowOpen()} — 변경 직후 읽기 창이 열려 있는 동안 읽기 전용 트랜잭션도 주 데이터소스로 읽는지 검증</li>
+ * </ul>
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT Seconds_Behind_Master FROM replica_status";
+
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary", 0L);
+        replica1 = database("replica-1", 0L);
+        replica2 = database("replica-2", 0L);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 읽기-쓰기 트랜잭션은 주 데이터소스에서 조회")
+    void routesByReadOnly() {
+        Fixture fixture = fixture(Strategy.ROUND_ROBIN, new ReplicaNode("replica-1", replica1));
+
+        assertThat(fixture.read(true)).isEqualTo("replica-1");
+        assertThat(fixture.read(false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("정상 복제본을 차례대로 사용")
+    void roundRobin() {
+        Fixture fixture = fixture(Strategy.ROUND_ROBIN,
+                new ReplicaNode("replica-1", replica1), new ReplicaNode("replica-2", replica2));
+
+        assertThat(List.of(fixture.read(true), fixture.read(true), fixture.read(true), fixture.read(true)))
+                .containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘거나 복제가 멈춘 복제본은 제외")
+    void fallsBackWhenLagging() {
+        new JdbcTemplate(replica1).update("UPDATE replica_status SET Seconds_Behind_Master = 60");
+        new JdbcTemplate(replica2).update("UPDATE replica_status SET Seconds_Behind_Master = NULL");
+
+        Fixture fixture = fixture(Strategy.ROUND_ROBIN,
+                new ReplicaNode("replica-1", replica1), new ReplicaNode("replica-2", replica2));
+
+        assertThat(fixture.read(true)).isEqualTo("primary");
+
+        new JdbcTemplate(replica1).update("UPDATE replica_status SET Seconds_Behind_Master = 1");
+        fixture.checker().checkAll();
+
+        assertThat(fixture.read(true)).isEqualTo("replica-1");
+        assertThat(fixture.read(true)).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("연결할 수 없는 복제본만 남으면 주 데이터소스에서 조회")
+    void fallsBackWhenUnreachable() {
+        DataSource unreachable = new DriverManagerDataSource("jdbc:unreachable:replica");
+
+        Fixture fixture = fixture(Strategy.LEAST_LATENCY, new ReplicaNode("replica-down", unreachable));
+
+        assertThat(fixture.pool().getNodes().getFirst().isHealthy()).isFalse();
+        assertThat(fixture.read(true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("변경 직후 읽기 창이 열려 있는 동안은 읽기 전용 트랜잭션도 주 데이터소스에서 조회")
+    void readsPrimaryWhileWindowOpen() throws InterruptedException {
+        Fixture fixture = fixture(Strategy.ROUND_ROBIN, Duration.ofMillis(200), new ReplicaNode("replica-1", replica1));
+
+        fixture.window().open();
+        assertThat(fixture.read(true)).isEqualTo("primary");
+
+        Thread.sleep(300);
+        assertThat(fixture.read(true)).isEqualTo("replica-1");
+    }
+
+    private Fixture fixture(Strategy strategy, ReplicaNode... nodes) {
+        return fixture(strategy, Duration.ofSeconds(15), nodes);
+    }
+
+    private Fixture fixture(Strategy strategy, Duration readYourWritesWindow, ReplicaNode... nodes) {
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties(
+                true, strategy, Duration.ofSeconds(5), readYourWritesWindow, Duration.ofSeconds(10), Duration.ofSeconds(1),
+                LAG_QUERY, 2, List.of());
+        ReplicaPool pool = new ReplicaPool(List.of(nodes), strategy);
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(pool, properties);
+        checker.checkAll();
+
+        PrimaryReadWindow window = new PrimaryReadWindow(properties);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primary, pool, window));
+        return new Fixture(pool, checker, window, dataSource);
+    }
+
+    private static DataSource database(String name, Long lagSeconds) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        jdbcTemplate.execute("CREATE TABLE replica_status (Seconds_Behind_Master BIGINT)");
+        jdbcTemplate.update("INSERT INTO replica_status VALUES (?)", lagSeconds);
+        return dataSource;
+    }
+
+    private record Fixture(ReplicaPool pool, ReplicaHealthChecker checker, PrimaryReadWindow window, DataSource dataSource) {
+
+        String read(boolean readOnly) {
+            TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            template.setReadOnly(readOnly);
+
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+    }
+}
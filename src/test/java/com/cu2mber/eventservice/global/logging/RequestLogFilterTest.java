@@ -0,0 +1,70 @@
+package com.cu2mber.eventservice.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code RequestLogFilterTest} 클래스는 {@link RequestLogFilter}의 표본 추출과 느린 요청 기록을 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #skipsUnsampledRequest()} — 표본에 포함되지 않은 빠른 요청은 기록하지 않는지 검증</li>
+ *   <li>{@link #logsSlowRequest()} — 임계값 이상 걸린 요청은 구조화된 필드와 함께 WARN으로 기록하는지 검증</li>
+ * </ul>
+ */
+class RequestLogFilterTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestLogFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("표본에 포함되지 않은 빠른 요청은 기록하지 않음")
+    void skipsUnsampledRequest() throws Exception {
+        RequestLogFilter filter = new RequestLogFilter(new RequestLogProperties(0.0, Duration.ofMinutes(1)));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("임계값 이상 걸린 요청은 WARN으로 기록")
+    void logsSlowRequest() throws Exception {
+        RequestLogFilter filter = new RequestLogFilter(new RequestLogProperties(0.0, Duration.ZERO));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getKeyValuePairs())
+                    .anySatisfy(pair -> {
+                        assertThat(pair.key).isEqualTo("uri");
+                        assertThat(pair.value).isEqualTo("/api/events");
+                    });
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.cu2mber.eventservice.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code QueryCountInterceptorTest} 클래스는 {@link QueryCountInterceptor}가 요청별 SQL 실행 수를
+ * 경로 패턴별 지표로 기록하는지 검증하기 위한 단위 테스트입니다.
+ */
+class QueryCountInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountInspector inspector = new QueryCountInspector();
+    private final QueryCountInterceptor interceptor = new QueryCountInterceptor(inspector, meterRegistry);
+
+    @Test
+    @DisplayName("요청 중 실행된 SQL 수를 경로 패턴 태그로 기록")
+    void recordsQueriesPerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/events/{event-no}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        inspector.inspect("select 1");
+        interceptor.preHandle(request, response, new Object());
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        DistributionSummary summary = meterRegistry.get("event.http.queries")
+                .tag("uri", "/api/events/{event-no}")
+                .summary();
+
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2.0);
+    }
+}
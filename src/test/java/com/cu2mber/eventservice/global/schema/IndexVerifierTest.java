@@ -0,0 +1,56 @@
+package com.cu2mber.eventservice.global.schema;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@code IndexVerifierTest} 클래스는 {@link IndexVerifier}가 필수 인덱스 누락을 기동 시점에 감지하는지 검증합니다.
+ *
+ * <p>
+ *     테스트마다 독립된 H2 인메모리 DB를 만들고 {@code events} 테이블을 생성한 뒤 인덱스 유무에 따른 결과를 확인합니다.
+ * </p>
+ */
+class IndexVerifierTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE events (event_no BIGINT PRIMARY KEY, category_no BIGINT, local_no SMALLINT, created_at TIMESTAMP, "
+                + "updated_at TIMESTAMP, event_title VARCHAR(255), event_start_date DATE)");
+    }
+
+    @Test
+    @DisplayName("필수 인덱스가 모두 있으면 통과")
+    void passWhenIndexesExist() {
+        jdbcTemplate.execute("CREATE INDEX idx_events_created_at ON events (created_at, event_no)");
+        jdbcTemplate.execute("CREATE INDEX idx_events_category_created_at ON events (category_no, created_at, event_no)");
+        jdbcTemplate.execute("CREATE INDEX idx_events_local_created_at ON events (local_no, created_at, event_no)");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX uq_events_natural_key ON events (local_no, event_title, event_start_date)");
+        jdbcTemplate.execute("CREATE INDEX idx_events_updated_at ON events (updated_at, event_no)");
+
+        assertThatCode(() -> new IndexVerifier(dataSource).run(null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("인덱스가 없거나 컬럼 순서가 다르면 기동 중단")
+    void failWhenIndexMissing() {
+        jdbcTemplate.execute("CREATE INDEX idx_events_created_at ON events (event_no, created_at)");
+
+        assertThatThrownBy(() -> new IndexVerifier(dataSource).run(null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("idx_events_created_at 컬럼 불일치")
+                .hasMessageContaining("idx_events_category_created_at 없음");
+    }
+}
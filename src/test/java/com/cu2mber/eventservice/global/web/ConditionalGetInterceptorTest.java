@@ -0,0 +1,56 @@
+package com.cu2mber.eventservice.global.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code ConditionalGetInterceptorTest} 클래스는 {@link ConditionalGetInterceptor}의 조건부 GET 처리를 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #notModified()} — ETag가 일치하면 컨트롤러 실행 없이 304로 응답하는지 검증</li>
+ *   <li>{@link #modified()} — ETag가 다르면 검증값과 Cache-Control 헤더를 설정하고 요청을 계속 처리하는지 검증</li>
+ * </ul>
+ */
+class ConditionalGetInterceptorTest {
+
+    private static final String ETAG = "W/\"abc\"";
+
+    private final ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor(
+            () -> ETAG, () -> 1_700_000_000_000L, CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic());
+
+    @Test
+    @DisplayName("ETag가 일치하면 304로 응답하고 컨트롤러를 실행하지 않음")
+    void notModified() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("ETag가 다르면 검증값과 Cache-Control을 설정하고 계속 처리")
+    void modified() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"old\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=60, public");
+    }
+}
@@ -0,0 +1,165 @@
+package com.cu2mber.eventservice.global.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code EncodedResponseCacheFilterTest} 클래스는 {@link EncodedResponseCacheFilter}의 응답 바이트 보관과
+ * gzip 응답, 버전 기반 무효화를 검증하기 위한 단위 테스트입니다.
+ *
+ * <ul>
+ *   <li>{@link #servesCachedBytes()} — 같은 요청은 컨트롤러를 거치지 않고 보관된 바이트와 헤더로 응답하는지 검증</li>
+ *   <li>{@link #servesGzip()} — gzip을 받는 클라이언트에는 미리 압축한 바이트로 응답하는지 검증</li>
+ *   <li>{@link #honorsQValues()} — {@code q=0}으로 거부한 gzip은 쓰지 않고, 허용한 경우만 gzip으로 응답하는지 검증</li>
+ *   <li>{@link #invalidatesOnVersionChange()} — 행사 변경 버전이 바뀌면 다시 처리하는지 검증</li>
+ *   <li>{@link #skipsErrorsAndOtherPaths()} — 200이 아닌 응답과 대상이 아닌 경로는 보관하지 않는지 검증</li>
+ *   <li>{@link #bypassesBinaryAccept()} — CBOR을 요청하면 보관된 JSON 바이트로 응답하지 않는지 검증</li>
+ * </ul>
+ */
+class EncodedResponseCacheFilterTest {
+
+    private static final String BODY = "{\"content\":[" + "{\"eventTitle\":\"진주유등축제\"},".repeat(40) + "{}]}";
+
+    private final AtomicLong version = new AtomicLong(1);
+    private final AtomicInteger handled = new AtomicInteger();
+
+    private EncodedResponseCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new EncodedResponseCacheFilter(
+                new EncodedResponseCacheProperties(true, DataSize.ofMegabytes(1), Duration.ofMinutes(10), DataSize.ofBytes(256)),
+                version::get, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 요청은 컨트롤러를 거치지 않고 보관된 바이트와 헤더로 응답")
+    void servesCachedBytes() throws Exception {
+        MockHttpServletResponse first = perform(request("/api/events/1", null), HttpServletResponse.SC_OK);
+        MockHttpServletResponse second = perform(request("/api/events/1", null), HttpServletResponse.SC_OK);
+
+        assertThat(handled).hasValue(1);
+        assertThat(second.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(second.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(first.getContentAsString(StandardCharsets.UTF_8));
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"1\"");
+        assertThat(second.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(second.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    @Test
+    @DisplayName("gzip을 받는 클라이언트에는 미리 압축한 바이트로 응답")
+    void servesGzip() throws Exception {
+        perform(request("/api/events", "page=0"), HttpServletResponse.SC_OK);
+
+        MockHttpServletRequest request = request("/api/events", "page=0");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+        MockHttpServletResponse response = perform(request, HttpServletResponse.SC_OK);
+
+        assertThat(handled).hasValue(1);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("q=0으로 거부한 gzip은 쓰지 않고, q 값으로 허용한 경우만 gzip으로 응답")
+    void honorsQValues() throws Exception {
+        perform(request("/api/events", "page=0"), HttpServletResponse.SC_OK);
+
+        assertThat(encodingFor("gzip;q=0, deflate")).isNull();
+        assertThat(encodingFor("GZIP; Q=0.0")).isNull();
+        assertThat(encodingFor("*, gzip;q=0")).isNull();
+        assertThat(encodingFor("br, *;q=0")).isNull();
+        assertThat(encodingFor("br;q=1.0, gzip;q=0.5")).isEqualTo("gzip");
+        assertThat(encodingFor("deflate, *;q=0.1")).isEqualTo("gzip");
+        assertThat(handled).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("행사 변경 버전이 바뀌면 다시 처리")
+    void invalidatesOnVersionChange() throws Exception {
+        perform(request("/api/events/categories/1", null), HttpServletResponse.SC_OK);
+        version.incrementAndGet();
+        perform(request("/api/events/categories/1", null), HttpServletResponse.SC_OK);
+
+        assertThat(handled).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("200이 아닌 응답과 대상이 아닌 경로는 보관하지 않음")
+    void skipsErrorsAndOtherPaths() throws Exception {
+        perform(request("/api/events/999", null), HttpServletResponse.SC_NOT_FOUND);
+        perform(request("/api/events/999", null), HttpServletResponse.SC_NOT_FOUND);
+        perform(request("/api/events/search", "keyword=축제"), HttpServletResponse.SC_OK);
+        perform(request("/api/events/search", "keyword=축제"), HttpServletResponse.SC_OK);
+
+        assertThat(handled).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("CBOR을 요청하면 보관된 JSON 바이트로 응답하지 않음")
+    void bypassesBinaryAccept() throws Exception {
+        perform(request("/api/events/1", null), HttpServletResponse.SC_OK);
+
+        MockHttpServletRequest request = request("/api/events/1", null);
+        request.addHeader(HttpHeaders.ACCEPT, "application/cbor, */*;q=0.1");
+        perform(request, HttpServletResponse.SC_OK);
+
+        assertThat(handled).hasValue(2);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, int status) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                handled.incrementAndGet();
+                resp.setStatus(status);
+                resp.setHeader(HttpHeaders.ETAG, "W/\"" + version.get() + "\"");
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                resp.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+        return response;
+    }
+
+    private String encodingFor(String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = request("/api/events", "page=0");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return perform(request, HttpServletResponse.SC_OK).getHeader(HttpHeaders.CONTENT_ENCODING);
+    }
+
+    private static MockHttpServletRequest request(String uri, String query) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setQueryString(query);
+        return request;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}